@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two sets of benchmark results, producing a report of the changes.
+ * <p>
+ * The input files are the CSV output of JMH, as written by {@code -rf csv}.
+ * When the results include the output of the GC profiler, the normalized
+ * allocation rate is reported alongside the score.
+ * <p>
+ * Usage: {@code BenchmarkReport [-threshold percent] baseline.csv current.csv}
+ * <p>
+ * The exit code is non-zero if any benchmark regressed by more than the threshold,
+ * which defaults to 10%.
+ *
+ * @author Stephen Colebourne
+ */
+public final class BenchmarkReport {
+
+    /**
+     * The suffix of the secondary result holding the allocation per operation.
+     */
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    /**
+     * Restricted constructor.
+     */
+    private BenchmarkReport() {
+    }
+
+    /**
+     * Main.
+     *
+     * @param args  the arguments
+     */
+    public static void main(String[] args) throws IOException {
+        double threshold = 10d;
+        int pos = 0;
+        if (args.length == 4 && args[0].equals("-threshold")) {
+            threshold = Double.parseDouble(args[1]);
+            pos = 2;
+        }
+        if (args.length - pos != 2) {
+            System.err.println("Usage: BenchmarkReport [-threshold percent] baseline.csv current.csv");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = load(args[pos]);
+        Map<String, Result> current = load(args[pos + 1]);
+        int regressions = report(baseline, current, threshold, System.out);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the report.
+     *
+     * @param baseline  the baseline results, not null
+     * @param current  the current results, not null
+     * @param threshold  the percentage change in score considered to be a regression
+     * @param out  the stream to output to, not null
+     * @return the number of regressions
+     */
+    static int report(Map<String, Result> baseline, Map<String, Result> current, double threshold, PrintStream out) {
+        int regressions = 0;
+        out.println(String.format(Locale.ENGLISH, "%-60s %14s %14s %9s %12s %12s",
+                "Benchmark", "Baseline", "Current", "Change", "Alloc(base)", "Alloc(cur)"));
+        for (Result cur : current.values()) {
+            Result base = baseline.get(cur.key);
+            if (base == null) {
+                out.println(String.format(Locale.ENGLISH, "%-60s %14s %14.3f %9s %12s %12s",
+                        cur.key, "-", cur.score, "new", "-", alloc(cur)));
+                continue;
+            }
+            double change = (cur.score - base.score) / base.score * 100d;
+            // a larger score is better for throughput, a smaller score for time modes
+            boolean regressed = (cur.higherIsBetter() ? -change : change) > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            out.println(String.format(Locale.ENGLISH, "%-60s %14.3f %14.3f %+8.1f%% %12s %12s%s",
+                    cur.key, base.score, cur.score, change, alloc(base), alloc(cur), regressed ? "  REGRESSED" : ""));
+        }
+        for (Result base : baseline.values()) {
+            if (current.containsKey(base.key) == false) {
+                out.println(String.format(Locale.ENGLISH, "%-60s %14.3f %14s %9s %12s %12s",
+                        base.key, base.score, "-", "removed", alloc(base), "-"));
+            }
+        }
+        out.println(regressions + " regression(s) above " + threshold + "%");
+        return regressions;
+    }
+
+    private static String alloc(Result result) {
+        return (result.allocNorm < 0 ? "-" : String.format(Locale.ENGLISH, "%.1f B/op", result.allocNorm));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Loads a JMH CSV result file.
+     *
+     * @param fileName  the file name, not null
+     * @return the results keyed by benchmark and parameters, not null
+     * @throws IOException if an error occurs
+     */
+    static Map<String, Result> load(String fileName) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName), "UTF-8"));
+        try {
+            Map<String, Result> results = new LinkedHashMap<String, Result>();
+            List<String> header = parseLine(reader.readLine());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> cells = parseLine(line);
+                if (cells.size() < 7) {
+                    continue;
+                }
+                String benchmark = shortName(cells.get(0));
+                StringBuilder params = new StringBuilder();
+                for (int i = 7; i < cells.size() && i < header.size(); i++) {
+                    if (cells.get(i).length() > 0) {
+                        params.append(params.length() == 0 ? " [" : ", ")
+                            .append(header.get(i).replace("Param: ", "")).append('=').append(cells.get(i));
+                    }
+                }
+                if (params.length() > 0) {
+                    params.append(']');
+                }
+                double score = Double.parseDouble(cells.get(4).replace(',', '.'));
+                int colon = benchmark.indexOf(':');
+                if (colon < 0) {
+                    String key = benchmark + params;
+                    results.put(key, new Result(key, cells.get(1), score));
+                } else if (benchmark.endsWith(ALLOC_NORM)) {
+                    Result primary = results.get(benchmark.substring(0, colon) + params);
+                    if (primary != null) {
+                        primary.allocNorm = score;
+                    }
+                }
+            }
+            return results;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Removes the package name from the benchmark name.
+     *
+     * @param benchmark  the fully qualified benchmark name, not null
+     * @return the benchmark name as class and method, not null
+     */
+    private static String shortName(String benchmark) {
+        int colon = benchmark.indexOf(':');
+        int end = (colon < 0 ? benchmark.length() : colon);
+        int methodDot = benchmark.lastIndexOf('.', end);
+        int classDot = (methodDot < 0 ? -1 : benchmark.lastIndexOf('.', methodDot - 1));
+        return benchmark.substring(classDot + 1);
+    }
+
+    /**
+     * Parses a single line of CSV.
+     *
+     * @param line  the line, null returns an empty list
+     * @return the cells, not null
+     */
+    private static List<String> parseLine(String line) {
+        List<String> cells = new ArrayList<String>();
+        if (line == null) {
+            return cells;
+        }
+        StringBuilder buf = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ',' && quoted == false) {
+                cells.add(buf.toString());
+                buf.setLength(0);
+            } else {
+                buf.append(ch);
+            }
+        }
+        cells.add(buf.toString());
+        return cells;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A single benchmark result.
+     */
+    static final class Result {
+        /** The benchmark name and parameters. */
+        final String key;
+        /** The benchmark mode. */
+        final String mode;
+        /** The primary score. */
+        final double score;
+        /** The bytes allocated per operation, negative if unknown. */
+        double allocNorm = -1;
+
+        Result(String key, String mode, double score) {
+            this.key = key;
+            this.mode = mode;
+            this.score = score;
+        }
+
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+}
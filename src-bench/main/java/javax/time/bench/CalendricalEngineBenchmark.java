@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.QUARTER_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.OffsetDateTime;
+import javax.time.YearMonth;
+import javax.time.ZoneOffset;
+import javax.time.calendrical.CalendricalEngine;
+import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.WeekRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code CalendricalEngine} merging and rule derivation.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CalendricalEngineBenchmark {
+
+    /** The date. */
+    private LocalDate date;
+    /** The time. */
+    private LocalTime time;
+    /** The offset. */
+    private ZoneOffset offset;
+    /** The date-time. */
+    private LocalDateTime dateTime;
+    /** The year field. */
+    private DateTimeField yearField;
+    /** The month field. */
+    private DateTimeField monthField;
+    /** The day field. */
+    private DateTimeField dayField;
+    /** The year-month. */
+    private YearMonth yearMonth;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        date = LocalDate.of(2012, 6, 30);
+        time = LocalTime.of(12, 30, 20);
+        offset = ZoneOffset.ofHours(2);
+        dateTime = LocalDateTime.of(date, time);
+        yearField = YEAR.field(2012);
+        monthField = MONTH_OF_YEAR.field(6);
+        dayField = DAY_OF_MONTH.field(30);
+        yearMonth = YearMonth.of(2012, 6);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public OffsetDateTime merge_dateTimeOffset() {
+        return CalendricalEngine.merge(date, time, offset).deriveChecked(OffsetDateTime.rule());
+    }
+
+    @Benchmark
+    public LocalDate merge_fields() {
+        return CalendricalEngine.merge(yearField, monthField, dayField).deriveChecked(LocalDate.rule());
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public DateTimeField derive_hourOfDay() {
+        return dateTime.get(HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public DateTimeField derive_quarterOfYear() {
+        return dateTime.get(QUARTER_OF_YEAR);
+    }
+
+    @Benchmark
+    public DateTimeField derive_weekOfWeekBasedYear() {
+        return date.get(WeekRules.ISO.weekOfWeekBasedYear());
+    }
+
+    @Benchmark
+    public DateTimeField derive_quarterOfYearFromField() {
+        return monthField.get(QUARTER_OF_YEAR);
+    }
+
+    @Benchmark
+    public DateTimeField derive_quarterOfYearFromYearMonth() {
+        return yearMonth.get(QUARTER_OF_YEAR);
+    }
+
+}
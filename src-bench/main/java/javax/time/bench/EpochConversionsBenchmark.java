@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.EpochConversions;
+import javax.time.Instant;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.zone.ZoneRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks bulk conversion of epoch-millis to local fields.
+ * <p>
+ * The per-element cost of {@code EpochConversions} is compared against
+ * creating an {@code OffsetDateTime} for each element.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EpochConversionsBenchmark {
+
+    /** The number of elements. */
+    private static final int SIZE = 10000;
+
+    /** The zone to test. */
+    @Param({"Europe/London", "UTC"})
+    public String zoneID;
+
+    /** The rules. */
+    private ZoneRules rules;
+    /** The sorted input, one per minute. */
+    private final long[] epochMillis = new long[SIZE];
+    /** The epoch-day output. */
+    private final long[] epochDays = new long[SIZE];
+    /** The nano-of-day output. */
+    private final long[] nanosOfDay = new long[SIZE];
+    /** The offset output. */
+    private final int[] offsetSeconds = new int[SIZE];
+    /** The year output. */
+    private final int[] years = new int[SIZE];
+    /** The month output. */
+    private final int[] months = new int[SIZE];
+    /** The day output. */
+    private final int[] days = new int[SIZE];
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        rules = ZoneId.of(zoneID).getRules();
+        long start = Instant.ofEpochSecond(1330000000L).toEpochMilli();
+        for (int i = 0; i < SIZE; i++) {
+            epochMillis[i] = start + i * 60000L;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] toLocal() {
+        EpochConversions.toLocal(rules, epochMillis, epochDays, nanosOfDay, offsetSeconds);
+        return epochDays;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] toLocal_toYearMonthDay() {
+        EpochConversions.toLocal(rules, epochMillis, epochDays, null, null);
+        EpochConversions.toYearMonthDay(epochDays, years, months, days);
+        return days;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] perElement_offsetDateTime() {
+        for (int i = 0; i < SIZE; i++) {
+            Instant instant = Instant.ofEpochMilli(epochMillis[i]);
+            OffsetDateTime odt = OffsetDateTime.ofInstant(instant, rules.getOffset(instant));
+            years[i] = odt.getYear();
+            months[i] = odt.getMonthOfYear().getValue();
+            days[i] = odt.getDayOfMonth();
+        }
+        return days;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.OffsetDate;
+import javax.time.ZoneOffset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks conversion between {@code LocalDate} and the epoch-day count.
+ * <p>
+ * The sweeps step through a large number of dates, as done when generating
+ * schedules or iterating over a date range.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EpochDayBenchmark {
+
+    /** The number of steps in a sweep. */
+    private static final int STEPS = 10000;
+
+    /** The date to start from. */
+    private LocalDate start;
+    /** The date to end at, inclusive. */
+    private LocalDate end;
+    /** The epoch-day of the start. */
+    private long startEpochDay;
+    /** The instant to convert. */
+    private Instant instant;
+    /** The offset to use. */
+    private ZoneOffset offset;
+
+    /**
+     * Sets up the state, held in fields to avoid constant folding.
+     */
+    @Setup
+    public void setUp() {
+        start = LocalDate.of(1990, 3, 17);
+        end = start.plusDays(STEPS - 1);
+        startEpochDay = start.toEpochDay();
+        instant = Instant.ofEpochSecond(1340000000L);
+        offset = ZoneOffset.ofHours(2);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long ofEpochDay_sweep() {
+        long total = 0;
+        for (int i = 0; i < STEPS; i++) {
+            total += LocalDate.ofEpochDay(startEpochDay + i * 37L).getDayOfMonth();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long toEpochDay_sweep() {
+        long total = 0;
+        LocalDate date = start;
+        for (int i = 0; i < STEPS; i++) {
+            total += date.toEpochDay();
+            date = date.plusDays(1);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public LocalDate plusDays_dailySweep() {
+        LocalDate date = start;
+        for (int i = 0; i < STEPS; i++) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public LocalDate plusDays_largeSweep() {
+        LocalDate date = start;
+        for (int i = 0; i < STEPS; i++) {
+            date = date.plusDays(i % 2 == 0 ? 400 : -367);
+        }
+        return date;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public int iterateRange() {
+        int count = 0;
+        for (LocalDate date = start; date.isAfter(end) == false; date = date.plusDays(1)) {
+            count += date.getDayOfYear();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public LocalDate ofYearDay() {
+        return LocalDate.ofYearDay(2012, 250);
+    }
+
+    @Benchmark
+    public OffsetDate offsetDate_ofInstant() {
+        return OffsetDate.ofInstant(instant, offset);
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.format.DateTimeFormatter;
+import javax.time.format.DateTimeFormatterBuilder;
+import javax.time.format.DateTimeFormatters;
+import javax.time.format.DateTimeParseContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code DateTimeFormatter} printing and parsing.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    /** The ISO local date-time formatter. */
+    private DateTimeFormatter isoLocalDateTime;
+    /** The ISO offset date-time formatter. */
+    private DateTimeFormatter isoOffsetDateTime;
+    /** The pattern formatter. */
+    private DateTimeFormatter pattern;
+    /** The local date-time. */
+    private LocalDateTime localDateTime;
+    /** The offset date-time. */
+    private OffsetDateTime offsetDateTime;
+    /** The local date-time text. */
+    private String localDateTimeText;
+    /** The offset date-time text. */
+    private String offsetDateTimeText;
+    /** The pattern text. */
+    private String patternText;
+    /** The offset date-time text as ASCII bytes. */
+    private byte[] offsetDateTimeBytes;
+    /** The direct buffer to print to. */
+    private ByteBuffer outBuffer;
+    /** The log line containing an offset date-time in a direct buffer. */
+    private ByteBuffer logBuffer;
+    /** The instant text. */
+    private String instantText;
+    /** The buffer to print to. */
+    private StringBuilder buf;
+    /** The reusable parse context for the pattern formatter. */
+    private DateTimeParseContext patternContext;
+    /** The formatter with month and day names. */
+    private DateTimeFormatter textPattern;
+    /** The text with month and day names. */
+    private String textPatternText;
+    /** The reusable parse context for the text pattern formatter. */
+    private DateTimeParseContext textPatternContext;
+    /** The zone ID formatter. */
+    private DateTimeFormatter zoneId;
+    /** The reusable parse context for the zone ID formatter. */
+    private DateTimeParseContext zoneIdContext;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        isoLocalDateTime = DateTimeFormatters.isoLocalDateTime().withLocale(Locale.ENGLISH);
+        isoOffsetDateTime = DateTimeFormatters.isoOffsetDateTime().withLocale(Locale.ENGLISH);
+        pattern = DateTimeFormatters.pattern("dd MMM yyyy HH:mm:ss", Locale.ENGLISH);
+        localDateTime = LocalDateTime.of(2012, 6, 30, 12, 30, 40, 987654321);
+        offsetDateTime = localDateTime.atOffset(ZoneOffset.ofHours(2));
+        localDateTimeText = isoLocalDateTime.print(localDateTime);
+        offsetDateTimeText = isoOffsetDateTime.print(offsetDateTime);
+        patternText = pattern.print(localDateTime);
+        offsetDateTimeBytes = offsetDateTimeText.getBytes(Charset.forName("US-ASCII"));
+        byte[] logBytes = (offsetDateTimeText + " INFO started").getBytes(Charset.forName("US-ASCII"));
+        outBuffer = ByteBuffer.allocateDirect(64);
+        logBuffer = ByteBuffer.allocateDirect(logBytes.length);
+        logBuffer.put(logBytes);
+        logBuffer.flip();
+        instantText = offsetDateTime.toInstant().toString();
+        buf = new StringBuilder(64);
+        patternContext = pattern.createParseContext();
+        textPattern = DateTimeFormatters.pattern("EEEE dd MMMM yyyy", Locale.ENGLISH);
+        textPatternText = textPattern.print(localDateTime.toLocalDate());
+        textPatternContext = textPattern.createParseContext();
+        zoneId = new DateTimeFormatterBuilder().appendZoneId().toFormatter(Locale.ENGLISH);
+        zoneIdContext = zoneId.createParseContext();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public String print_isoLocalDateTime() {
+        return isoLocalDateTime.print(localDateTime);
+    }
+
+    @Benchmark
+    public String print_isoOffsetDateTime() {
+        return isoOffsetDateTime.print(offsetDateTime);
+    }
+
+    @Benchmark
+    public StringBuilder printTo_isoLocalDateTime() {
+        buf.setLength(0);
+        isoLocalDateTime.printTo(localDateTime, buf);
+        return buf;
+    }
+
+    @Benchmark
+    public int printTo_isoOffsetDateTime_directBuffer() {
+        outBuffer.clear();
+        return isoOffsetDateTime.printTo(offsetDateTime, outBuffer);
+    }
+
+    @Benchmark
+    public String print_pattern() {
+        return pattern.print(localDateTime);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateTime parse_isoLocalDateTime() {
+        return isoLocalDateTime.parse(localDateTimeText, LocalDateTime.rule());
+    }
+
+    @Benchmark
+    public OffsetDateTime parse_isoOffsetDateTime() {
+        return isoOffsetDateTime.parse(offsetDateTimeText, OffsetDateTime.rule());
+    }
+
+    @Benchmark
+    public OffsetDateTime parse_isoOffsetDateTime_bytes() {
+        return isoOffsetDateTime.parse(offsetDateTimeBytes, 0, offsetDateTimeBytes.length, OffsetDateTime.rule());
+    }
+
+    @Benchmark
+    public OffsetDateTime parse_isoOffsetDateTime_directBuffer() {
+        logBuffer.position(0);
+        return isoOffsetDateTime.parse(logBuffer, OffsetDateTime.rule());
+    }
+
+    @Benchmark
+    public Instant parse_instant() {
+        return Instant.parse(instantText);
+    }
+
+    @Benchmark
+    public LocalDateTime parse_pattern() {
+        return pattern.parse(patternText, LocalDateTime.rule());
+    }
+
+    @Benchmark
+    public LocalDateTime parse_pattern_reusedContext() {
+        return pattern.parse(patternText, patternContext, LocalDateTime.rule());
+    }
+
+    @Benchmark
+    public LocalDate parse_textPattern_reusedContext() {
+        return textPattern.parse(textPatternText, textPatternContext, LocalDate.rule());
+    }
+
+    @Benchmark
+    public ZoneId parse_zoneId_reusedContext() {
+        return zoneId.parse("America/Argentina/Buenos_Aires", zoneIdContext, ZoneId.rule());
+    }
+
+}
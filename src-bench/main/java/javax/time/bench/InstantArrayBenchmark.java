@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.InstantArray;
+import javax.time.InstantBuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks searching and sorting large sequences of instants.
+ * <p>
+ * The columnar {@code InstantArray} and off-heap {@code InstantBuffer} are compared
+ * against a {@code List} of {@code Instant} objects.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InstantArrayBenchmark {
+
+    /** The number of elements. */
+    private static final int SIZE = 100000;
+    /** The number of searches per invocation. */
+    private static final int SEARCHES = 1000;
+
+    /** The unsorted instants. */
+    private final List<Instant> unsorted = new ArrayList<Instant>(SIZE);
+    /** The sorted list. */
+    private List<Instant> list;
+    /** The sorted array. */
+    private InstantArray array;
+    /** The sorted buffer. */
+    private InstantBuffer buffer;
+    /** The instants to search for. */
+    private final Instant[] keys = new Instant[SEARCHES];
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(310);
+        array = new InstantArray(SIZE);
+        buffer = InstantBuffer.allocateDirect(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Instant instant = Instant.ofEpochSecond(1330000000L + random.nextInt(100000000), random.nextInt(1000000000));
+            unsorted.add(instant);
+            array.add(instant);
+            buffer.add(instant);
+        }
+        list = new ArrayList<Instant>(unsorted);
+        Collections.sort(list);
+        array.sort();
+        buffer.sort();
+        for (int i = 0; i < SEARCHES; i++) {
+            keys[i] = unsorted.get(random.nextInt(SIZE));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public int binarySearch_list() {
+        int total = 0;
+        for (Instant key : keys) {
+            total += Collections.binarySearch(list, key);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public int binarySearch_instantArray() {
+        int total = 0;
+        for (Instant key : keys) {
+            total += array.binarySearch(key);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public int binarySearch_instantBuffer() {
+        int total = 0;
+        for (Instant key : keys) {
+            total += buffer.binarySearch(key);
+        }
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Instant> sort_list() {
+        List<Instant> copy = new ArrayList<Instant>(unsorted);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public InstantArray sort_instantArray() {
+        InstantArray copy = new InstantArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            copy.add(unsorted.get(i));
+        }
+        copy.sort();
+        return copy;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ByteBuffer sort_instantBuffer() {
+        InstantBuffer copy = InstantBuffer.allocateDirect(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            copy.add(unsorted.get(i));
+        }
+        copy.sort();
+        return copy.asByteBuffer();
+    }
+
+}
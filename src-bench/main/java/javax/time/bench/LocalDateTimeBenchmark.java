@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks construction and plus/minus of {@code LocalDate} and {@code LocalDateTime}.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LocalDateTimeBenchmark {
+
+    /** The year to use. */
+    private int year;
+    /** The month to use. */
+    private int month;
+    /** The day to use. */
+    private int day;
+    /** The date to use. */
+    private LocalDate date;
+    /** The time to use. */
+    private LocalTime time;
+    /** The date-time to use. */
+    private LocalDateTime dateTime;
+
+    /**
+     * Sets up the state, held in fields to avoid constant folding.
+     */
+    @Setup
+    public void setUp() {
+        year = 2012;
+        month = 6;
+        day = 30;
+        date = LocalDate.of(year, month, day);
+        time = LocalTime.of(12, 30, 20, 123456789);
+        dateTime = LocalDateTime.of(date, time);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDate localDate_of() {
+        return LocalDate.of(year, month, day);
+    }
+
+    @Benchmark
+    public LocalDate localDate_ofEpochDay() {
+        return LocalDate.ofEpochDay(15521);
+    }
+
+    @Benchmark
+    public LocalDate localDate_plusDays() {
+        return date.plusDays(400);
+    }
+
+    @Benchmark
+    public LocalDate localDate_minusMonths() {
+        return date.minusMonths(7);
+    }
+
+    @Benchmark
+    public LocalDate localDate_plusYears() {
+        return date.plusYears(3);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public LocalDateTime localDateTime_of() {
+        return LocalDateTime.of(year, month, day, 12, 30, 20, 123456789);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_ofDateAndTime() {
+        return LocalDateTime.of(date, time);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_plusHours() {
+        return dateTime.plusHours(30);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_plusSeconds() {
+        return dateTime.plusSeconds(90061);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime_minusDays() {
+        return dateTime.minusDays(45);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import static javax.time.calendrical.ISOPeriodUnit.DAYS;
+import static javax.time.calendrical.ISOPeriodUnit.HOURS;
+import static javax.time.calendrical.ISOPeriodUnit.MINUTES;
+import static javax.time.calendrical.ISOPeriodUnit.MONTHS;
+import static javax.time.calendrical.ISOPeriodUnit.YEARS;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.calendrical.PeriodField;
+import javax.time.calendrical.PeriodFields;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code PeriodFields} arithmetic.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PeriodFieldsBenchmark {
+
+    /** The first period. */
+    private PeriodFields period1;
+    /** The second period. */
+    private PeriodFields period2;
+    /** The field to add. */
+    private PeriodField days;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        period1 = PeriodFields.of(PeriodField.of(2, YEARS), PeriodField.of(14, MONTHS), PeriodField.of(50, HOURS));
+        period2 = PeriodFields.of(PeriodField.of(3, MONTHS), PeriodField.of(90, MINUTES));
+        days = PeriodField.of(10, DAYS);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public PeriodFields of_single() {
+        return PeriodFields.of(5, DAYS);
+    }
+
+    @Benchmark
+    public PeriodFields plus_periodFields() {
+        return period1.plus(period2);
+    }
+
+    @Benchmark
+    public PeriodFields plus_periodField() {
+        return period1.plus(days);
+    }
+
+    @Benchmark
+    public PeriodFields minus_amount() {
+        return period1.minus(7, MONTHS);
+    }
+
+    @Benchmark
+    public PeriodFields multipliedBy() {
+        return period1.multipliedBy(3);
+    }
+
+    @Benchmark
+    public PeriodFields normalized() {
+        return period1.normalized();
+    }
+
+}
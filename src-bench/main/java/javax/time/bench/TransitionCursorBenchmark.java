@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneOffsetTransitionCursor;
+import javax.time.zone.ZoneRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks walking ten years of a zone's transitions.
+ * <p>
+ * Repeated calls to {@code nextTransition} are compared with the cursor
+ * and the range query.
+ * The year parameter selects between the historic transitions and the
+ * transitions generated from the last rules.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TransitionCursorBenchmark {
+
+    /** The zone to test. */
+    @Param({"Europe/London", "America/New_York"})
+    public String zoneID;
+    /** The start year to test. */
+    @Param({"2000", "2200"})
+    public int year;
+
+    /** The rules. */
+    private ZoneRules rules;
+    /** The start instant. */
+    private Instant start;
+    /** The end instant. */
+    private Instant end;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        rules = ZoneId.of(zoneID).getRules();
+        start = OffsetDateTime.ofMidnight(year, 1, 1, ZoneOffset.UTC).toInstant();
+        end = OffsetDateTime.ofMidnight(year + 10, 1, 1, ZoneOffset.UTC).toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public long nextTransition() {
+        long total = 0;
+        long endSecond = end.getEpochSecond();
+        ZoneOffsetTransition trans = rules.nextTransition(start);
+        while (trans != null && trans.getInstant().getEpochSecond() < endSecond) {
+            total += trans.getOffsetAfter().getTotalSeconds();
+            trans = rules.nextTransition(trans.getInstant());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long total = 0;
+        long endSecond = end.getEpochSecond();
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(start);
+        while (cursor.next() && cursor.getEpochSecond() < endSecond) {
+            total += cursor.getOffsetAfter().getTotalSeconds();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long getTransitions_range() {
+        long total = 0;
+        for (ZoneOffsetTransition trans : rules.getTransitions(start, end)) {
+            total += trans.getOffsetAfter().getTotalSeconds();
+        }
+        return total;
+    }
+
+}
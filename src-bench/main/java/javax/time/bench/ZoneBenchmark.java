@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.zone.ZoneOffsetInfo;
+import javax.time.zone.ZoneRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks time-zone offset lookup and {@code ZonedDateTime.ofInstant}.
+ * <p>
+ * The year parameter selects between the historic transitions and the
+ * transitions generated from the last rules.
+ * The JDK {@code TimeZone} is included for comparison.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ZoneBenchmark {
+
+    /** The zone to test. */
+    @Param({"Europe/London", "America/New_York", "UTC"})
+    public String zoneID;
+    /** The year to test, 2200 being beyond the cached years of the last rules. */
+    @Param({"1980", "2012", "2200"})
+    public int year;
+
+    /** The zone. */
+    private ZoneId zone;
+    /** The rules. */
+    private ZoneRules rules;
+    /** The instant. */
+    private Instant instant;
+    /** The local date-time. */
+    private LocalDateTime dateTime;
+    /** The JDK zone. */
+    private TimeZone jdkZone;
+    /** The instant in millis. */
+    private long epochMilli;
+    /** The local date-time as a local epoch-second. */
+    private long localEpochSecond;
+    /** The offsets output array. */
+    private final int[] offsetSeconds = new int[2];
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneID);
+        rules = zone.getRules();
+        dateTime = LocalDateTime.of(year, 6, 1, 12, 0);
+        instant = dateTime.atOffset(ZoneOffset.ofHours(1)).toInstant();
+        jdkZone = TimeZone.getTimeZone(zoneID);
+        epochMilli = instant.toEpochMilli();
+        localEpochSecond = dateTime.atOffset(ZoneOffset.UTC).toEpochSecond();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ZoneOffset rules_getOffset() {
+        return rules.getOffset(instant);
+    }
+
+    @Benchmark
+    public ZoneOffsetInfo rules_getOffsetInfo() {
+        return rules.getOffsetInfo(dateTime);
+    }
+
+    @Benchmark
+    public int rules_getOffsetSeconds() {
+        return rules.getOffsetSeconds(instant.getEpochSecond());
+    }
+
+    @Benchmark
+    public int rules_getOffsetInfoSeconds() {
+        return rules.getOffsetInfoSeconds(localEpochSecond, offsetSeconds) + offsetSeconds[0];
+    }
+
+    @Benchmark
+    public ZoneOffset zone_getRules_getOffset() {
+        return zone.getRules().getOffset(instant);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime_ofInstant() {
+        return ZonedDateTime.ofInstant(instant, zone);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime_ofLocal() {
+        return ZonedDateTime.of(dateTime, zone);
+    }
+
+    @Benchmark
+    public ZoneId zoneId_of() {
+        return ZoneId.of(zoneID);
+    }
+
+    @Benchmark
+    public ZoneId zoneId_of_aliasMap() {
+        return ZoneId.of(zoneID, ZoneId.OLD_IDS_POST_2005);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public int jdk_getOffset() {
+        return jdkZone.getOffset(epochMilli);
+    }
+
+}
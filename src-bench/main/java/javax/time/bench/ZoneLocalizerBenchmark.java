@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneLocalizer;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.zone.ZoneRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks converting a year of ascending instants to the local time in a zone.
+ * <p>
+ * Each instant is looked up independently via the zone rules, compared with
+ * {@code ZoneLocalizer} which remembers the current offset period.
+ * Results are per instant.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ZoneLocalizerBenchmark {
+
+    /** The number of instants, one every ten minutes for a year. */
+    private static final int SIZE = 365 * 24 * 6;
+
+    /** The zone to test. */
+    @Param({"Europe/London", "America/New_York"})
+    public String zoneID;
+    /** The year to test, 2200 being beyond the cached years of the last rules. */
+    @Param({"2012", "2200"})
+    public int year;
+
+    /** The zone. */
+    private ZoneId zone;
+    /** The rules. */
+    private ZoneRules rules;
+    /** The ascending instants. */
+    private Instant[] instants;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneID);
+        rules = zone.getRules();
+        instants = new Instant[SIZE];
+        long start = OffsetDateTime.ofMidnight(year, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (int i = 0; i < SIZE; i++) {
+            instants[i] = Instant.ofEpochSecond(start + i * 600L, i);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int rules_getOffsetSeconds() {
+        int total = 0;
+        for (Instant instant : instants) {
+            total += rules.getOffsetSeconds(instant.getEpochSecond());
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int localizer_getOffsetSeconds() {
+        ZoneLocalizer localizer = ZoneLocalizer.of(zone);
+        int total = 0;
+        for (Instant instant : instants) {
+            total += localizer.getOffsetSeconds(instant.getEpochSecond());
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int zonedDateTime_ofInstant() {
+        int total = 0;
+        for (Instant instant : instants) {
+            ZonedDateTime zdt = ZonedDateTime.ofInstant(instant, zone);
+            total += zdt.getHourOfDay();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int localizer_localize() {
+        ZoneLocalizer localizer = ZoneLocalizer.of(zone);
+        int total = 0;
+        for (Instant instant : instants) {
+            ZonedDateTime zdt = localizer.localize(instant);
+            total += zdt.getHourOfDay();
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.ZoneOffset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks obtaining a {@code ZoneOffset} from seconds and from an ID.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ZoneOffsetBenchmark {
+
+    /** A quarter hour offset in seconds, not a constant to avoid folding. */
+    public int quarterSeconds = 5 * 3600 + 30 * 60;
+    /** An offset with seconds in seconds, as used by local mean time. */
+    public int lmtSeconds = -75;
+    /** A canonical offset ID. */
+    public String id = "+05:30";
+    /** The UTC offset ID. */
+    public String utcID = "Z";
+    /** A compact offset ID. */
+    public String compactID = "-0800";
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ZoneOffset ofTotalSeconds_quarter() {
+        return ZoneOffset.ofTotalSeconds(quarterSeconds);
+    }
+
+    @Benchmark
+    public ZoneOffset ofTotalSeconds_seconds() {
+        return ZoneOffset.ofTotalSeconds(lmtSeconds);
+    }
+
+    @Benchmark
+    public ZoneOffset of_id() {
+        return ZoneOffset.of(id);
+    }
+
+    @Benchmark
+    public ZoneOffset of_id_utc() {
+        return ZoneOffset.of(utcID);
+    }
+
+    @Benchmark
+    public ZoneOffset of_id_compact() {
+        return ZoneOffset.of(compactID);
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.time.Instant;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code ZonedDateTime} creation and arithmetic.
+ * <p>
+ * The zone parameter compares UTC and a fixed offset with a region.
+ * The equivalent {@code OffsetDateTime} operations are included for comparison.
+ *
+ * @author Stephen Colebourne
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ZonedDateTimeBenchmark {
+
+    /** The zone to test. */
+    @Param({"UTC", "UTC+05:30", "Europe/London"})
+    public String zoneID;
+
+    /** The zone. */
+    private ZoneId zone;
+    /** The local date-time. */
+    private LocalDateTime localDateTime;
+    /** The instant. */
+    private Instant instant;
+    /** The zoned date-time. */
+    private ZonedDateTime zonedDateTime;
+    /** The offset date-time. */
+    private OffsetDateTime offsetDateTime;
+
+    /**
+     * Sets up the state.
+     */
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneID);
+        localDateTime = LocalDateTime.of(2012, 6, 15, 12, 30, 40, 500);
+        zonedDateTime = ZonedDateTime.of(localDateTime, zone);
+        offsetDateTime = zonedDateTime.toOffsetDateTime();
+        instant = zonedDateTime.toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ZonedDateTime zoned_ofInstant() {
+        return ZonedDateTime.ofInstant(instant, zone);
+    }
+
+    @Benchmark
+    public ZonedDateTime zoned_ofLocal() {
+        return ZonedDateTime.of(localDateTime, zone);
+    }
+
+    @Benchmark
+    public ZonedDateTime zoned_plusHours() {
+        return zonedDateTime.plusHours(3);
+    }
+
+    @Benchmark
+    public ZonedDateTime zoned_plusDays() {
+        return zonedDateTime.plusDays(3);
+    }
+
+    @Benchmark
+    public ZonedDateTime zoned_plusMonths() {
+        return zonedDateTime.plusMonths(3);
+    }
+
+    @Benchmark
+    public ZonedDateTime zoned_withHourOfDay() {
+        return zonedDateTime.withHourOfDay(3);
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public OffsetDateTime offset_ofInstant() {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public OffsetDateTime offset_plusHours() {
+        return offsetDateTime.plusHours(3);
+    }
+
+    @Benchmark
+    public OffsetDateTime offset_plusDays() {
+        return offsetDateTime.plusDays(3);
+    }
+
+    @Benchmark
+    public OffsetDateTime offset_plusMonths() {
+        return offsetDateTime.plusMonths(3);
+    }
+
+    @Benchmark
+    public OffsetDateTime offset_withHourOfDay() {
+        return offsetDateTime.withHourOfDay(3);
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+/**
+ * An in-place sort of data held in primitive columns.
+ * <p>
+ * The data is accessed by index, allowing the same algorithm to sort parallel
+ * arrays and buffers without creating an object per element.
+ * The algorithm is an introspective sort, a quicksort that switches to a heapsort
+ * if the partitioning degrades, thus the sort is O(n log n) but not stable.
+ * <p>
+ * ColumnSort is a mutable algorithm intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+abstract class ColumnSort {
+
+    /**
+     * The size at which insertion sort is used.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Compares the elements at two indices.
+     *
+     * @param index1  the first index
+     * @param index2  the second index
+     * @return the comparator value, negative if less, positive if greater
+     */
+    abstract int compare(int index1, int index2);
+
+    /**
+     * Swaps the elements at two indices.
+     *
+     * @param index1  the first index
+     * @param index2  the second index
+     */
+    abstract void swap(int index1, int index2);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the range of elements into ascending order.
+     *
+     * @param fromIndex  the first index to sort, inclusive
+     * @param toIndex  the last index to sort, exclusive
+     */
+    final void sort(int fromIndex, int toIndex) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        introSort(fromIndex, toIndex, depthLimit);
+    }
+
+    private void introSort(int fromIndex, int toIndex, int depthLimit) {
+        while (toIndex - fromIndex > INSERTION_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(fromIndex, toIndex);
+                return;
+            }
+            depthLimit--;
+            int pivot = partition(fromIndex, toIndex);
+            // recurse into the smaller side, loop on the larger
+            if (pivot - fromIndex < toIndex - pivot) {
+                introSort(fromIndex, pivot, depthLimit);
+                fromIndex = pivot + 1;
+            } else {
+                introSort(pivot + 1, toIndex, depthLimit);
+                toIndex = pivot;
+            }
+        }
+        insertionSort(fromIndex, toIndex);
+    }
+
+    private int partition(int fromIndex, int toIndex) {
+        int last = toIndex - 1;
+        int mid = (fromIndex + last) >>> 1;
+        // median of three, placed at the last index as the pivot
+        if (compare(mid, fromIndex) < 0) {
+            swap(mid, fromIndex);
+        }
+        if (compare(last, fromIndex) < 0) {
+            swap(last, fromIndex);
+        }
+        if (compare(mid, last) < 0) {
+            swap(mid, last);
+        }
+        int store = fromIndex;
+        for (int i = fromIndex; i < last; i++) {
+            if (compare(i, last) < 0) {
+                swap(i, store);
+                store++;
+            }
+        }
+        swap(store, last);
+        return store;
+    }
+
+    private void insertionSort(int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            for (int j = i; j > fromIndex && compare(j - 1, j) > 0; j--) {
+                swap(j - 1, j);
+            }
+        }
+    }
+
+    private void heapSort(int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(fromIndex, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(fromIndex, fromIndex + end);
+            siftDown(fromIndex, 0, end);
+        }
+    }
+
+    private void siftDown(int base, int index, int length) {
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= length) {
+                return;
+            }
+            if (child + 1 < length && compare(base + child, base + child + 1) < 0) {
+                child++;
+            }
+            if (compare(base + index, base + child) >= 0) {
+                return;
+            }
+            swap(base + index, base + child);
+            index = child;
+        }
+    }
+
+}
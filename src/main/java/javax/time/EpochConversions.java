@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+
+/**
+ * Provides bulk conversions between epoch-based instants and local fields.
+ * <p>
+ * The methods in this class convert arrays of primitive values into
+ * caller-supplied arrays of primitive values without creating an object per element.
+ * This is intended for columnar data, where millions of timestamps must be
+ * localized and the cost of {@code Instant} and {@code OffsetDateTime} per
+ * element dominates.
+ * <p>
+ * When converting in a time-zone, the offset found for one element is reused
+ * for subsequent elements until the next transition is reached.
+ * As such, the conversion is fastest when the input is sorted ascending,
+ * but the result is correct for any order.
+ * <p>
+ * This is a thread-safe utility class.
+ *
+ * @author Stephen Colebourne
+ */
+public final class EpochConversions {
+
+    /**
+     * The number of milliseconds per second.
+     */
+    private static final int MILLIS_PER_SECOND = 1000;
+    /**
+     * The number of nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000L;
+    /**
+     * The number of nanoseconds per second.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private EpochConversions() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-millis to local epoch-days, nanos-of-day and offsets.
+     * <p>
+     * This is equivalent to {@link #toLocal(ZoneRules, long[], int, int, long[], long[], int[])}
+     * for the whole of the input array.
+     *
+     * @param rules  the zone rules to convert using, not null
+     * @param epochMillis  the milliseconds from 1970-01-01T00:00:00Z, not null
+     * @param epochDays  the array to populate with the local epoch-day, null if not required
+     * @param nanosOfDay  the array to populate with the local nano-of-day, null if not required
+     * @param offsetSeconds  the array to populate with the offset in seconds, null if not required
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws CalendricalException if the rules cannot be applied
+     */
+    public static void toLocal(ZoneRules rules, long[] epochMillis,
+            long[] epochDays, long[] nanosOfDay, int[] offsetSeconds) {
+        MathUtils.checkNotNull(epochMillis, "Epoch millis array must not be null");
+        toLocal(rules, epochMillis, 0, epochMillis.length, epochDays, nanosOfDay, offsetSeconds);
+    }
+
+    /**
+     * Converts a range of epoch-millis to local epoch-days, nanos-of-day and offsets.
+     * <p>
+     * Each element of the input range is converted to the local date-time in
+     * the specified rules, and the result is stored at the same index in each
+     * non-null output array. The local epoch-day is the count of days from
+     * 1970-01-01 as per {@link LocalDate#toEpochDay()}, and the nano-of-day
+     * is as per {@link LocalTime#toNanoOfDay()}.
+     * <p>
+     * The offset is obtained using {@link ZoneRules#getOffsetSeconds(long)}.
+     * The next transition is then located and the offset is reused while the
+     * input remains between the element and that transition.
+     *
+     * @param rules  the zone rules to convert using, not null
+     * @param epochMillis  the milliseconds from 1970-01-01T00:00:00Z, not null
+     * @param fromIndex  the index of the first element to convert, inclusive
+     * @param toIndex  the index of the last element to convert, exclusive
+     * @param epochDays  the array to populate with the local epoch-day, null if not required
+     * @param nanosOfDay  the array to populate with the local nano-of-day, null if not required
+     * @param offsetSeconds  the array to populate with the offset in seconds, null if not required
+     * @throws IllegalArgumentException if the range is invalid or an output array is too short
+     * @throws CalendricalException if the rules cannot be applied
+     */
+    public static void toLocal(ZoneRules rules, long[] epochMillis, int fromIndex, int toIndex,
+            long[] epochDays, long[] nanosOfDay, int[] offsetSeconds) {
+        MathUtils.checkNotNull(rules, "ZoneRules must not be null");
+        MathUtils.checkNotNull(epochMillis, "Epoch millis array must not be null");
+        checkRange(epochMillis.length, fromIndex, toIndex);
+        checkOutput(epochDays == null ? -1 : epochDays.length, toIndex);
+        checkOutput(nanosOfDay == null ? -1 : nanosOfDay.length, toIndex);
+        checkOutput(offsetSeconds == null ? -1 : offsetSeconds.length, toIndex);
+        
+        // the offset is valid from windowStart inclusive to windowEnd exclusive
+        long windowStart = Long.MAX_VALUE;
+        long windowEnd = Long.MIN_VALUE;
+        int offset = 0;
+        if (rules.isFixedOffset()) {
+            windowStart = Long.MIN_VALUE;
+            windowEnd = Long.MAX_VALUE;
+            offset = rules.getOffsetSeconds(0);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            long millis = epochMillis[i];
+            long epochSec = MathUtils.floorDiv(millis, MILLIS_PER_SECOND);
+            if (epochSec < windowStart || epochSec >= windowEnd) {
+                offset = rules.getOffsetSeconds(epochSec);
+                ZoneOffsetTransition trans = rules.nextTransition(Instant.ofEpochSecond(epochSec));
+                windowStart = epochSec;
+                windowEnd = (trans != null ? trans.getInstant().getEpochSecond() : Long.MAX_VALUE);
+            }
+            long localSec = epochSec + offset;
+            if (epochDays != null) {
+                epochDays[i] = MathUtils.floorDiv(localSec, MathUtils.SECONDS_PER_DAY);
+            }
+            if (nanosOfDay != null) {
+                nanosOfDay[i] = MathUtils.floorMod(localSec, MathUtils.SECONDS_PER_DAY) * NANOS_PER_SECOND +
+                        MathUtils.floorMod(millis, MILLIS_PER_SECOND) * NANOS_PER_MILLI;
+            }
+            if (offsetSeconds != null) {
+                offsetSeconds[i] = offset;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to year, month-of-year and day-of-month.
+     * <p>
+     * This is equivalent to {@link #toYearMonthDay(long[], int, int, int[], int[], int[])}
+     * for the whole of the input array.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param years  the array to populate with the year, null if not required
+     * @param months  the array to populate with the month-of-year from 1 to 12, null if not required
+     * @param days  the array to populate with the day-of-month from 1 to 31, null if not required
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws IllegalCalendarFieldValueException if a year is out of range
+     */
+    public static void toYearMonthDay(long[] epochDays, int[] years, int[] months, int[] days) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        toYearMonthDay(epochDays, 0, epochDays.length, years, months, days);
+    }
+
+    /**
+     * Converts a range of epoch-days to year, month-of-year and day-of-month.
+     * <p>
+     * Each element of the input range is converted to the ISO date as per
+     * {@link LocalDate#ofEpochDay(long)}, and the result is stored at the
+     * same index in each non-null output array.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param fromIndex  the index of the first element to convert, inclusive
+     * @param toIndex  the index of the last element to convert, exclusive
+     * @param years  the array to populate with the year, null if not required
+     * @param months  the array to populate with the month-of-year from 1 to 12, null if not required
+     * @param days  the array to populate with the day-of-month from 1 to 31, null if not required
+     * @throws IllegalArgumentException if the range is invalid or an output array is too short
+     * @throws IllegalCalendarFieldValueException if a year is out of range
+     */
+    public static void toYearMonthDay(long[] epochDays, int fromIndex, int toIndex,
+            int[] years, int[] months, int[] days) {
+        MathUtils.checkNotNull(epochDays, "Epoch days array must not be null");
+        checkRange(epochDays.length, fromIndex, toIndex);
+        checkOutput(years == null ? -1 : years.length, toIndex);
+        checkOutput(months == null ? -1 : months.length, toIndex);
+        checkOutput(days == null ? -1 : days.length, toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            long packed = EpochDayEngine.toPackedDate(epochDays[i]);
+            if (years != null) {
+                years[i] = EpochDayEngine.packedYear(packed);
+            }
+            if (months != null) {
+                months[i] = EpochDayEngine.packedMonth(packed);
+            }
+            if (days != null) {
+                days[i] = EpochDayEngine.packedDay(packed);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks the range of the input array.
+     *
+     * @param length  the length of the input array
+     * @param fromIndex  the index of the first element, inclusive
+     * @param toIndex  the index of the last element, exclusive
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    private static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new IllegalArgumentException("Invalid range " + fromIndex + " to " + toIndex +
+                    " for array of length " + length);
+        }
+    }
+
+    /**
+     * Checks the length of an output array.
+     *
+     * @param length  the length of the output array, negative if not required
+     * @param toIndex  the index of the last element, exclusive
+     * @throws IllegalArgumentException if the array is too short
+     */
+    private static void checkOutput(int length, int toIndex) {
+        if (length >= 0 && length < toIndex) {
+            throw new IllegalArgumentException("Output array of length " + length +
+                    " is too short, must be at least " + toIndex);
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+/**
+ * Table-driven conversion between the ISO epoch-day count and year, month and day.
+ * <p>
+ * The ISO calendar system repeats exactly every 400 years, a cycle of 146,097 days.
+ * The start day of each year within the cycle and the start day of each month within
+ * a year are precomputed, thus conversion is a small number of array lookups
+ * rather than repeated leap year calculations.
+ * <p>
+ * The result of {@link #toPackedDate(long)} is a primitive {@code long} holding the
+ * year, month and day, which allows callers to avoid creating intermediate objects.
+ * <p>
+ * This is a thread-safe utility class.
+ *
+ * @author Stephen Colebourne
+ */
+final class EpochDayEngine {
+
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     * There are five 400 year cycles from year zero to 2000.
+     * There are 7 leap years from 1970 to 2000.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The first year of the cycle containing the minimum year.
+     */
+    private static final int BASE_YEAR = -1000000000;
+    /**
+     * The epoch-day of the first day of the base year.
+     */
+    private static final long BASE_EPOCH_DAY = (BASE_YEAR / 400) * (long) DAYS_PER_CYCLE - DAYS_0000_TO_1970;
+    /**
+     * The minimum supported epoch-day, -999999999-01-01.
+     */
+    static final long MIN_EPOCH_DAY = -365243219162L;
+    /**
+     * The maximum supported epoch-day, +999999999-12-31.
+     */
+    static final long MAX_EPOCH_DAY = 365241780471L;
+    /**
+     * The day-of-cycle of the first day of each year-of-cycle shifted left by one,
+     * with the low bit set for a leap year and a final entry for the next cycle.
+     */
+    private static final int[] YEAR_START = new int[401];
+    /**
+     * The zero-based day-of-year of the first day of each month, indexed by
+     * month-of-year, with leap years offset by 13.
+     */
+    private static final int[] MONTH_START = new int[26];
+    /**
+     * The packed month-of-year and day-of-month of each zero-based day-of-year,
+     * with leap years offset by 366.
+     */
+    private static final char[] MONTH_DAY = new char[732];
+    static {
+        int day = 0;
+        for (int yoc = 0; yoc < 400; yoc++) {
+            boolean leap = Year.isLeap(yoc);
+            YEAR_START[yoc] = (day << 1) | (leap ? 1 : 0);
+            day += (leap ? 366 : 365);
+        }
+        YEAR_START[400] = day << 1;
+        for (int leap = 0; leap < 2; leap++) {
+            for (MonthOfYear month : MonthOfYear.values()) {
+                int start = month.getMonthStartDayOfYear(leap == 1) - 1;
+                MONTH_START[leap * 13 + month.getValue()] = start;
+                for (int i = 0; i < month.lengthInDays(leap == 1); i++) {
+                    MONTH_DAY[leap * 366 + start + i] = (char) pack(0, month.getValue(), i + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private EpochDayEngine() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to a packed year, month and day.
+     * <p>
+     * The result is decoded using {@link #packedYear(long)}, {@link #packedMonth(long)}
+     * and {@link #packedDay(long)}.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the packed date
+     * @throws IllegalCalendarFieldValueException if the epoch day exceeds the supported date range
+     */
+    static long toPackedDate(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            YEAR.checkValidIntValue(toYear(epochDay));  // throws exception
+        }
+        long zeroDay = epochDay - BASE_EPOCH_DAY;  // positive for all valid dates
+        int cycle = (int) (zeroDay / DAYS_PER_CYCLE);
+        int dayOfCycle = (int) (zeroDay - cycle * (long) DAYS_PER_CYCLE);
+        int yoc = dayOfCycle / 365;  // at most one too large
+        int yearStart = YEAR_START[yoc];
+        if ((yearStart >> 1) > dayOfCycle) {
+            yearStart = YEAR_START[--yoc];
+        }
+        int doy0 = dayOfCycle - (yearStart >> 1);
+        return pack(BASE_YEAR + cycle * 400 + yoc, 0, 0) | MONTH_DAY[(yearStart & 1) * 366 + doy0];
+    }
+
+    /**
+     * Converts an epoch-day to a year without checking the range.
+     * <p>
+     * This is used to report the year of an invalid epoch-day.
+     *
+     * @param epochDay  the Epoch Day to convert, any value
+     * @return the year
+     */
+    private static long toYear(long epochDay) {
+        // cycle containing 1970 starts in 1600, cannot overflow
+        long cycle = MathUtils.floorDiv(epochDay, DAYS_PER_CYCLE);
+        int dayOfCycle = MathUtils.floorMod(epochDay, DAYS_PER_CYCLE) + (int) (DAYS_0000_TO_1970 % DAYS_PER_CYCLE);
+        if (dayOfCycle >= DAYS_PER_CYCLE) {
+            dayOfCycle -= DAYS_PER_CYCLE;
+            cycle++;
+        }
+        int yoc = dayOfCycle / 365;
+        if ((YEAR_START[yoc] >> 1) > dayOfCycle) {
+            yoc--;
+        }
+        return 1600 + cycle * 400 + yoc;
+    }
+
+    /**
+     * Converts a year and day-of-year to a packed year, month and day.
+     *
+     * @param year  the year, validated from MIN_YEAR to MAX_YEAR
+     * @param leap  whether the year is a leap year
+     * @param dayOfYear  the day-of-year, validated for the year
+     * @return the packed date
+     */
+    static long toPackedDate(int year, boolean leap, int dayOfYear) {
+        int leapOffset = (leap ? 1 : 0);
+        return pack(year, 0, 0) | MONTH_DAY[leapOffset * 366 + dayOfYear - 1];
+    }
+
+    /**
+     * Converts a year, month and day to an epoch-day.
+     *
+     * @param year  the year, validated from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year, validated from 1 to 12
+     * @param day  the day-of-month, validated for the year and month
+     * @return the Epoch Day, based on the epoch 1970-01-01
+     */
+    static long toEpochDay(int year, int month, int day) {
+        int yearOfBase = year - BASE_YEAR;  // positive for all valid years
+        int cycle = yearOfBase / 400;
+        int yoc = yearOfBase - cycle * 400;
+        int yearStart = YEAR_START[yoc];
+        return BASE_EPOCH_DAY + cycle * (long) DAYS_PER_CYCLE + (yearStart >> 1) + MONTH_START[(yearStart & 1) * 13 + month] + day - 1;
+    }
+
+    //-----------------------------------------------------------------------
+    private static long pack(int year, int month, int day) {
+        return (((long) year) << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Gets the year from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the year
+     */
+    static int packedYear(long packedDate) {
+        return (int) (packedDate >> 9);
+    }
+
+    /**
+     * Gets the month-of-year from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the month-of-year, from 1 to 12
+     */
+    static int packedMonth(long packedDate) {
+        return ((int) packedDate >>> 5) & 15;
+    }
+
+    /**
+     * Gets the day-of-month from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the day-of-month, from 1 to 31
+     */
+    static int packedDay(long packedDate) {
+        return (int) packedDate & 31;
+    }
+
+}
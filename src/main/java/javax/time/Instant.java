@@ -316,7 +316,7 @@ public final class Instant
      * @throws CalendricalParseException if the text cannot be parsed to an {@code Instant}
      */
     //TODO:The decimal point may be either a dot or a comma.
-    // TODO: optimize and handle big instants
+    // TODO: handle big instants
     public static Instant parse(final CharSequence text) {
         MathUtils.checkNotNull(text, "Text to parse must not be null");
         int length = text.length();
@@ -326,7 +326,10 @@ public final class Instant
         if (text.charAt(length - 1) != 'Z' && text.charAt(length - 1) != 'z') {
             throw new CalendricalParseException("Instant could not be parsed: " + text, text, length - 1);
         }
-        return OffsetDateTime.of(LocalDateTime.parse(text.subSequence(0, length - 1)), ZoneOffset.UTC).toInstant();
+        // the canonical form is parsed without the engine, see LocalDateTime.parse
+        LocalDateTime dateTime = LocalDateTime.parse(text.subSequence(0, length - 1));
+        long epochSec = dateTime.toLocalDate().toEpochDay() * MathUtils.SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay();
+        return ofEpochSecond(epochSec, dateTime.getNanoOfSecond());
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable sequence of instants held in primitive columns.
+ * <p>
+ * Each instant is stored as a {@code long} epoch-second and an {@code int} nano-of-second
+ * in two parallel arrays, rather than as an {@code Instant} object referenced from a list.
+ * This uses 12 bytes per element, which matters when holding tens of millions of instants.
+ * {@code Instant} objects are only created when requested, such as by {@link #get(int)}
+ * or during iteration.
+ * <p>
+ * The sequence can be {@link #sort() sorted} and then {@link #binarySearch(Instant) searched}.
+ * <p>
+ * This class is mutable and intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+public final class InstantArray implements Iterable<Instant> {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Constant for nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+
+    /**
+     * The epoch-second column.
+     */
+    private long[] seconds;
+    /**
+     * The nano-of-second column.
+     */
+    private int[] nanos;
+    /**
+     * The number of instants.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code InstantArray} containing the specified instants.
+     *
+     * @param instants  the instants to add, no nulls, not null
+     * @return the array of instants, not null
+     */
+    public static InstantArray of(Instant... instants) {
+        MathUtils.checkNotNull(instants, "Instant array must not be null");
+        InstantArray array = new InstantArray(instants.length);
+        for (Instant instant : instants) {
+            array.add(instant);
+        }
+        return array;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an empty instance with a default capacity.
+     */
+    public InstantArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty instance with the specified capacity.
+     *
+     * @param initialCapacity  the initial capacity, not negative
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public InstantArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.seconds = new long[initialCapacity];
+        this.nanos = new int[initialCapacity];
+    }
+
+    /**
+     * Constructs an instance from columns.
+     *
+     * @param seconds  the epoch-seconds, assigned not cloned, not null
+     * @param nanos  the nano-of-seconds, assigned not cloned, not null
+     */
+    private InstantArray(long[] seconds, int[] nanos) {
+        this.seconds = seconds;
+        this.nanos = nanos;
+        this.size = seconds.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants.
+     *
+     * @return the number of instants, not negative
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there are no instants.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the instant at the specified index, creating an {@code Instant}.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the instant, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant get(int index) {
+        checkIndex(index);
+        return Instant.ofEpochSecond(seconds[index], nanos[index]);
+    }
+
+    /**
+     * Gets the epoch-second of the instant at the specified index.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the seconds from the epoch of 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEpochSecond(int index) {
+        checkIndex(index);
+        return seconds[index];
+    }
+
+    /**
+     * Gets the nano-of-second of the instant at the specified index.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the nanoseconds within the second, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getNanoOfSecond(int index) {
+        checkIndex(index);
+        return nanos[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds an instant to the end of the sequence.
+     *
+     * @param instant  the instant to add, not null
+     */
+    public void add(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        append(instant.getEpochSecond(), instant.getNanoOfSecond());
+    }
+
+    /**
+     * Adds an instant to the end of the sequence using seconds from the
+     * epoch of 1970-01-01T00:00:00Z and nanosecond fraction of second.
+     * <p>
+     * The nanosecond adjustment is normalized in the same way as
+     * {@link Instant#ofEpochSecond(long, long)}.
+     *
+     * @param epochSecond  the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanoAdjustment  the nanosecond adjustment to the number of seconds, positive or negative
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public void addEpochSecond(long epochSecond, long nanoAdjustment) {
+        long secs = MathUtils.safeAdd(epochSecond, MathUtils.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = MathUtils.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        append(secs, nos);
+    }
+
+    private void append(long epochSecond, int nanoOfSecond) {
+        if (size == seconds.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            seconds = Arrays.copyOf(seconds, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+        }
+        seconds[size] = epochSecond;
+        nanos[size] = nanoOfSecond;
+        size++;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the instants into ascending order on the time-line.
+     * <p>
+     * The sort is performed in place without creating {@code Instant} objects.
+     */
+    public void sort() {
+        new ColumnSort() {
+            @Override
+            int compare(int index1, int index2) {
+                return InstantArray.this.compare(index1, seconds[index2], nanos[index2]);
+            }
+            @Override
+            void swap(int index1, int index2) {
+                long sec = seconds[index1];
+                seconds[index1] = seconds[index2];
+                seconds[index2] = sec;
+                int nos = nanos[index1];
+                nanos[index1] = nanos[index2];
+                nanos[index2] = nos;
+            }
+        }.sort(0, size);
+    }
+
+    /**
+     * Searches the sorted instants for the specified instant.
+     * <p>
+     * The instants must be sorted, otherwise the result is undefined.
+     * If the instant occurs more than once, there is no guarantee which index is found.
+     *
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant if found, otherwise {@code (-(insertion point) - 1)}
+     *  as per {@link Arrays#binarySearch(long[], long)}
+     */
+    public int binarySearch(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        long epochSecond = instant.getEpochSecond();
+        int nanoOfSecond = instant.getNanoOfSecond();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, epochSecond, nanoOfSecond);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int compare(int index, long epochSecond, int nanoOfSecond) {
+        int cmp = MathUtils.safeCompare(seconds[index], epochSecond);
+        return (cmp != 0 ? cmp : MathUtils.safeCompare(nanos[index], nanoOfSecond));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of a range of the instants.
+     * <p>
+     * The result is independent of this sequence.
+     *
+     * @param fromIndex  the first index, inclusive
+     * @param toIndex  the last index, exclusive
+     * @return the instants in the range, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    public InstantArray slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex + ", size " + size);
+        }
+        return new InstantArray(Arrays.copyOfRange(seconds, fromIndex, toIndex), Arrays.copyOfRange(nanos, fromIndex, toIndex));
+    }
+
+    /**
+     * Returns an iterator over the instants, creating each {@code Instant} as it is returned.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<Instant> iterator() {
+        return new Iterator<Instant>() {
+            private int index;
+            public boolean hasNext() {
+                return index < size;
+            }
+            public Instant next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size " + size);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the instants as a {@code String}, such as {@code [2012-06-30T12:30:40Z]}.
+     *
+     * @return a string representation of the instants, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(Math.min(size, 1024) * 24 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable sequence of instants held in a {@code ByteBuffer}, typically off-heap.
+ * <p>
+ * Each instant is stored as a 12 byte record of a big-endian {@code long} epoch-second
+ * followed by an {@code int} nano-of-second.
+ * Storing the instants in a direct or memory-mapped buffer keeps them out of the Java heap,
+ * thus they are not traversed by the garbage collector.
+ * {@code Instant} objects are only created when requested, such as by {@link #get(int)}
+ * or during iteration.
+ * <p>
+ * An instance can {@link #wrap(ByteBuffer) wrap} existing records, such as those in a
+ * memory-mapped file, and the records can be {@link #asByteBuffer() obtained} for writing.
+ * If more instants are added than the buffer can hold, the records are copied to a larger
+ * direct buffer, leaving the original buffer unaltered.
+ * <p>
+ * The sequence can be {@link #sort() sorted} and then {@link #binarySearch(Instant) searched}.
+ * <p>
+ * This class is mutable and intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+public final class InstantBuffer implements Iterable<Instant> {
+
+    /**
+     * The number of bytes in each record.
+     */
+    public static final int RECORD_BYTES = 12;
+    /**
+     * The maximum capacity, limited by the size of a buffer.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / RECORD_BYTES;
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Constant for nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+
+    /**
+     * The buffer, with position zero at the first record.
+     */
+    private ByteBuffer buffer;
+    /**
+     * The number of instants.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty instance backed by a direct buffer.
+     *
+     * @param initialCapacity  the initial capacity in instants, not negative
+     * @return the buffer of instants, not null
+     * @throws IllegalArgumentException if the capacity is negative or too large for a buffer
+     */
+    public static InstantBuffer allocateDirect(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        if (initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must not exceed " + MAX_CAPACITY);
+        }
+        return new InstantBuffer(ByteBuffer.allocateDirect(initialCapacity * RECORD_BYTES), 0);
+    }
+
+    /**
+     * Obtains an instance wrapping the records between the position and limit of a buffer.
+     * <p>
+     * The number of instants is the number of complete records remaining in the buffer.
+     * The content of the buffer is shared, thus sorting alters the buffer.
+     * The position and limit of the specified buffer are not altered.
+     * The records are not validated.
+     *
+     * @param buffer  the buffer containing the records, not null
+     * @return the buffer of instants, not null
+     */
+    public static InstantBuffer wrap(ByteBuffer buffer) {
+        MathUtils.checkNotNull(buffer, "ByteBuffer must not be null");
+        ByteBuffer records = buffer.slice();
+        return new InstantBuffer(records, records.capacity() / RECORD_BYTES);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param buffer  the buffer, with position zero at the first record, not null
+     * @param size  the number of instants
+     */
+    private InstantBuffer(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants.
+     *
+     * @return the number of instants, not negative
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there are no instants.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the instant at the specified index, creating an {@code Instant}.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the instant, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant get(int index) {
+        checkIndex(index);
+        return Instant.ofEpochSecond(seconds(index), nanos(index));
+    }
+
+    /**
+     * Gets the epoch-second of the instant at the specified index.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the seconds from the epoch of 1970-01-01T00:00:00Z
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEpochSecond(int index) {
+        checkIndex(index);
+        return seconds(index);
+    }
+
+    /**
+     * Gets the nano-of-second of the instant at the specified index.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the nanoseconds within the second, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getNanoOfSecond(int index) {
+        checkIndex(index);
+        return nanos(index);
+    }
+
+    private long seconds(int index) {
+        return buffer.getLong(index * RECORD_BYTES);
+    }
+
+    private int nanos(int index) {
+        return buffer.getInt(index * RECORD_BYTES + 8);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds an instant to the end of the sequence.
+     *
+     * @param instant  the instant to add, not null
+     * @throws IllegalStateException if the buffer cannot grow any further
+     */
+    public void add(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        append(instant.getEpochSecond(), instant.getNanoOfSecond());
+    }
+
+    /**
+     * Adds an instant to the end of the sequence using seconds from the
+     * epoch of 1970-01-01T00:00:00Z and nanosecond fraction of second.
+     * <p>
+     * The nanosecond adjustment is normalized in the same way as
+     * {@link Instant#ofEpochSecond(long, long)}.
+     *
+     * @param epochSecond  the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanoAdjustment  the nanosecond adjustment to the number of seconds, positive or negative
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     * @throws IllegalStateException if the buffer cannot grow any further
+     */
+    public void addEpochSecond(long epochSecond, long nanoAdjustment) {
+        long secs = MathUtils.safeAdd(epochSecond, MathUtils.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = MathUtils.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        append(secs, nos);
+    }
+
+    private void append(long epochSecond, int nanoOfSecond) {
+        int offset = size * RECORD_BYTES;
+        if (offset + RECORD_BYTES > buffer.capacity()) {
+            int capacity = Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+            if (capacity <= size) {
+                throw new IllegalStateException("InstantBuffer cannot hold more than " + MAX_CAPACITY + " instants");
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity * RECORD_BYTES);
+            ByteBuffer records = buffer.duplicate();
+            records.position(0).limit(offset);
+            grown.put(records);
+            buffer = grown;
+        }
+        buffer.putLong(offset, epochSecond);
+        buffer.putInt(offset + 8, nanoOfSecond);
+        size++;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the instants into ascending order on the time-line.
+     * <p>
+     * The sort is performed in place in the buffer without creating {@code Instant} objects.
+     */
+    public void sort() {
+        new ColumnSort() {
+            @Override
+            int compare(int index1, int index2) {
+                return InstantBuffer.this.compare(index1, seconds(index2), nanos(index2));
+            }
+            @Override
+            void swap(int index1, int index2) {
+                int offset1 = index1 * RECORD_BYTES;
+                int offset2 = index2 * RECORD_BYTES;
+                long sec = buffer.getLong(offset1);
+                int nos = buffer.getInt(offset1 + 8);
+                buffer.putLong(offset1, buffer.getLong(offset2));
+                buffer.putInt(offset1 + 8, buffer.getInt(offset2 + 8));
+                buffer.putLong(offset2, sec);
+                buffer.putInt(offset2 + 8, nos);
+            }
+        }.sort(0, size);
+    }
+
+    /**
+     * Searches the sorted instants for the specified instant.
+     * <p>
+     * The instants must be sorted, otherwise the result is undefined.
+     * If the instant occurs more than once, there is no guarantee which index is found.
+     *
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant if found, otherwise {@code (-(insertion point) - 1)}
+     *  as per {@link java.util.Arrays#binarySearch(long[], long)}
+     */
+    public int binarySearch(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        long epochSecond = instant.getEpochSecond();
+        int nanoOfSecond = instant.getNanoOfSecond();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, epochSecond, nanoOfSecond);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int compare(int index, long epochSecond, int nanoOfSecond) {
+        int cmp = MathUtils.safeCompare(seconds(index), epochSecond);
+        return (cmp != 0 ? cmp : MathUtils.safeCompare(nanos(index), nanoOfSecond));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a view of a range of the instants.
+     * <p>
+     * The content of the buffer is shared, as per {@link ByteBuffer#slice()},
+     * thus sorting either sequence alters the other.
+     * Adding to the result copies the records first, thus does not alter this sequence.
+     *
+     * @param fromIndex  the first index, inclusive
+     * @param toIndex  the last index, exclusive
+     * @return the instants in the range, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    public InstantBuffer slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex + ", size " + size);
+        }
+        ByteBuffer records = buffer.duplicate();
+        records.position(fromIndex * RECORD_BYTES).limit(toIndex * RECORD_BYTES);
+        return new InstantBuffer(records.slice(), toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a read-only view of the records of the instants.
+     * <p>
+     * The result has a position of zero and a limit of the size multiplied by
+     * {@link #RECORD_BYTES}, suitable for writing to a channel.
+     *
+     * @return the records, not null
+     */
+    public ByteBuffer asByteBuffer() {
+        ByteBuffer records = buffer.asReadOnlyBuffer();
+        records.position(0).limit(size * RECORD_BYTES);
+        return records;
+    }
+
+    /**
+     * Returns an iterator over the instants, creating each {@code Instant} as it is returned.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<Instant> iterator() {
+        return new Iterator<Instant>() {
+            private int index;
+            public boolean hasNext() {
+                return index < size;
+            }
+            public Instant next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size " + size);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the instants as a {@code String}, such as {@code [2012-06-30T12:30:40Z]}.
+     *
+     * @return a string representation of the instants, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(Math.min(size, 1024) * 24 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
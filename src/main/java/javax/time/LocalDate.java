@@ -98,19 +98,9 @@ public final class LocalDate
      */
     private static final long serialVersionUID = 1L;
     /**
-     * The number of days in a 400 year cycle.
+     * The number of days from the Modified Julian Day epoch of 1858-11-17 to 1970-01-01.
      */
-    private static final int DAYS_PER_CYCLE = 146097;
-    /**
-     * The number of days from year zero to year 1970.
-     * There are five 400 year cycles from year zero to 2000.
-     * There are 7 leap years from 1970 to 2000.
-     */
-    static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
-    /**
-     * The number of days from year zero to the Modified Julian Day epoch of 1858-11-17.
-     */
-    private static final long DAYS_0000_TO_MJD_EPOCH = 678941;
+    private static final long DAYS_MJD_EPOCH_TO_1970 = 40587;
 
     /**
      * The year.
@@ -167,8 +157,7 @@ public final class LocalDate
         final Instant now = clock.instant();  // called once
         ZoneOffset offset = clock.getZone().getRules().getOffset(now);
         long epochSec = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long yearZeroDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY) + DAYS_0000_TO_1970;
-        return LocalDate.ofYearZeroDay(yearZeroDay);
+        return LocalDate.ofEpochDay(MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY));
     }
 
     //-----------------------------------------------------------------------
@@ -229,13 +218,7 @@ public final class LocalDate
         if (dayOfYear == 366 && leap == false) {
             throw new InvalidCalendarFieldException("Invalid date 'DayOfYear 366' as '" + year + "' is not a leap year", DAY_OF_YEAR);
         }
-        MonthOfYear moy = MonthOfYear.of((dayOfYear - 1) / 31 + 1);
-        int monthEnd = moy.getMonthEndDayOfYear(leap);
-        if (dayOfYear > monthEnd) {
-            moy = moy.next();
-        }
-        int dom = dayOfYear - moy.getMonthStartDayOfYear(leap) + 1;
-        return create(year, moy, dom);
+        return ofPackedDate(EpochDayEngine.toPackedDate(year, leap, dayOfYear));
     }
 
     //-----------------------------------------------------------------------
@@ -250,7 +233,7 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
-        return ofYearZeroDay(epochDay + DAYS_0000_TO_1970);
+        return ofPackedDate(EpochDayEngine.toPackedDate(epochDay));
     }
 
     /**
@@ -264,48 +247,18 @@ public final class LocalDate
      * @throws IllegalCalendarFieldValueException if the modified julian days value is outside the supported range
      */
     public static LocalDate ofModifiedJulianDay(long mjDay) {
-        return ofYearZeroDay(mjDay + DAYS_0000_TO_MJD_EPOCH);
+        return ofEpochDay(mjDay - DAYS_MJD_EPOCH_TO_1970);
     }
 
     /**
-     * Converts a year zero day count to a date.
-     * <p>
-     * The year zero day count is a simple incrementing count of days
-     * where day 0 is 0000-01-01. Negative numbers represent earlier days.
+     * Creates a date from a packed date produced by {@link EpochDayEngine}.
      *
-     * @param zeroDay  the Year zero Day to convert, based on the epoch 0000-01-01
+     * @param packedDate  the packed date, with a validated year
      * @return the local date, not null
-     * @throws IllegalCalendarFieldValueException if the epoch days exceeds the supported date range
      */
-    static LocalDate ofYearZeroDay(long zeroDay) {
-        // find the march-based year
-        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
-        long adjust = 0;
-        if (zeroDay < 0) {
-            // adjust negative years to positive for calculation
-            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
-            adjust = adjustCycles * 400;
-            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
-        }
-        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
-        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
-        if (doyEst < 0) {
-            // fix estimate
-            yearEst--;
-            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
-        }
-        yearEst += adjust;  // reset any negative year
-        int marchDoy0 = (int) doyEst;
-        
-        // convert march-based values back to january-based
-        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
-        int month = (marchMonth0 + 2) % 12 + 1;
-        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
-        yearEst += marchMonth0 / 10;
-        
-        // check year now we are certain it is correct
-        int year = YEAR.checkValidIntValue(yearEst);
-        return new LocalDate(year, MonthOfYear.of(month), dom);
+    private static LocalDate ofPackedDate(long packedDate) {
+        return new LocalDate(EpochDayEngine.packedYear(packedDate),
+                MonthOfYear.of(EpochDayEngine.packedMonth(packedDate)), EpochDayEngine.packedDay(packedDate));
     }
 
     //-----------------------------------------------------------------------
@@ -905,8 +858,11 @@ public final class LocalDate
         if (days == 0) {
             return this;
         }
-        long mjDay = MathUtils.safeAdd(toModifiedJulianDay(), days);
-        return LocalDate.ofModifiedJulianDay(mjDay);
+        long dom = day + days;
+        if (dom > 0 && dom <= 28) {
+            return new LocalDate(year, month, (int) dom);  // same month, valid in all months
+        }
+        return LocalDate.ofEpochDay(MathUtils.safeAdd(toEpochDay(), days));
     }
 
     //-----------------------------------------------------------------------
@@ -1121,8 +1077,11 @@ public final class LocalDate
         if (days == 0) {
             return this;
         }
-        long mjDay = MathUtils.safeSubtract(toModifiedJulianDay(), days);
-        return LocalDate.ofModifiedJulianDay(mjDay);
+        long dom = day - days;
+        if (dom > 0 && dom <= 28) {
+            return new LocalDate(year, month, (int) dom);  // same month, valid in all months
+        }
+        return LocalDate.ofEpochDay(MathUtils.safeSubtract(toEpochDay(), days));
     }
 
     //-----------------------------------------------------------------------
@@ -1287,7 +1246,7 @@ public final class LocalDate
      * @return the Epoch Day equivalent to this date
      */
     public long toEpochDay() {
-        return toYearZeroDay() - DAYS_0000_TO_1970;
+        return EpochDayEngine.toEpochDay(year, month.getValue(), day);
     }
 
     /**
@@ -1299,36 +1258,7 @@ public final class LocalDate
      * @return the Modified Julian Day equivalent to this date
      */
     public long toModifiedJulianDay() {
-        return toYearZeroDay() - DAYS_0000_TO_MJD_EPOCH;
-    }
-
-    /**
-     * Converts this {@code LocalDate} to year zero days.
-     * <p>
-     * The year zero day count is a simple incrementing count of days
-     * where day 0 is 0000-01-01.
-     *
-     * @return the year zero days count equal to this date
-     */
-    long toYearZeroDay() {
-        long y = year;
-        long m = month.getValue();
-        long total = 0;
-        total += 365 * y;
-        if (y >= 0) {
-            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
-        } else {
-            total -= y / -4 - y / -100 + y / -400;
-        }
-        total += ((367 * m - 362) / 12);
-        total += day - 1;
-        if (m > 2) {
-            total--;
-            if (isLeapYear() == false) {
-                total--;
-            }
-        }
-        return total;
+        return toEpochDay() + DAYS_MJD_EPOCH_TO_1970;
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable sequence of dates held in a primitive column.
+ * <p>
+ * Each date is stored as an {@code int} epoch-day, rather than as a {@code LocalDate}
+ * object referenced from a list.
+ * This uses 4 bytes per element, which matters when holding tens of millions of dates.
+ * {@code LocalDate} objects are only created when requested, such as by {@link #get(int)}
+ * or during iteration.
+ * <p>
+ * The epoch-day must fit in an {@code int}, which covers years from approximately
+ * -5,877,000 to 5,881,000, all of which are valid dates.
+ * Dates outside this range cannot be added.
+ * <p>
+ * The sequence can be {@link #sort() sorted} and then {@link #binarySearch(LocalDate) searched}.
+ * <p>
+ * This class is mutable and intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+public final class LocalDateArray implements Iterable<LocalDate> {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The epoch-day column.
+     */
+    private int[] epochDays;
+    /**
+     * The number of dates.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code LocalDateArray} containing the specified dates.
+     *
+     * @param dates  the dates to add, no nulls, not null
+     * @return the array of dates, not null
+     * @throws CalendricalException if a date is outside the supported range
+     */
+    public static LocalDateArray of(LocalDate... dates) {
+        MathUtils.checkNotNull(dates, "LocalDate array must not be null");
+        LocalDateArray array = new LocalDateArray(dates.length);
+        for (LocalDate date : dates) {
+            array.add(date);
+        }
+        return array;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an empty instance with a default capacity.
+     */
+    public LocalDateArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty instance with the specified capacity.
+     *
+     * @param initialCapacity  the initial capacity, not negative
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public LocalDateArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.epochDays = new int[initialCapacity];
+    }
+
+    /**
+     * Constructs an instance from a column.
+     *
+     * @param epochDays  the epoch-days, assigned not cloned, not null
+     */
+    private LocalDateArray(int[] epochDays) {
+        this.epochDays = epochDays;
+        this.size = epochDays.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of dates.
+     *
+     * @return the number of dates, not negative
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there are no dates.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the date at the specified index, creating a {@code LocalDate}.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate get(int index) {
+        checkIndex(index);
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Gets the epoch-day of the date at the specified index.
+     *
+     * @param index  the index, from zero to size exclusive
+     * @return the epoch-day, where day 0 is 1970-01-01
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEpochDay(int index) {
+        checkIndex(index);
+        return epochDays[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a date to the end of the sequence.
+     *
+     * @param date  the date to add, not null
+     * @throws CalendricalException if the date is outside the supported range
+     */
+    public void add(LocalDate date) {
+        MathUtils.checkNotNull(date, "LocalDate must not be null");
+        addEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * Adds a date to the end of the sequence using the epoch-day.
+     *
+     * @param epochDay  the epoch-day, where day 0 is 1970-01-01
+     * @throws CalendricalException if the epoch-day is outside the supported range
+     */
+    public void addEpochDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new CalendricalException("Epoch-day " + epochDay + " is outside the range supported by LocalDateArray");
+        }
+        if (size == epochDays.length) {
+            epochDays = Arrays.copyOf(epochDays, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        epochDays[size++] = (int) epochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts the dates into ascending order.
+     * <p>
+     * The sort is performed in place without creating {@code LocalDate} objects.
+     */
+    public void sort() {
+        Arrays.sort(epochDays, 0, size);
+    }
+
+    /**
+     * Searches the sorted dates for the specified date.
+     * <p>
+     * The dates must be sorted, otherwise the result is undefined.
+     * If the date occurs more than once, there is no guarantee which index is found.
+     *
+     * @param date  the date to search for, not null
+     * @return the index of the date if found, otherwise {@code (-(insertion point) - 1)}
+     *  as per {@link Arrays#binarySearch(int[], int)}
+     */
+    public int binarySearch(LocalDate date) {
+        MathUtils.checkNotNull(date, "LocalDate must not be null");
+        long epochDay = date.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE) {
+            return -1;
+        }
+        if (epochDay > Integer.MAX_VALUE) {
+            return -(size + 1);
+        }
+        return Arrays.binarySearch(epochDays, 0, size, (int) epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of a range of the dates.
+     * <p>
+     * The result is independent of this sequence.
+     *
+     * @param fromIndex  the first index, inclusive
+     * @param toIndex  the last index, exclusive
+     * @return the dates in the range, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    public LocalDateArray slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex + ", size " + size);
+        }
+        return new LocalDateArray(Arrays.copyOfRange(epochDays, fromIndex, toIndex));
+    }
+
+    /**
+     * Returns an iterator over the dates, creating each {@code LocalDate} as it is returned.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<LocalDate> iterator() {
+        return new Iterator<LocalDate>() {
+            private int index;
+            public boolean hasNext() {
+                return index < size;
+            }
+            public LocalDate next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size " + size);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the dates as a {@code String}, such as {@code [2012-06-30]}.
+     *
+     * @return a string representation of the dates, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(Math.min(size, 1024) * 12 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
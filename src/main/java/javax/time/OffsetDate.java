@@ -191,8 +191,7 @@ public final class OffsetDate
         MathUtils.checkNotNull(instant, "Instant must not be null");
         MathUtils.checkNotNull(offset, "ZoneOffset must not be null");
         long epochSec = instant.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long yearZeroDay = MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY) + LocalDate.DAYS_0000_TO_1970;
-        LocalDate date = LocalDate.ofYearZeroDay(yearZeroDay);
+        LocalDate date = LocalDate.ofEpochDay(MathUtils.floorDiv(epochSec, MathUtils.SECONDS_PER_DAY));
         return new OffsetDate(date, offset);
     }
 
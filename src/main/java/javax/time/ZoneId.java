@@ -36,12 +36,17 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -51,6 +56,7 @@ import javax.time.calendrical.CalendricalRule;
 import javax.time.format.TextStyle;
 import javax.time.zone.ZoneOffsetInfo;
 import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneOffsetTransitionCursor;
 import javax.time.zone.ZoneOffsetTransitionRule;
 import javax.time.zone.ZoneRules;
 import javax.time.zone.ZoneRulesGroup;
@@ -125,6 +131,33 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * The group:region#version ID pattern.
      */
     private static final Pattern PATTERN = Pattern.compile("(([A-Za-z0-9._-]+)[:])?([A-Za-z0-9%@~/+._-]+)([#]([A-Za-z0-9._-]+))?");
+    /**
+     * The maximum number of identifiers to cache.
+     */
+    private static final int MAX_CACHED_IDS = 2000;
+    /**
+     * Cache of validated identifiers to zone IDs.
+     * IDs cannot be deregistered, so a valid identifier remains valid.
+     * The cache is cleared when full, so that new identifiers continue to be cached.
+     */
+    private static final ConcurrentMap<String, ZoneId> ID_CACHE = new ConcurrentHashMap<String, ZoneId>(256, 0.75f, 4);
+    /**
+     * The number of cache hit counter stripes, a power of two.
+     */
+    private static final int HIT_STRIPES = 16;
+    /**
+     * The spacing between cache hit counter stripes, keeping each on its own cache line.
+     */
+    private static final int HIT_STRIPE_SPACING = 8;
+    /**
+     * The number of lookups found in the cache, striped by thread to avoid
+     * contention between threads on the hit path.
+     */
+    private static final AtomicLongArray CACHE_HITS = new AtomicLongArray(HIT_STRIPES * HIT_STRIPE_SPACING);
+    /**
+     * The number of lookups not found in the cache.
+     */
+    private static final AtomicLong CACHE_MISSES = new AtomicLong();
     /**
      * Serialization version.
      */
@@ -335,13 +368,27 @@ public abstract class ZoneId implements Calendrical, Serializable {
      * <p>
      * Note that it is intended that fixed offset time-zones are rarely used. Applications should use
      * {@link ZoneOffset} and {@link OffsetDateTime} in preference.
+     * <p>
+     * Valid identifiers are cached, thus the same identifier will typically return the same instance.
      *
      * @param zoneID  the time-zone identifier, not null
      * @return the zone ID, not null
      * @throws CalendricalException if the zone ID cannot be found
      */
     public static ZoneId of(String zoneID) {
-        return ofID(zoneID, true);
+        MathUtils.checkNotNull(zoneID, "Time zone ID must not be null");
+        ZoneId zone = ID_CACHE.get(zoneID);
+        if (zone != null) {
+            CACHE_HITS.incrementAndGet(((int) Thread.currentThread().getId() & (HIT_STRIPES - 1)) * HIT_STRIPE_SPACING);
+            return zone;
+        }
+        CACHE_MISSES.incrementAndGet();
+        zone = ofID(zoneID, true);
+        if (ID_CACHE.size() >= MAX_CACHED_IDS) {
+            ID_CACHE.clear();
+        }
+        ID_CACHE.putIfAbsent(zoneID, zone);
+        return zone;
     }
 
     /**
@@ -389,6 +436,14 @@ public abstract class ZoneId implements Calendrical, Serializable {
             }
         }
         
+        // plain region IDs, such as 'Europe/London', avoiding the regex
+        if (isRegionID(zoneID)) {
+            if (checkAvailable && ZoneRulesGroup.getGroup("TZDB").isValidRegionID(zoneID) == false) {
+                throw new CalendricalException("Unknown time-zone region: TZDB:" + zoneID);
+            }
+            return new ID("TZDB", zoneID, "");
+        }
+        
         // normal non-fixed IDs
         Matcher matcher = PATTERN.matcher(zoneID);
         if (matcher.matches() == false) {
@@ -414,6 +469,60 @@ public abstract class ZoneId implements Calendrical, Serializable {
         return new ID(groupID, regionID, versionID);
     }
 
+    /**
+     * Checks if the identifier is a plain region ID, with no group or version.
+     * <p>
+     * This is equivalent to matching the region part of the regular expression.
+     *
+     * @param zoneID  the time-zone identifier, not null
+     * @return true if the identifier only contains region ID characters
+     */
+    private static boolean isRegionID(String zoneID) {
+        int length = zoneID.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char ch = zoneID.charAt(i);
+            if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9')) {
+                continue;
+            }
+            switch (ch) {
+                case '%': case '@': case '~': case '/': case '+': case '.': case '_': case '-':
+                    continue;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of {@link #of(String)} lookups that were found in the cache.
+     * <p>
+     * This is intended for testing and is incremented concurrently.
+     *
+     * @return the number of cache hits since the class was loaded
+     */
+    static long getCacheHitCount() {
+        long total = 0;
+        for (int i = 0; i < HIT_STRIPES; i++) {
+            total += CACHE_HITS.get(i * HIT_STRIPE_SPACING);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of {@link #of(String)} lookups that were not found in the cache.
+     * <p>
+     * This includes lookups of invalid identifiers, which are never cached.
+     *
+     * @return the number of cache misses since the class was loaded
+     */
+    static long getCacheMissCount() {
+        return CACHE_MISSES.get();
+    }
+
     /**
      * Obtains an instance of {@code ZoneId} representing a fixed time-zone.
      * <p>
@@ -836,6 +945,8 @@ public abstract class ZoneId implements Calendrical, Serializable {
         private final String regionID;
         /** The time-zone version ID, not null. */
         private final String versionID;
+        /** The cached rules, null until first resolved. */
+        private transient volatile RulesBinding rules;
 
         /**
          * Constructor.
@@ -948,13 +1059,28 @@ public abstract class ZoneId implements Calendrical, Serializable {
             return ZoneRulesGroup.isValidGroupID(groupID) && getGroup().isValidRules(regionID, versionID);
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The rules are cached until another provider is registered,
+         * as that may add a later version of the rules for a floating version ID.
+         */
         @Override
         public ZoneRules getRules() {
+            int registrationCount = ZoneRulesGroup.getRegistrationCount();
+            RulesBinding binding = rules;
+            if (binding != null && binding.registrationCount == registrationCount) {
+                return binding.rules;
+            }
             ZoneRulesGroup group = getGroup();
+            ZoneRules resolved;
             if (isFloatingVersion()) {
-                return group.getRules(regionID, group.getLatestVersionID(regionID));
+                resolved = group.getRules(regionID, group.getLatestVersionID(regionID));
+            } else {
+                resolved = group.getRules(regionID, versionID);
             }
-            return group.getRules(regionID, versionID);
+            rules = new RulesBinding(registrationCount, resolved);
+            return resolved;
         }
 
         @Override
@@ -981,6 +1107,30 @@ public abstract class ZoneId implements Calendrical, Serializable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The rules resolved for an ID based time-zone, as of a registration count.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    private static final class RulesBinding {
+        /** The registration count that the rules were resolved at. */
+        final int registrationCount;
+        /** The resolved rules, not null. */
+        final ZoneRules rules;
+
+        /**
+         * Constructor.
+         *
+         * @param registrationCount  the registration count, obtained before resolving
+         * @param rules  the resolved rules, not null
+         */
+        private RulesBinding(int registrationCount, ZoneRules rules) {
+            this.registrationCount = registrationCount;
+            this.rules = rules;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fixed time-zone.
@@ -1115,11 +1265,26 @@ public abstract class ZoneId implements Calendrical, Serializable {
             return offsetInfo.getOffset();
         }
 
+        @Override
+        public int getOffsetSeconds(long epochSecond) {
+            return offsetInfo.getOffset().getTotalSeconds();
+        }
+
         @Override
         public ZoneOffsetInfo getOffsetInfo(LocalDateTime dateTime) {
             return offsetInfo;
         }
 
+        @Override
+        public int getOffsetInfoSeconds(long localEpochSecond, int[] offsetSeconds) {
+            MathUtils.checkNotNull(offsetSeconds, "Offset seconds array must not be null");
+            if (offsetSeconds.length < 2) {
+                throw new IllegalArgumentException("Offset seconds array must have a length of at least 2");
+            }
+            offsetSeconds[0] = offsetSeconds[1] = offsetInfo.getOffset().getTotalSeconds();
+            return 1;
+        }
+
         @Override
         public boolean isValidDateTime(OffsetDateTime dateTime) {
             return dateTime.getOffset().equals(offsetInfo.getOffset());
@@ -1152,6 +1317,23 @@ public abstract class ZoneId implements Calendrical, Serializable {
             return null;
         }
 
+        @Override
+        public ZoneOffsetTransitionCursor transitionCursor(Instant instant) {
+            List<ZoneOffsetTransition> transitions = Collections.emptyList();
+            List<ZoneOffsetTransitionRule> rules = Collections.emptyList();
+            return ZoneOffsetTransitionCursor.of(transitions, rules, instant);
+        }
+
+        @Override
+        public List<ZoneOffsetTransition> getTransitions(Instant startInclusive, Instant endExclusive) {
+            MathUtils.checkNotNull(startInclusive, "Start instant must not be null");
+            MathUtils.checkNotNull(endExclusive, "End instant must not be null");
+            if (endExclusive.isBefore(startInclusive)) {
+                throw new IllegalArgumentException("End instant must not be before start instant");
+            }
+            return new ArrayList<ZoneOffsetTransition>();
+        }
+
         @Override
         public List<ZoneOffsetTransition> getTransitions() {
             return Collections.emptyList();
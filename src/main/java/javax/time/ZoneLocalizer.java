@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import javax.time.zone.ZoneOffsetTransitionCursor;
+import javax.time.zone.ZoneRules;
+
+/**
+ * Converts a stream of instants to the local date-time in a single time-zone.
+ * <p>
+ * {@link ZonedDateTime#ofInstant(Instant, ZoneId)} looks up the offset afresh for
+ * each instant, searching the transitions of the zone every time.
+ * When processing instants in time order, such as log entries or time-series
+ * data, consecutive instants almost always share the same offset.
+ * This class remembers the period between two transitions during which the current
+ * offset is valid, so an instant within that period only requires a bounds check.
+ * When an instant is beyond the end of the period, the localizer moves to the next
+ * transition, only searching the transitions again if the instant is further away.
+ * <p>
+ * Instants may be supplied in any order, however the best performance is obtained
+ * when they are in ascending order.
+ * The rules of the zone are obtained when the localizer is created, thus a
+ * floating version zone will not pick up rules that are updated later.
+ * <p>
+ * This class is mutable and intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+public final class ZoneLocalizer {
+
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The rules of the time-zone.
+     */
+    private final ZoneRules rules;
+    /**
+     * The cursor positioned on the transition at the end of the current period,
+     * null if not yet positioned.
+     */
+    private ZoneOffsetTransitionCursor cursor;
+    /**
+     * The offset valid during the current period, null if not yet positioned.
+     */
+    private ZoneOffset offset;
+    /**
+     * The epoch-second at the start of the current period, inclusive.
+     */
+    private long periodStart;
+    /**
+     * The epoch-second at the end of the current period, exclusive.
+     */
+    private long periodEnd;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code ZoneLocalizer} for the specified time-zone.
+     *
+     * @param zone  the time-zone, not null
+     * @return the localizer, not null
+     * @throws CalendricalException if the time-zone rules cannot be found
+     */
+    public static ZoneLocalizer of(ZoneId zone) {
+        MathUtils.checkNotNull(zone, "ZoneId must not be null");
+        return new ZoneLocalizer(zone, zone.getRules());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param zone  the time-zone, not null
+     * @param rules  the rules of the time-zone, not null
+     */
+    private ZoneLocalizer(ZoneId zone, ZoneRules rules) {
+        this.zone = zone;
+        this.rules = rules;
+        if (rules.isFixedOffset()) {
+            offset = rules.getOffset(Instant.EPOCH);
+            periodStart = Long.MIN_VALUE;
+            periodEnd = Long.MAX_VALUE;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the time-zone that this localizer converts to.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offset of the time-zone at the specified instant.
+     * <p>
+     * This returns the same result as {@link ZoneRules#getOffset(Instant)}.
+     *
+     * @param instant  the instant to find the offset for, not null
+     * @return the offset, not null
+     */
+    public ZoneOffset getOffset(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        return findOffset(instant.getEpochSecond());
+    }
+
+    /**
+     * Gets the offset of the time-zone at the specified epoch-second, in seconds.
+     * <p>
+     * This returns the same result as {@link ZoneRules#getOffsetSeconds(long)},
+     * and does not allocate while the epoch-second is within the current period
+     * or the one following it.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the total offset in seconds
+     */
+    public int getOffsetSeconds(long epochSecond) {
+        return findOffset(epochSecond).getTotalSeconds();
+    }
+
+    /**
+     * Converts the specified instant to a {@code ZonedDateTime} in the time-zone.
+     * <p>
+     * This returns the same result as {@link ZonedDateTime#ofInstant(Instant, ZoneId)}.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the zoned date-time, not null
+     * @throws CalendricalException if the result exceeds the supported range
+     */
+    public ZonedDateTime localize(Instant instant) {
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        return ZonedDateTime.create(instant, findOffset(instant.getEpochSecond()), zone);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the offset at the specified epoch-second, moving the current period if necessary.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the offset, not null
+     */
+    private ZoneOffset findOffset(long epochSecond) {
+        if (epochSecond >= periodStart && epochSecond < periodEnd) {
+            return offset;
+        }
+        if (epochSecond >= periodEnd && cursor != null) {
+            // step to the following period, the usual case for ascending instants
+            ZoneOffset offsetAfter = cursor.getOffsetAfter();
+            long start = periodEnd;
+            long end = (cursor.next() ? cursor.getEpochSecond() : Long.MAX_VALUE);
+            if (epochSecond < end) {
+                offset = offsetAfter;
+                periodStart = start;
+                periodEnd = end;
+                return offset;
+            }
+        }
+        // the start of the period is not known, so the period starts at the instant
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        offset = rules.getOffset(instant);
+        cursor = rules.transitionCursor(instant);
+        periodStart = epochSecond;
+        periodEnd = (cursor.next() ? cursor.getEpochSecond() : Long.MAX_VALUE);
+        return offset;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the localizer as a {@code String}.
+     *
+     * @return a string representation of this localizer, not null
+     */
+    @Override
+    public String toString() {
+        return "ZoneLocalizer[" + zone + "]";
+    }
+
+}
@@ -32,8 +32,7 @@
 package javax.time;
 
 import java.io.Serializable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -77,15 +76,35 @@ import javax.time.calendrical.PeriodProvider;
 public final class ZoneOffset
         implements Calendrical, Comparable<ZoneOffset>, Serializable {
 
-    /** Cache of time-zone offset by offset in seconds. */
-    private static final ConcurrentMap<Integer, ZoneOffset> SECONDS_CACHE = new ConcurrentHashMap<Integer, ZoneOffset>(16, 0.75f, 4);
-    /** Cache of time-zone offset by id. */
-    private static final ConcurrentMap<String, ZoneOffset> ID_CACHE = new ConcurrentHashMap<String, ZoneOffset>(16, 0.75f, 4);
+    /**
+     * The number of seconds per quarter hour.
+     */
+    private static final int SECONDS_PER_QUARTER = 15 * 60;
+    /**
+     * The number of quarter hours from -18:00 to +18:00.
+     */
+    private static final int QUARTERS = 2 * 18 * 4;
+    /**
+     * Table of every quarter hour offset, indexed by quarters from -18:00.
+     */
+    private static final ZoneOffset[] QUARTER_CACHE = new ZoneOffset[QUARTERS + 1];
+    static {
+        for (int i = 0; i <= QUARTERS; i++) {
+            QUARTER_CACHE[i] = new ZoneOffset((i - QUARTERS / 2) * SECONDS_PER_QUARTER);
+        }
+    }
+    /**
+     * Table of offsets that are not a whole quarter hour, indexed by quarters from -18:00
+     * and then by second within the quarter.
+     * The second level arrays are created when first needed, as the full table is large and
+     * only a few such offsets, typically local mean time, are ever used.
+     */
+    private static final AtomicReferenceArray<ZoneOffset[]> SECONDS_CACHE = new AtomicReferenceArray<ZoneOffset[]>(QUARTERS);
 
     /**
      * The time-zone offset for UTC, with an id of 'Z'.
      */
-    public static final ZoneOffset UTC = ofHoursMinutesSeconds(0, 0, 0);
+    public static final ZoneOffset UTC = QUARTER_CACHE[QUARTERS / 2];
     /**
      * The number of seconds per hour.
      */
@@ -159,16 +178,15 @@ public final class ZoneOffset
         if (offsetID == null) {
             throw new NullPointerException("The offset ID must not be null");
         }
-        // "Z" is always in the cache
-        ZoneOffset offset = ID_CACHE.get(offsetID);
-        if (offset != null) {
-            return offset;
-        }
-        
-        // parse - +hh, +hhmm, +hh:mm, +hhmmss, +hh:mm:ss
+        // parse - Z, +hh, +hhmm, +hh:mm, +hhmmss, +hh:mm:ss
         final int hours, minutes, seconds;
         int len = offsetID.length();
         switch (len) {
+            case 1:
+                if (offsetID.charAt(0) != 'Z') {
+                    throw new IllegalArgumentException("Zone offset id '" + offsetID + "' is invalid");
+                }
+                return UTC;
             case 3:
                 hours = parseNumber(offsetID, 1, false);
                 minutes = 0;
@@ -377,19 +395,24 @@ public final class ZoneOffset
         if (Math.abs(totalSeconds) > MAX_SECONDS) {
             throw new IllegalArgumentException("Zone offset not in valid range: -18:00 to +18:00");
         }
-        if (totalSeconds % (15 * SECONDS_PER_MINUTE) == 0) {
-            Integer totalSecs = totalSeconds;
-            ZoneOffset result = SECONDS_CACHE.get(totalSecs);
-            if (result == null) {
-                result = new ZoneOffset(totalSeconds);
-                SECONDS_CACHE.putIfAbsent(totalSecs, result);
-                result = SECONDS_CACHE.get(totalSecs);
-                ID_CACHE.putIfAbsent(result.getID(), result);
-            }
-            return result;
-        } else {
-            return new ZoneOffset(totalSeconds);
+        int index = totalSeconds + MAX_SECONDS;
+        int quarter = index / SECONDS_PER_QUARTER;
+        int secondOfQuarter = index % SECONDS_PER_QUARTER;
+        if (secondOfQuarter == 0) {
+            return QUARTER_CACHE[quarter];
+        }
+        ZoneOffset[] seconds = SECONDS_CACHE.get(quarter);
+        if (seconds == null) {
+            SECONDS_CACHE.compareAndSet(quarter, null, new ZoneOffset[SECONDS_PER_QUARTER]);
+            seconds = SECONDS_CACHE.get(quarter);
+        }
+        ZoneOffset result = seconds[secondOfQuarter];
+        if (result == null) {
+            // a race may create an equal instance, which is harmless as the state is final
+            result = new ZoneOffset(totalSeconds);
+            seconds[secondOfQuarter] = result;
         }
+        return result;
     }
 
     //-----------------------------------------------------------------------
@@ -85,13 +85,19 @@ public final class ZonedDateTime
 
     /**
      * Serialization version.
+     * Changed when the date-time was split into the local date-time and offset,
+     * as the serialized form is incompatible.
      */
-    private static final long serialVersionUID = -456761901L;
+    private static final long serialVersionUID = 6260982410461394882L;
 
     /**
-     * The offset date-time.
+     * The local date-time.
      */
-    private final OffsetDateTime dateTime;
+    private final LocalDateTime dateTime;
+    /**
+     * The zone offset.
+     */
+    private final ZoneOffset offset;
     /**
      * The time-zone.
      */
@@ -426,8 +432,24 @@ public final class ZonedDateTime
         MathUtils.checkNotNull(instant, "Instant must not be null");
         MathUtils.checkNotNull(zone, "ZoneId must not be null");
         ZoneRules rules = zone.getRules();  // latest rules version
-        OffsetDateTime offsetDT = OffsetDateTime.ofInstant(instant, rules.getOffset(instant));
-        return new ZonedDateTime(offsetDT, zone);
+        ZoneOffset offset = rules.getOffset(instant);
+        return create(instant, offset, zone);
+    }
+
+    /**
+     * Obtains an instance of {@code ZonedDateTime} from an instant and the
+     * offset that the zone has at that instant.
+     *
+     * @param instant  the instant, validated as not null
+     * @param offset  the offset of the zone at the instant, validated as not null
+     * @param zone  the time-zone, validated as not null
+     * @return the zoned date-time, not null
+     * @throws CalendricalException if the result exceeds the supported range
+     */
+    static ZonedDateTime create(Instant instant, ZoneOffset offset, ZoneId zone) {
+        long localSeconds = instant.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
+        LocalDateTime ldt = LocalDateTime.create(localSeconds, instant.getNanoOfSecond());
+        return new ZonedDateTime(ldt, offset, zone);
     }
 
     /**
@@ -573,9 +595,17 @@ public final class ZonedDateTime
         MathUtils.checkNotNull(zone, "ZoneId must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
         ZoneRules rules = zone.getRules();
-        OffsetDateTime offsetDT = resolver.resolve(desiredLocalDateTime, rules.getOffsetInfo(desiredLocalDateTime), rules, zone,
+        if (zone.isFixedOffset() && (resolver == ZoneResolvers.retainOffset() || resolver == ZoneResolvers.postGapPreOverlap())) {
+            // a fixed offset has no gaps or overlaps, thus the standard resolvers always select the offset
+            return new ZonedDateTime(desiredLocalDateTime, rules.getOffsetInfo(desiredLocalDateTime).getOffset(), zone);
+        }
+        ZoneOffsetInfo info = rules.getOffsetInfo(desiredLocalDateTime);
+        OffsetDateTime offsetDT = resolver.resolve(desiredLocalDateTime, info, rules, zone,
                 oldDateTime != null ? oldDateTime.toOffsetDateTime() : null);
-        if (zone.isValidFor(offsetDT) == false) {
+        // the info validates the usual result, avoiding a search of the rule versions
+        boolean valid = offsetDT != null && offsetDT.toLocalDateTime().equals(desiredLocalDateTime) &&
+                info.isValidOffset(offsetDT.getOffset());
+        if (valid == false && zone.isValidFor(offsetDT) == false) {
             throw new CalendricalException(
                     "ZoneResolver implementation must return a valid date-time and offset for the zone: " + resolver.getClass().getName());
         }
@@ -590,7 +620,22 @@ public final class ZonedDateTime
      * @param zone  the time-zone, validated as not null
      */
     private ZonedDateTime(OffsetDateTime dateTime, ZoneId zone) {
+        this(dateTime.toLocalDateTime(), dateTime.getOffset(), zone);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The local date-time and offset are held directly, rather than as an
+     * {@code OffsetDateTime}, to reduce the number of objects per instance.
+     *
+     * @param dateTime  the local date-time, validated as not null
+     * @param offset  the zone offset, validated as not null
+     * @param zone  the time-zone, validated as not null
+     */
+    private ZonedDateTime(LocalDateTime dateTime, ZoneOffset offset, ZoneId zone) {
         this.dateTime = dateTime;
+        this.offset = offset;
         this.zone = zone;
     }
 
@@ -615,7 +660,7 @@ public final class ZonedDateTime
                 case ISOCalendricalRule.LOCAL_DATE_TIME_ORDINAL: return (T) toLocalDateTime();
                 case ISOCalendricalRule.OFFSET_DATE_ORDINAL: return (T) toOffsetDate();
                 case ISOCalendricalRule.OFFSET_TIME_ORDINAL: return (T) toOffsetTime();
-                case ISOCalendricalRule.OFFSET_DATE_TIME_ORDINAL: return (T) dateTime;
+                case ISOCalendricalRule.OFFSET_DATE_TIME_ORDINAL: return (T) toOffsetDateTime();
                 case ISOCalendricalRule.ZONED_DATE_TIME_ORDINAL: return (T) this;
                 case ISOCalendricalRule.ZONE_OFFSET_ORDINAL: return (T) getOffset();
                 case ISOCalendricalRule.ZONE_ID_ORDINAL: return (T) getZone();
@@ -632,7 +677,7 @@ public final class ZonedDateTime
      * @return the zone offset, not null
      */
     public ZoneOffset getOffset() {
-        return dateTime.getOffset();
+        return offset;
     }
 
     /**
@@ -657,9 +702,8 @@ public final class ZonedDateTime
         ZoneOffsetInfo info = getApplicableRules().getOffsetInfo(toLocalDateTime());
         if (info.isTransition()) {
             ZoneOffset offset = info.getTransition().getOffsetBefore();
-            if (offset.equals(getOffset()) == false) {
-                OffsetDateTime newDT = dateTime.withOffsetSameLocal(offset);
-                return new ZonedDateTime(newDT, zone);
+            if (offset.equals(this.offset) == false) {
+                return new ZonedDateTime(dateTime, offset, zone);
             }
         }
         return this;
@@ -687,9 +731,8 @@ public final class ZonedDateTime
         ZoneOffsetInfo info = getApplicableRules().getOffsetInfo(toLocalDateTime());
         if (info.isTransition()) {
             ZoneOffset offset = info.getTransition().getOffsetAfter();
-            if (offset.equals(getOffset()) == false) {
-                OffsetDateTime newDT = dateTime.withOffsetSameLocal(offset);
-                return new ZonedDateTime(newDT, zone);
+            if (offset.equals(this.offset) == false) {
+                return new ZonedDateTime(dateTime, offset, zone);
             }
         }
         return this;
@@ -757,7 +800,7 @@ public final class ZonedDateTime
         MathUtils.checkNotNull(zone, "ZoneId must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
         return zone == this.zone ? this :
-            resolve(dateTime.toLocalDateTime(), zone, this, resolver);
+            resolve(dateTime, zone, this, resolver);
     }
 
     /**
@@ -778,7 +821,7 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported date range
      */
     public ZonedDateTime withZoneSameInstant(ZoneId zone) {
-        return zone == this.zone ? this : ofInstant(dateTime, zone);
+        return zone == this.zone ? this : ofInstant(toOffsetDateTime(), zone);
     }
 
     //-----------------------------------------------------------------------
@@ -804,7 +847,7 @@ public final class ZonedDateTime
      */
     public ZoneId getApplicableZone() {
         if (zone.isFloatingVersion()) {
-            return zone.withLatestVersionValidFor(dateTime);
+            return zone.withLatestVersionValidFor(toOffsetDateTime());
         }
         return zone;
     }
@@ -828,7 +871,7 @@ public final class ZonedDateTime
      * @throws CalendricalException if no rules are valid for this date-time
      */
     public ZoneRules getApplicableRules() {
-        return zone.getRulesValidFor(dateTime);
+        return zone.getRulesValidFor(toOffsetDateTime());
     }
 
     //-----------------------------------------------------------------------
@@ -1042,8 +1085,8 @@ public final class ZonedDateTime
     public ZonedDateTime with(DateAdjuster adjuster, ZoneResolver resolver) {
         MathUtils.checkNotNull(adjuster, "DateAdjuster must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
-        LocalDateTime newDT = dateTime.toLocalDateTime().with(adjuster);
-        return (newDT == dateTime.toLocalDateTime() ? this : resolve(newDT, zone, this, resolver));
+        LocalDateTime newDT = dateTime.with(adjuster);
+        return (newDT == dateTime ? this : resolve(newDT, zone, this, resolver));
     }
 
     //-----------------------------------------------------------------------
@@ -1089,8 +1132,8 @@ public final class ZonedDateTime
     public ZonedDateTime with(TimeAdjuster adjuster, ZoneResolver resolver) {
         MathUtils.checkNotNull(adjuster, "TimeAdjuster must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
-        LocalDateTime newDT = dateTime.toLocalDateTime().with(adjuster);
-        return (newDT == dateTime.toLocalDateTime() ? this : resolve(newDT, zone, this, resolver));
+        LocalDateTime newDT = dateTime.with(adjuster);
+        return (newDT == dateTime ? this : resolve(newDT, zone, this, resolver));
     }
 
     //-----------------------------------------------------------------------
@@ -1108,8 +1151,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the year value is invalid
      */
     public ZonedDateTime withYear(int year) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withYear(year);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withYear(year);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1126,8 +1169,8 @@ public final class ZonedDateTime
      * @return a {@code ZonedDateTime} based on this date-time with the requested month, not null
      */
     public ZonedDateTime with(MonthOfYear monthOfYear) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().with(monthOfYear);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.with(monthOfYear);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1145,8 +1188,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the month value is invalid
      */
     public ZonedDateTime withMonthOfYear(int monthOfYear) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withMonthOfYear(monthOfYear);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withMonthOfYear(monthOfYear);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1164,8 +1207,8 @@ public final class ZonedDateTime
      * @throws InvalidCalendarFieldException if the day-of-month is invalid for the month-year
      */
     public ZonedDateTime withDayOfMonth(int dayOfMonth) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withDayOfMonth(dayOfMonth);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withDayOfMonth(dayOfMonth);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1183,8 +1226,8 @@ public final class ZonedDateTime
      * @throws InvalidCalendarFieldException if the day-of-year is invalid for the year
      */
     public ZonedDateTime withDayOfYear(int dayOfYear) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withDayOfYear(dayOfYear);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withDayOfYear(dayOfYear);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1208,8 +1251,8 @@ public final class ZonedDateTime
      * @throws InvalidCalendarFieldException if the day-of-month is invalid for the month-year
      */
     public ZonedDateTime withDate(int year, int monthOfYear, int dayOfMonth) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withDate(year, monthOfYear, dayOfMonth);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withDate(year, monthOfYear, dayOfMonth);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1227,8 +1270,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the hour value is invalid
      */
     public ZonedDateTime withHourOfDay(int hourOfDay) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withHourOfDay(hourOfDay);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withHourOfDay(hourOfDay);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1245,8 +1288,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the minute value is invalid
      */
     public ZonedDateTime withMinuteOfHour(int minuteOfHour) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withMinuteOfHour(minuteOfHour);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withMinuteOfHour(minuteOfHour);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1263,8 +1306,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the second value is invalid
      */
     public ZonedDateTime withSecondOfMinute(int secondOfMinute) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withSecondOfMinute(secondOfMinute);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withSecondOfMinute(secondOfMinute);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1281,8 +1324,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if the nanos value is invalid
      */
     public ZonedDateTime withNanoOfSecond(int nanoOfSecond) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withNanoOfSecond(nanoOfSecond);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withNanoOfSecond(nanoOfSecond);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1305,8 +1348,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if any field value is invalid
      */
     public ZonedDateTime withTime(int hourOfDay, int minuteOfHour) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withTime(hourOfDay, minuteOfHour);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withTime(hourOfDay, minuteOfHour);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1325,8 +1368,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if any field value is invalid
      */
     public ZonedDateTime withTime(int hourOfDay, int minuteOfHour, int secondOfMinute) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withTime(hourOfDay, minuteOfHour, secondOfMinute);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withTime(hourOfDay, minuteOfHour, secondOfMinute);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1346,8 +1389,8 @@ public final class ZonedDateTime
      * @throws IllegalCalendarFieldValueException if any field value is invalid
      */
     public ZonedDateTime withTime(int hourOfDay, int minuteOfHour, int secondOfMinute, int nanoOfSecond) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().withTime(hourOfDay, minuteOfHour, secondOfMinute, nanoOfSecond);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.withTime(hourOfDay, minuteOfHour, secondOfMinute, nanoOfSecond);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1407,8 +1450,8 @@ public final class ZonedDateTime
     public ZonedDateTime plus(PeriodProvider periodProvider, ZoneResolver resolver) {
         MathUtils.checkNotNull(periodProvider, "PeriodProvider must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
-        LocalDateTime newDT = dateTime.toLocalDateTime().plus(periodProvider);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plus(periodProvider);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, resolver));
     }
 
@@ -1435,8 +1478,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusYears(long years) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusYears(years);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusYears(years);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1462,8 +1505,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusMonths(long months) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusMonths(months);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusMonths(months);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1486,8 +1529,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusWeeks(long weeks) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusWeeks(weeks);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusWeeks(weeks);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1510,8 +1553,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusDays(long days) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusDays(days);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusDays(days);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1538,8 +1581,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusHours(long hours) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusHours(hours);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusHours(hours);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1556,8 +1599,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusMinutes(long minutes) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusMinutes(minutes);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusMinutes(minutes);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1574,8 +1617,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusSeconds(long seconds) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusSeconds(seconds);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusSeconds(seconds);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1592,8 +1635,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime plusNanos(long nanos) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().plusNanos(nanos);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.plusNanos(nanos);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1729,8 +1772,8 @@ public final class ZonedDateTime
     public ZonedDateTime minus(PeriodProvider periodProvider, ZoneResolver resolver) {
         MathUtils.checkNotNull(periodProvider, "PeriodProvider must not be null");
         MathUtils.checkNotNull(resolver, "ZoneResolver must not be null");
-        LocalDateTime newDT = dateTime.toLocalDateTime().minus(periodProvider);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minus(periodProvider);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, resolver));
     }
 
@@ -1757,8 +1800,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusYears(long years) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusYears(years);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusYears(years);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1784,8 +1827,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusMonths(long months) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusMonths(months);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusMonths(months);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1808,8 +1851,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusWeeks(long weeks) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusWeeks(weeks);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusWeeks(weeks);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1832,8 +1875,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusDays(long days) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusDays(days);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusDays(days);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1860,8 +1903,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusHours(long hours) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusHours(hours);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusHours(hours);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1878,8 +1921,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusMinutes(long minutes) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusMinutes(minutes);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusMinutes(minutes);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1896,8 +1939,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusSeconds(long seconds) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusSeconds(seconds);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusSeconds(seconds);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -1914,8 +1957,8 @@ public final class ZonedDateTime
      * @throws CalendricalException if the result exceeds the supported range
      */
     public ZonedDateTime minusNanos(long nanos) {
-        LocalDateTime newDT = dateTime.toLocalDateTime().minusNanos(nanos);
-        return (newDT == dateTime.toLocalDateTime() ? this :
+        LocalDateTime newDT = dateTime.minusNanos(nanos);
+        return (newDT == dateTime ? this :
             resolve(newDT, zone, this, ZoneResolvers.retainOffset()));
     }
 
@@ -2002,7 +2045,7 @@ public final class ZonedDateTime
      * @return an Instant representing the same instant, not null
      */
     public Instant toInstant() {
-        return dateTime.toInstant();
+        return Instant.ofEpochSecond(toEpochSecond(), getNanoOfSecond());
     }
 
     /**
@@ -2029,7 +2072,7 @@ public final class ZonedDateTime
      * @return a LocalDateTime representing the fields of this date-time, not null
      */
     public LocalDateTime toLocalDateTime() {
-        return dateTime.toLocalDateTime();
+        return dateTime;
     }
 
     /**
@@ -2038,7 +2081,7 @@ public final class ZonedDateTime
      * @return a OffsetDate representing the date fields of this date-time, not null
      */
     public OffsetDate toOffsetDate() {
-        return dateTime.toOffsetDate();
+        return OffsetDate.of(dateTime.toLocalDate(), offset);
     }
 
     /**
@@ -2047,7 +2090,7 @@ public final class ZonedDateTime
      * @return a OffsetTime representing the time fields of this date-time, not null
      */
     public OffsetTime toOffsetTime() {
-        return dateTime.toOffsetTime();
+        return OffsetTime.of(dateTime.toLocalTime(), offset);
     }
 
     /**
@@ -2056,7 +2099,7 @@ public final class ZonedDateTime
      * @return a OffsetDateTime representing the fields of this date-time, not null
      */
     public OffsetDateTime toOffsetDateTime() {
-        return dateTime;
+        return OffsetDateTime.of(dateTime, offset);
     }
 
     //-----------------------------------------------------------------------
@@ -2069,7 +2112,10 @@ public final class ZonedDateTime
      * @return the number of seconds from the epoch of 1970-01-01T00:00:00Z
      */
     public long toEpochSecond() {
-        return dateTime.toEpochSecond();
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        long secs = epochDay * MathUtils.SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay();
+        secs -= offset.getTotalSeconds();
+        return secs;
     }
 
     //-----------------------------------------------------------------------
@@ -2085,7 +2131,18 @@ public final class ZonedDateTime
      * @throws NullPointerException if {@code other} is null
      */
     public int compareTo(ZonedDateTime other) {
-        int compare = dateTime.compareTo(other.dateTime);
+        int compare;
+        if (offset.equals(other.offset)) {
+            compare = dateTime.compareTo(other.dateTime);
+        } else {
+            compare = MathUtils.safeCompare(toEpochSecond(), other.toEpochSecond());
+            if (compare == 0) {
+                compare = MathUtils.safeCompare(getNanoOfSecond(), other.getNanoOfSecond());
+                if (compare == 0) {
+                    compare = dateTime.compareTo(other.dateTime);
+                }
+            }
+        }
         if (compare == 0) {
             compare = zone.getID().compareTo(other.zone.getID());
         }
@@ -2105,7 +2162,10 @@ public final class ZonedDateTime
      * @throws NullPointerException if {@code other} is null
      */
     public boolean isBefore(ZonedDateTime other) {
-        return dateTime.isBefore(other.dateTime);
+        long thisEpochSec = toEpochSecond();
+        long otherEpochSec = other.toEpochSecond();
+        return thisEpochSec < otherEpochSec ||
+            (thisEpochSec == otherEpochSec && getNanoOfSecond() < other.getNanoOfSecond());
     }
 
     /**
@@ -2120,7 +2180,10 @@ public final class ZonedDateTime
      * @throws NullPointerException if {@code other} is null
      */
     public boolean isAfter(ZonedDateTime other) {
-        return dateTime.isAfter(other.dateTime);
+        long thisEpochSec = toEpochSecond();
+        long otherEpochSec = other.toEpochSecond();
+        return thisEpochSec > otherEpochSec ||
+            (thisEpochSec == otherEpochSec && getNanoOfSecond() > other.getNanoOfSecond());
     }
 
     /**
@@ -2135,7 +2198,8 @@ public final class ZonedDateTime
      * @throws NullPointerException if {@code other} is null
      */
     public boolean equalInstant(ZonedDateTime other) {
-        return dateTime.equalInstant(other.dateTime);
+        return toEpochSecond() == other.toEpochSecond() &&
+            getNanoOfSecond() == other.getNanoOfSecond();
     }
 
     //-----------------------------------------------------------------------
@@ -2156,6 +2220,7 @@ public final class ZonedDateTime
         if (obj instanceof ZonedDateTime) {
             ZonedDateTime other = (ZonedDateTime) obj;
             return dateTime.equals(other.dateTime) &&
+                offset.equals(other.offset) &&
                 zone.equals(other.zone);
         }
         return false;
@@ -2168,7 +2233,7 @@ public final class ZonedDateTime
      */
     @Override
     public int hashCode() {
-        return dateTime.hashCode() ^ zone.hashCode();
+        return dateTime.hashCode() ^ offset.hashCode() ^ zone.hashCode();
     }
 
     //-----------------------------------------------------------------------
@@ -2191,7 +2256,7 @@ public final class ZonedDateTime
      */
     @Override
     public String toString() {
-        return dateTime.toString() + '[' + zone.toString() + ']';
+        return dateTime.toString() + offset.toString() + '[' + zone.toString() + ']';
     }
 
     /**
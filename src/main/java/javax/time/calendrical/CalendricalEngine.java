@@ -42,11 +42,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.time.CalendricalException;
 import javax.time.LocalDate;
 import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.MonthOfYear;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
 
@@ -60,11 +63,50 @@ import javax.time.ZoneOffset;
  * <p>
  * This class is mutable and not thread-safe.
  * It must only be used from a single thread and must not be passed between threads.
+ * <p>
+ * The static {@code derive} methods cache a derivation plan for each combination of
+ * rule of data, rule to derive and chronology. The plan records which normalization
+ * phases changed the data and whether the result came from a field, allowing later
+ * derivations of the same shape of data to skip the phases that had no effect.
+ * This relies on rules deciding whether to normalize or derive based on the presence
+ * of data rather than its value, which is true of the rules in this library.
+ * Plans are therefore only recorded when the rule to derive and the rules of the fields
+ * are defined by this library. Other rules always use the full normalization.
  *
  * @author Stephen Colebourne
  */
 public final class CalendricalEngine {
 
+    /**
+     * The maximum number of derivation plans to cache.
+     */
+    private static final int MAX_PLANS = 1000;
+    /**
+     * The cache of derivation plans.
+     */
+    private static final ConcurrentMap<PlanKey, DerivationPlan> PLANS =
+            new ConcurrentHashMap<PlanKey, DerivationPlan>(64, 0.75f, 4);
+    /**
+     * Normalization phase: converting fields to their normalization rule.
+     */
+    private static final int PHASE_SEPARATELY = 1;
+    /**
+     * Normalization phase: merging fields with the same base rule.
+     */
+    private static final int PHASE_AUTO = 2;
+    /**
+     * Normalization phase: rule specific normalization.
+     */
+    private static final int PHASE_MANUAL = 4;
+    /**
+     * Normalization phase: removing fields that can be derived from the objects.
+     */
+    private static final int PHASE_CROSS_CHECK = 8;
+    /**
+     * All the normalization phases.
+     */
+    private static final int PHASE_ALL = PHASE_SEPARATELY | PHASE_AUTO | PHASE_MANUAL | PHASE_CROSS_CHECK;
+
     /**
      * The original input.
      */
@@ -98,9 +140,21 @@ public final class CalendricalEngine {
      */
     private Map<DateTimeRule, DateTimeField> fields;
     /**
-     * The errors that occur during normalization.
+     * The errors that occur during normalization, null if none.
+     */
+    private Set<String> errors;
+    /**
+     * The normalization phases that changed the data.
      */
-    private final Set<String> errors = new LinkedHashSet<String>();
+    private int phases;
+    /**
+     * The count of modifications to the data, used to detect changes.
+     */
+    private int modCount;
+    /**
+     * Whether the last derivation was obtained from a field.
+     */
+    private boolean derivedFromField;
 
     //-----------------------------------------------------------------------
     /**
@@ -151,7 +205,7 @@ public final class CalendricalEngine {
             }
             target = new CalendricalEngine(calendricals, semiNormalized);
             target.validate();
-            target.normalize();
+            target.normalize(PHASE_ALL);
         } catch (NullPointerException ex) {
             throw ex;
         } catch (RuntimeException ex) {
@@ -159,7 +213,7 @@ public final class CalendricalEngine {
             throw new CalendricalException("Unable to merge " + Arrays.toString(calendricals) + ": " + ex.getMessage(), ex);
         }
         // normalization is quiet, so need to check it was successful
-        if (target.errors.size() > 0) {
+        if (target.errors != null) {
             throw new CalendricalException("Unable to merge " + Arrays.toString(calendricals) + ": " + target.errors);
         }
         return target;
@@ -173,6 +227,8 @@ public final class CalendricalEngine {
      * The class implementing the interface must call this method passing in
      * parameters to fully describe the state of the object to be derived from.
      * Avoid duplicating information between the date, time and fields if possible.
+     * <p>
+     * Derivations from fields with a non-null rule of data use a cached derivation plan.
      * 
      * @param <R>  the type of the desired rule
      * @param ruleToDerive  the rule to derive, not null
@@ -205,9 +261,11 @@ public final class CalendricalEngine {
                 return (R) chronology;
             }
             // other cases are not so simple, so drop through
+        } else if (ruleOfData != null) {
+            return deriveByPlan(ruleToDerive, ruleOfData, date, time, offset, zone, chronology, fields);
         }
         CalendricalEngine engine = new CalendricalEngine(ruleOfData, date, time, offset, zone, chronology, fields);
-        engine.normalize();
+        engine.normalize(PHASE_ALL);
         return engine.derive(ruleToDerive);
     }
 
@@ -217,6 +275,8 @@ public final class CalendricalEngine {
      * This method is designed to be called from {@link Calendrical#get(CalendricalRule)}.
      * The class implementing the interface must call this method passing in
      * parameters to fully describe the state of the object to be derived from.
+     * <p>
+     * If the rule of data is non-null a cached derivation plan is used.
      * 
      * @param <R>  the type of the desired rule
      * @param ruleToDerive  the rule to derive, not null
@@ -228,11 +288,100 @@ public final class CalendricalEngine {
     public static <R> R derive(CalendricalRule<R> ruleToDerive, CalendricalRule<?> ruleOfData, Chronology chronology, DateTimeField field) {
         MathUtils.checkNotNull(ruleToDerive, "CalendricalRule must not be null");
         MathUtils.checkNotNull(field, "DateTimeField must not be null");
-        CalendricalEngine engine = new CalendricalEngine(ruleOfData, null, null, null, null, chronology, Collections.singleton(field));
-        engine.normalize();
+        Set<DateTimeField> fields = Collections.singleton(field);
+        if (ruleOfData != null) {
+            return deriveByPlan(ruleToDerive, ruleOfData, null, null, null, null, chronology, fields);
+        }
+        CalendricalEngine engine = new CalendricalEngine(ruleOfData, null, null, null, null, chronology, fields);
+        engine.normalize(PHASE_ALL);
         return engine.derive(ruleToDerive);
     }
 
+    /**
+     * Derives the specified rule using a cached derivation plan.
+     * <p>
+     * The plan is replayed if it matches the shape of the data.
+     * If there is no plan, or the replay fails, the full normalization is performed
+     * and the plan recorded if the derivation succeeded.
+     * 
+     * @param <R>  the type of the desired rule
+     * @param ruleToDerive  the rule to derive, not null
+     * @param ruleOfData  the rule of the data to derive from, not null
+     * @param date  the date to derive from, may be null
+     * @param time  the time to derive from, may be null
+     * @param offset  the zone offset to derive from, may be null
+     * @param zone  the zone ID to derive from, may be null
+     * @param chronology  the chronology to derive from, may be null
+     * @param fields  the fields to derive from, not null
+     * @return the derived value for the rule, null if unable to derive
+     */
+    private static <R> R deriveByPlan(CalendricalRule<R> ruleToDerive, CalendricalRule<?> ruleOfData,
+            LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, Chronology chronology, Iterable<DateTimeField> fields) {
+        PlanKey key = new PlanKey(ruleOfData, ruleToDerive, chronology);
+        DerivationPlan plan = PLANS.get(key);
+        if (plan != null && plan.matches(date, time, offset, zone, fields)) {
+            R result = plan.replay(ruleToDerive, ruleOfData, date, time, offset, zone, chronology, fields);
+            if (result != null) {
+                return result;
+            }
+        }
+        CalendricalEngine engine = new CalendricalEngine(ruleOfData, date, time, offset, zone, chronology, fields);
+        engine.normalize(PHASE_ALL);
+        R result = engine.derive(ruleToDerive);
+        if (result != null && plan == null && PLANS.size() < MAX_PLANS && isLibraryRules(ruleToDerive, fields)) {
+            PLANS.putIfAbsent(key, new DerivationPlan(date, time, offset, zone, fields, engine.phases, engine.derivedFromField));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the rule to derive and the rules of the fields are defined by this library.
+     * <p>
+     * A rule that equals a library rule has the same class, thus a plan recorded for
+     * library rules is only ever replayed for library rules.
+     * 
+     * @param ruleToDerive  the rule to derive, not null
+     * @param fields  the fields to derive from, not null
+     * @return true if all the rules are library rules
+     */
+    private static boolean isLibraryRules(CalendricalRule<?> ruleToDerive, Iterable<DateTimeField> fields) {
+        if (isLibraryRule(ruleToDerive) == false) {
+            return false;
+        }
+        for (DateTimeField field : fields) {
+            if (isLibraryRule(field.getRule()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the rule is defined by this library.
+     * 
+     * @param rule  the rule to check, not null
+     * @return true if the rule is a library rule
+     */
+    private static boolean isLibraryRule(CalendricalRule<?> rule) {
+        Class<?> cls = rule.getClass();
+        // the rules of the main date and time classes are instances of two package scoped classes
+        return cls == ISODateTimeRule.class || cls == WeekRules.DayOfWeekRule.class ||
+                cls == WeekRules.WeekOfMonthRule.class || cls == Chronology.Rule.class ||
+                cls == LocalDate.rule().getClass() || cls == MonthOfYear.rule().getClass();
+    }
+
+    /**
+     * Checks if a derivation plan has been cached.
+     * 
+     * @param ruleToDerive  the rule to derive, not null
+     * @param ruleOfData  the rule of the data to derive from, not null
+     * @param chronology  the chronology to derive from, may be null
+     * @return true if a plan is cached
+     */
+    static boolean isPlanCached(CalendricalRule<?> ruleToDerive, CalendricalRule<?> ruleOfData, Chronology chronology) {
+        return PLANS.containsKey(new PlanKey(ruleOfData, ruleToDerive, chronology));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance from a normalized list of mergers.
@@ -576,6 +725,7 @@ public final class CalendricalEngine {
     }
 
     private <T> T set(T curObj, T newObj, boolean storeErrorIfClash) {
+        modCount++;
         if (storeErrorIfClash) {
             if (curObj != null && curObj.equals(newObj) == false) {
                 addError("Clash: " + curObj + " and " + newObj);
@@ -601,18 +751,26 @@ public final class CalendricalEngine {
     //-----------------------------------------------------------------------
     /**
      * Normalize the fields, converting to LocalDate/LocalTime if possible.
+     * <p>
+     * The phases that change the data are recorded.
+     * 
+     * @param allowedPhases  the phases to perform
      */
-    private void normalize() {
+    private void normalize(int allowedPhases) {
         // do not call from the constructor
         if (fields != null && fields.size() > 0) {
-            normalizeSeparately();
-            if (errors.size() == 0) {
-                if (fields.size() > 1) {
+            if ((allowedPhases & PHASE_SEPARATELY) != 0) {
+                normalizeSeparately();
+            }
+            if (errors == null) {
+                if (fields.size() > 1 && (allowedPhases & PHASE_AUTO) != 0) {
                     normalizeAuto();
                 }
-                if (errors.size() == 0) {
-                    normalizeManual();
-                    if (errors.size() == 0) {
+                if (errors == null) {
+                    if ((allowedPhases & PHASE_MANUAL) != 0) {
+                        normalizeManual();
+                    }
+                    if (errors == null && (allowedPhases & PHASE_CROSS_CHECK) != 0) {
                         normalizeCrossCheck();
                     }
                 }
@@ -631,6 +789,7 @@ public final class CalendricalEngine {
                 long newValue = normalizationRule.convertFromPeriod(fieldRule.convertToPeriod(field.getValue()));
                 setField(normalizationRule.field(newValue), true);
                 fields.remove(fieldRule);
+                phases |= PHASE_SEPARATELY;
             }
         }
     }
@@ -654,6 +813,7 @@ public final class CalendricalEngine {
         for (Map.Entry<DateTimeRule, List<DateTimeField>> entry : grouped.entrySet()) {
             List<DateTimeField> group = entry.getValue();
             if (group.size() >= 2) {
+                phases |= PHASE_AUTO;
                 mergeGroup(entry.getKey(), group);
             }
             for (DateTimeField field : group) {
@@ -739,9 +899,13 @@ public final class CalendricalEngine {
     }
 
     private void normalizeManual() {
+        int startModCount = modCount;
         for (DateTimeField field : fields.values()) {
             field.getRule().normalize(this);
         }
+        if (modCount != startModCount) {
+            phases |= PHASE_MANUAL;
+        }
     }
 
     private void normalizeCrossCheck() {
@@ -749,6 +913,7 @@ public final class CalendricalEngine {
             DateTimeField field = it.next();
             DateTimeField derived = field.getRule().deriveFrom(this);
             if (derived != null) {
+                phases |= PHASE_CROSS_CHECK;
                 if (derived.equals(field) == false) {
                     addError("Cross-check clash: " + field + " and " + derived);
                 } else {
@@ -761,12 +926,12 @@ public final class CalendricalEngine {
     // phase 3
     //-----------------------------------------------------------------------
     public <R> R derive(CalendricalRule<R> ruleToDerive) {
-        if (errors.size() > 0) {
+        if (errors != null) {
             return null;  // quiet
         }
         R result = doDerive(ruleToDerive);
-        if (errors.size() > 0) {
-            errors.clear();
+        if (errors != null) {
+            errors = null;
             return null;  // quiet
         }
         return result;
@@ -775,7 +940,7 @@ public final class CalendricalEngine {
     public <R> R deriveChecked(CalendricalRule<R> ruleToDerive) {
         R result = doDerive(ruleToDerive);
         if (result == null) {
-            if (errors.size() > 0) {
+            if (errors != null) {
                 throw new CalendricalException("Unable to derive " + ruleToDerive + " from " + this + ": " + errors);
             }
             throw new CalendricalException("Unable to derive " + ruleToDerive + " from " + this);
@@ -785,7 +950,7 @@ public final class CalendricalEngine {
 
     @SuppressWarnings("unchecked")
     private <R> R doDerive(CalendricalRule<R> ruleToDerive) {
-        if (errors.size() > 0) {
+        if (errors != null) {
             return null;  // quiet
         }
         if (ruleToDerive == rule()) {
@@ -795,8 +960,9 @@ public final class CalendricalEngine {
             R result = ruleToDerive.deriveFrom(this);
             if (result == null && ruleToDerive instanceof DateTimeRule) {
                 result = (R) deriveField((DateTimeRule) ruleToDerive);
+                derivedFromField = (result != null);
             }
-            if (errors.size() > 0) {
+            if (errors != null) {
                 return null;
             }
             return result;
@@ -813,6 +979,9 @@ public final class CalendricalEngine {
      */
     public void addError(String error) {
         if (error != null) {
+            if (errors == null) {
+                errors = new LinkedHashSet<String>();
+            }
             errors.add(error);
         }
     }
@@ -820,7 +989,126 @@ public final class CalendricalEngine {
     //-----------------------------------------------------------------------
     @Override
     public String toString() {
-        return getInput().toString() + (errors.size() > 0 ? " " + errors : "");
+        return getInput().toString() + (errors != null ? " " + errors : "");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Key for the derivation plan cache.
+     */
+    private static final class PlanKey {
+        /** The rule of the data. */
+        private final CalendricalRule<?> ruleOfData;
+        /** The rule to derive. */
+        private final CalendricalRule<?> ruleToDerive;
+        /** The chronology, may be null. */
+        private final Chronology chronology;
+
+        PlanKey(CalendricalRule<?> ruleOfData, CalendricalRule<?> ruleToDerive, Chronology chronology) {
+            this.ruleOfData = ruleOfData;
+            this.ruleToDerive = ruleToDerive;
+            this.chronology = chronology;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PlanKey) {
+                PlanKey other = (PlanKey) obj;
+                return ruleOfData.equals(other.ruleOfData) && ruleToDerive.equals(other.ruleToDerive) &&
+                        (chronology == null ? other.chronology == null : chronology.equals(other.chronology));
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return ruleOfData.hashCode() * 31 + ruleToDerive.hashCode() ^ (chronology == null ? 0 : chronology.hashCode());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A derivation plan recorded from a successful derivation.
+     * <p>
+     * The plan stores the shape of the data it was recorded from, the normalization
+     * phases that changed the data and whether the result was derived from a field.
+     */
+    private static final class DerivationPlan {
+        /** Bit for the presence of the date. */
+        private static final int DATE = 1;
+        /** Bit for the presence of the time. */
+        private static final int TIME = 2;
+        /** Bit for the presence of the offset. */
+        private static final int OFFSET = 4;
+        /** Bit for the presence of the zone. */
+        private static final int ZONE = 8;
+        /** The objects that were present. */
+        private final int objects;
+        /** The rules of the fields that were present, in order. */
+        private final DateTimeRule[] fieldRules;
+        /** The normalization phases that changed the data. */
+        private final int phases;
+        /** Whether the result was derived from a field. */
+        private final boolean fromField;
+
+        DerivationPlan(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone,
+                Iterable<DateTimeField> fields, int phases, boolean fromField) {
+            this.objects = objects(date, time, offset, zone);
+            List<DateTimeRule> rules = new ArrayList<DateTimeRule>();
+            for (DateTimeField field : fields) {
+                rules.add(field.getRule());
+            }
+            this.fieldRules = rules.toArray(new DateTimeRule[rules.size()]);
+            this.phases = phases;
+            this.fromField = fromField;
+        }
+
+        private static int objects(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone) {
+            return (date != null ? DATE : 0) | (time != null ? TIME : 0) |
+                    (offset != null ? OFFSET : 0) | (zone != null ? ZONE : 0);
+        }
+
+        /**
+         * Checks if the data has the same shape as that the plan was recorded from.
+         */
+        boolean matches(LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, Iterable<DateTimeField> fields) {
+            if (objects(date, time, offset, zone) != objects) {
+                return false;
+            }
+            int i = 0;
+            for (DateTimeField field : fields) {
+                if (i == fieldRules.length || fieldRules[i++].equals(field.getRule()) == false) {
+                    return false;
+                }
+            }
+            return i == fieldRules.length;
+        }
+
+        /**
+         * Replays the plan, returning null if the derivation fails.
+         */
+        @SuppressWarnings("unchecked")
+        <R> R replay(CalendricalRule<R> ruleToDerive, CalendricalRule<?> ruleOfData,
+                LocalDate date, LocalTime time, ZoneOffset offset, ZoneId zone, Chronology chronology, Iterable<DateTimeField> fields) {
+            if (fromField && phases == 0) {
+                // normalization has no effect, so derive directly from the fields
+                DateTimeRule dtRule = (DateTimeRule) ruleToDerive;
+                DateTimeRule baseRule = dtRule.getBaseRule();
+                for (DateTimeField field : fields) {
+                    if (field.getRule().getBaseRule().equals(baseRule)) {
+                        DateTimeField result = field.derive(dtRule);
+                        if (result != null) {
+                            return (R) result;
+                        }
+                    }
+                }
+                return null;
+            }
+            CalendricalEngine engine = new CalendricalEngine(ruleOfData, date, time, offset, zone, chronology, fields);
+            engine.normalize(phases);
+            if (fromField) {
+                return (engine.errors == null ? (R) engine.deriveField((DateTimeRule) ruleToDerive) : null);
+            }
+            return engine.derive(ruleToDerive);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -76,6 +76,9 @@ public final class DateTimeField
      * Obtains a {@code DateTimeField} from a rule and value.
      * <p>
      * The parameters represent the two parts of a phrase like 'MonthOfYear 12'.
+     * <p>
+     * Rules with a small range of values, such as 'MonthOfYear', share a cached
+     * instance for each value within the range.
      *
      * @param rule  the rule defining the field, not null
      * @param value  the value of the rule, may be outside the valid range for the rule
@@ -83,9 +86,34 @@ public final class DateTimeField
      */
     public static DateTimeField of(DateTimeRule rule, long value) {
         MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        DateTimeField[] cache = rule.fieldCache;
+        if (cache != null) {
+            long index = value - rule.fieldCacheMinimum;
+            if (index >= 0 && index < cache.length) {
+                return cache[(int) index];
+            }
+        }
         return new DateTimeField(rule, value);
     }
 
+    /**
+     * Creates the cache of fields for a rule.
+     * <p>
+     * This is called from the constructor of the rule.
+     *
+     * @param rule  the rule defining the fields, not null
+     * @param minValue  the value of the first field
+     * @param size  the number of fields to create
+     * @return the cached fields, not null
+     */
+    static DateTimeField[] createCache(DateTimeRule rule, long minValue, int size) {
+        DateTimeField[] cache = new DateTimeField[size];
+        for (int i = 0; i < size; i++) {
+            cache[i] = new DateTimeField(rule, minValue + i);
+        }
+        return cache;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -160,7 +188,7 @@ public final class DateTimeField
         if (rule.equals(this.rule)) {
             return this;
         }
-        return new DateTimeField(rule, value);
+        return of(rule, value);
     }
 
     /**
@@ -178,7 +206,7 @@ public final class DateTimeField
         if (value == this.value) {
             return this;
         }
-        return new DateTimeField(rule, value);
+        return of(rule, value);
     }
 
     //-----------------------------------------------------------------------
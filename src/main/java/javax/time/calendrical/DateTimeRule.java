@@ -63,6 +63,10 @@ public abstract class DateTimeRule extends CalendricalRule<DateTimeField>
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The maximum number of values in the range of a rule for which fields are cached.
+     */
+    private static final int MAX_CACHED_FIELDS = 400;
 
     /**
      * The period unit, not null.
@@ -84,6 +88,14 @@ public abstract class DateTimeRule extends CalendricalRule<DateTimeField>
      * The normalization rule that this rule relates to.
      */
     private final transient DateTimeRule normalizationRule;
+    /**
+     * The cached fields for each value in the range, null if the range is too large.
+     */
+    final transient DateTimeField[] fieldCache;
+    /**
+     * The value of the first cached field.
+     */
+    final transient long fieldCacheMinimum;
 
     /**
      * Creates an instance specifying the minimum and maximum value of the rule.
@@ -144,6 +156,10 @@ public abstract class DateTimeRule extends CalendricalRule<DateTimeField>
         }
         this.baseRule = baseRule;
         this.normalizationRule = normalizationRule;
+        long rangeSize = ruleRange.getMaximum() - ruleRange.getMinimum() + 1;  // negative if overflow
+        this.fieldCacheMinimum = ruleRange.getMinimum();
+        this.fieldCache = (rangeSize > 0 && rangeSize <= MAX_CACHED_FIELDS ?
+                DateTimeField.createCache(this, fieldCacheMinimum, (int) rangeSize) : null);
     }
 
     //-----------------------------------------------------------------------
@@ -32,6 +32,10 @@
 package javax.time.format;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
@@ -69,6 +73,10 @@ import javax.time.calendrical.CalendricalRule;
  */
 public final class DateTimeFormatter {
 
+    /**
+     * The UTF-8 character set used when printing to a byte buffer.
+     */
+    private static final Charset UTF8 = Charset.forName("UTF-8");
     /**
      * The locale to use for formatting, not null.
      */
@@ -81,6 +89,11 @@ public final class DateTimeFormatter {
      * The printer and/or parser to use, not null.
      */
     private final CompositePrinterParser printerParser;
+    /**
+     * The type of fast parser and printer that is equivalent to the printer/parser,
+     * see {@link ISOFastParser} and {@link ISOFastPrinter}.
+     */
+    private final int fastType;
 
     /**
      * Constructor.
@@ -90,9 +103,36 @@ public final class DateTimeFormatter {
      * @param printerParser  the printer/parser to use, not null
      */
     DateTimeFormatter(Locale locale, DateTimeFormatSymbols symbols, CompositePrinterParser printerParser) {
+        this(locale, symbols, printerParser, ISOFastParser.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param locale  the locale to use, not null
+     * @param symbols  the symbols to use, not null
+     * @param printerParser  the printer/parser to use, not null
+     * @param fastType  the type of fast parser and printer, from the constants on {@code ISOFastParser}
+     */
+    private DateTimeFormatter(Locale locale, DateTimeFormatSymbols symbols,
+            CompositePrinterParser printerParser, int fastType) {
         this.locale = locale;
         this.symbols = symbols;
         this.printerParser = printerParser;
+        this.fastType = fastType;
+    }
+
+    /**
+     * Returns a copy of this formatter that parses and prints using the specified fast parser and printer.
+     * <p>
+     * The fast parser and printer must handle a subset of the input of the printer/parser,
+     * producing the same result.
+     *
+     * @param fastType  the type of fast parser and printer, from the constants on {@code ISOFastParser}
+     * @return a {@code DateTimeFormatter} based on this one with the fast parser and printer, not null
+     */
+    DateTimeFormatter withFastType(int fastType) {
+        return new DateTimeFormatter(locale, symbols, printerParser, fastType);
     }
 
     //-----------------------------------------------------------------------
@@ -118,7 +158,7 @@ public final class DateTimeFormatter {
         if (locale.equals(this.locale)) {
             return this;
         }
-        return new DateTimeFormatter(locale, symbols, printerParser);
+        return new DateTimeFormatter(locale, symbols, printerParser, fastType);
     }
 
     //-----------------------------------------------------------------------
@@ -144,7 +184,7 @@ public final class DateTimeFormatter {
         if (symbols.equals(this.symbols)) {
             return this;
         }
-        return new DateTimeFormatter(locale, symbols, printerParser);
+        return new DateTimeFormatter(locale, symbols, printerParser, fastType);
     }
 
     //-----------------------------------------------------------------------
@@ -215,6 +255,136 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Prints the calendrical to a character array using this formatter.
+     * <p>
+     * This prints the calendrical into the array starting at the specified offset.
+     * The ISO formatters write the main date-time classes directly into the array.
+     * Nothing is written if the text does not fit in the array.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param buf  the array to print to, not null
+     * @param offset  the index in the array to print at
+     * @return the number of characters printed
+     * @throws IndexOutOfBoundsException if the offset is invalid or the text does not fit
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public int printTo(Calendrical calendrical, char[] buf, int offset) {
+        MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+        MathUtils.checkNotNull(buf, "Array must not be null");
+        if (offset < 0 || offset > buf.length) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " for array of length " + buf.length);
+        }
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            int count = ISOFastPrinter.print(fastType, calendrical, buf, offset, buf.length);
+            if (count >= 0) {
+                return count;
+            }
+        }
+        StringBuilder text = new StringBuilder(32);
+        printTo(calendrical, text);
+        int count = text.length();
+        if (count > buf.length - offset) {
+            throw new IndexOutOfBoundsException("Printed text of length " + count +
+                    " does not fit in array of length " + buf.length + " at offset " + offset);
+        }
+        text.getChars(0, count, buf, offset);
+        return count;
+    }
+
+    /**
+     * Prints the calendrical to a character buffer using this formatter.
+     * <p>
+     * This prints the calendrical into the buffer starting at its position,
+     * which is advanced by the number of characters printed.
+     * The ISO formatters write the main date-time classes directly into the buffer.
+     * Nothing is written if the text does not fit in the remaining space.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param buf  the buffer to print to, not null
+     * @return the number of characters printed
+     * @throws BufferOverflowException if the text does not fit in the remaining space
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public int printTo(Calendrical calendrical, CharBuffer buf) {
+        MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+        MathUtils.checkNotNull(buf, "CharBuffer must not be null");
+        int position = buf.position();
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            int count = (buf.hasArray() ?
+                    ISOFastPrinter.print(fastType, calendrical, buf.array(), buf.arrayOffset() + position, buf.arrayOffset() + buf.limit()) :
+                    ISOFastPrinter.print(fastType, calendrical, buf, position, buf.limit()));
+            if (count >= 0) {
+                buf.position(position + count);
+                return count;
+            }
+        }
+        StringBuilder text = new StringBuilder(32);
+        printTo(calendrical, text);
+        int count = text.length();
+        if (count > buf.remaining()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < count; i++) {
+            buf.put(text.charAt(i));
+        }
+        return count;
+    }
+
+    /**
+     * Prints the calendrical to a byte buffer using this formatter.
+     * <p>
+     * This prints the calendrical into the buffer starting at its position,
+     * which is advanced by the number of bytes printed.
+     * The text is encoded in UTF-8, which is one byte per character for ASCII text.
+     * The ISO formatters write the main date-time classes directly into the buffer,
+     * thus a timestamp can be printed to a direct buffer for output to a channel without copying.
+     * Nothing is written if the text does not fit in the remaining space.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param buf  the buffer to print to, not null
+     * @return the number of bytes printed
+     * @throws BufferOverflowException if the text does not fit in the remaining space
+     * @throws UnsupportedOperationException if this formatter cannot print
+     * @throws CalendricalException if an error occurs during printing
+     */
+    public int printTo(Calendrical calendrical, ByteBuffer buf) {
+        MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
+        MathUtils.checkNotNull(buf, "ByteBuffer must not be null");
+        int position = buf.position();
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            int count = (buf.hasArray() ?
+                    ISOFastPrinter.print(fastType, calendrical, buf.array(), buf.arrayOffset() + position, buf.arrayOffset() + buf.limit()) :
+                    ISOFastPrinter.print(fastType, calendrical, buf, position, buf.limit()));
+            if (count >= 0) {
+                buf.position(position + count);
+                return count;
+            }
+        }
+        StringBuilder text = new StringBuilder(32);
+        printTo(calendrical, text);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) >= 0x80) {
+                byte[] bytes = text.toString().getBytes(UTF8);
+                if (bytes.length > buf.remaining()) {
+                    throw new BufferOverflowException();
+                }
+                buf.put(bytes);
+                return bytes.length;
+            }
+        }
+        if (length > buf.remaining()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            buf.put((byte) text.charAt(i));
+        }
+        return length;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks whether this formatter can parse.
@@ -252,17 +422,265 @@ public final class DateTimeFormatter {
     public <T> T parse(CharSequence text, CalendricalRule<T> rule) {
         MathUtils.checkNotNull(text, "Text must not be null");
         MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
-        String str = text.toString();  // parsing whole String, so this makes sense
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            T result = ISOFastParser.parse(fastType, text, rule);
+            if (result != null) {
+                return result;
+            }
+        }
+        return parseFully(text, new DateTimeParseContext(locale, symbols), rule);
+    }
+
+    /**
+     * Fully parses the text producing an object of the type defined by the rule,
+     * reusing the specified context.
+     * <p>
+     * This parses as per {@link #parse(CharSequence, CalendricalRule)}, but stores the
+     * parsed data in a context previously obtained from {@link #createParseContext()}.
+     * The context is reset before parsing, and its storage retained for the next parse.
+     * Reusing a context avoids allocating the parsed data, thus an application parsing
+     * many values on one thread can allocate little more than the result.
+     * For example:
+     * <pre>
+     * DateTimeParseContext context = parser.createParseContext();
+     * for (String line : lines) {
+     *   LocalDateTime dt = parser.parse(line, context, LocalDateTime.rule());
+     *   ...
+     * }
+     * </pre>
+     * The context must not be used by more than one thread at the same time.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the context to reuse, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(CharSequence text, DateTimeParseContext context, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        MathUtils.checkNotNull(context, "DateTimeParseContext must not be null");
+        MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            T result = ISOFastParser.parse(fastType, text, rule);
+            if (result != null) {
+                return result;
+            }
+        }
+        context.reset(locale, symbols);
+        return parseFully(text, context, rule);
+    }
+
+    /**
+     * Fully parses the text into the context and derives the rule.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the empty context to parse into, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    private <T> T parseFully(CharSequence text, DateTimeParseContext context, CalendricalRule<T> rule) {
         try {
-            CalendricalEngine engine = parseToEngine(str);
-            return engine.deriveChecked(rule);
+            int pos = printerParser.parse(context, text, 0);
+            if (pos < 0 || pos < text.length()) {
+                throw createError(text.toString(), pos);
+            }
+            T result = context.resolve(rule);
+            if (result != null) {
+                return result;
+            }
+            return context.toCalendricalEngine().deriveChecked(rule);
         } catch (UnsupportedOperationException ex) {
             throw ex;
         } catch (CalendricalParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
-            throw createError(str, ex);
+            throw createError(text.toString(), ex);
+        }
+    }
+
+    /**
+     * Creates a parse context that can be reused for many parses.
+     * <p>
+     * The context is intended to be passed to
+     * {@link #parse(CharSequence, DateTimeParseContext, CalendricalRule)}.
+     * It is mutable and must not be used by more than one thread at the same time.
+     * It may be reused with other formatters.
+     *
+     * @return a new reusable context, not null
+     */
+    public DateTimeParseContext createParseContext() {
+        return new DateTimeParseContext(locale, symbols);
+    }
+
+    /**
+     * Fully parses a range of a character array producing an object of the type defined by the rule.
+     * <p>
+     * This parses the characters from {@code offset} to {@code offset + length}
+     * as per {@link #parse(CharSequence, CalendricalRule)}.
+     * The whole of the range must be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(char[] text, int offset, int length, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        return parse(CharBuffer.wrap(text, offset, length), rule);
+    }
+
+    /**
+     * Fully parses a range of a byte array of ASCII characters producing an object
+     * of the type defined by the rule.
+     * <p>
+     * This parses the bytes from {@code offset} to {@code offset + length}
+     * as per {@link #parse(CharSequence, CalendricalRule)}, where each byte is
+     * one character in the ISO-8859-1 encoding, which includes ASCII.
+     * This avoids decoding the bytes to a {@code String} where the fast parse
+     * of the ISO formats applies, such as when reading timestamps from JSON.
+     * The whole of the range must be parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(byte[] text, int offset, int length, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        return parse(new AsciiCharSequence(text, offset, length), rule);
+    }
+
+    /**
+     * Parses the text from a position producing an object of the type defined by the rule,
+     * allowing further text to follow.
+     * <p>
+     * This parses the text starting from the index of the position, which is updated
+     * to the index after the parsed text on success. Unlike {@link #parse(CharSequence, CalendricalRule)},
+     * the whole of the text does not need to be parsed, which allows a date-time to be read
+     * from the middle of a larger input, such as a log line, without first finding its end.
+     * <p>
+     * If the parse fails, an exception is thrown and the position is unchanged.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with the index after the parsed text, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws IndexOutOfBoundsException if the position is invalid
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(CharSequence text, ParsePosition position, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        MathUtils.checkNotNull(position, "ParsePosition must not be null");
+        MathUtils.checkNotNull(rule, "CalendricalRule must not be null");
+        int start = position.getIndex();
+        int length = text.length();
+        if (start < 0 || start > length) {
+            throw new IndexOutOfBoundsException("Invalid position " + start + " for length " + length);
+        }
+        if (fastType != ISOFastParser.NONE && symbols.equals(DateTimeFormatSymbols.STANDARD)) {
+            int end = ISOFastParser.findEnd(text, start, length);
+            T result = ISOFastParser.parse(fastType, text, start, end, rule);
+            if (result != null) {
+                position.setIndex(end);
+                return result;
+            }
+        }
+        ParsePosition pos = new ParsePosition(start);
+        DateTimeParseContext context = parseToContext(text, pos);
+        if (pos.getErrorIndex() >= 0) {
+            String str = text.toString();
+            String abbr = str;
+            if (abbr.length() > 64) {
+                abbr = abbr.substring(0, 64) + "...";
+            }
+            throw new CalendricalParseException("Text '" + abbr + "' could not be parsed at index " +
+                    pos.getErrorIndex(), str, pos.getErrorIndex());
         }
+        T result;
+        try {
+            result = context.resolve(rule);
+            if (result == null) {
+                result = context.toCalendricalEngine().deriveChecked(rule);
+            }
+        } catch (RuntimeException ex) {
+            throw createError(text.toString(), ex);
+        }
+        position.setIndex(pos.getIndex());
+        return result;
+    }
+
+    /**
+     * Parses a range of a byte array of ASCII characters from a position producing
+     * an object of the type defined by the rule, allowing further bytes to follow.
+     * <p>
+     * This parses the bytes from {@code offset} to {@code offset + length}
+     * as per {@link #parse(CharSequence, ParsePosition, CalendricalRule)}, where each
+     * byte is one character in the ISO-8859-1 encoding, which includes ASCII.
+     * The ASCII characters of a date-time are the same in UTF-8, thus UTF-8 input
+     * can also be parsed provided that the date-time itself is ASCII.
+     * <p>
+     * The index of the position is relative to {@code offset}, thus an index of
+     * zero starts parsing at {@code offset}.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first byte of the range
+     * @param length  the number of bytes in the range
+     * @param position  the position to parse from, relative to the offset,
+     *  updated with the index after the parsed text, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws IndexOutOfBoundsException if the range or position is invalid
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(byte[] text, int offset, int length, ParsePosition position, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "Text must not be null");
+        return parse(new AsciiCharSequence(text, offset, length), position, rule);
+    }
+
+    /**
+     * Parses ASCII characters from a byte buffer producing an object of the type
+     * defined by the rule, allowing further bytes to follow.
+     * <p>
+     * This parses the bytes from the position of the buffer up to the limit as per
+     * {@link #parse(byte[], int, int, ParsePosition, CalendricalRule)}.
+     * On success, the position of the buffer is advanced to the byte after the parsed text.
+     * If the parse fails, an exception is thrown and the position of the buffer is unchanged.
+     * <p>
+     * The bytes are read in place using absolute access, thus direct and memory-mapped
+     * buffers are parsed without copying, such as when reading timestamps from a log file.
+     *
+     * @param text  the buffer to parse, not null
+     * @param rule  the rule defining the type to produce, not null
+     * @return the parsed calendrical, not null
+     * @throws UnsupportedOperationException if this formatter cannot parse
+     * @throws CalendricalParseException if the parse fails
+     */
+    public <T> T parse(ByteBuffer text, CalendricalRule<T> rule) {
+        MathUtils.checkNotNull(text, "ByteBuffer must not be null");
+        int start = text.position();
+        CharSequence seq;
+        if (text.hasArray()) {
+            seq = new AsciiCharSequence(text.array(), text.arrayOffset() + start, text.remaining());
+        } else {
+            seq = new AsciiCharSequence(text, start, text.remaining());
+        }
+        ParsePosition pos = new ParsePosition(0);
+        T result = parse(seq, pos, rule);
+        text.position(start + pos.getIndex());
+        return result;
     }
 
     /**
@@ -329,6 +747,25 @@ public final class DateTimeFormatter {
         return new CalendricalParseException("Text '" + abbr + "' could not be parsed: " + ex.getMessage(), str, 0, ex);
     }
 
+    /**
+     * Creates an exception for text that was not fully parsed.
+     *
+     * @param str  the text being parsed, not null
+     * @param pos  the end position of the parse, negative with the complement of the error index on error
+     * @return the exception, not null
+     */
+    private CalendricalParseException createError(String str, int pos) {
+        String abbr = str;
+        if (abbr.length() > 64) {
+            abbr = abbr.substring(0, 64) + "...";
+        }
+        if (pos < 0) {
+            return new CalendricalParseException("Text '" + abbr + "' could not be parsed at index " + ~pos, str, ~pos);
+        }
+        return new CalendricalParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
+                pos, str, pos);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Mid-level parser, performing the first two phases of parsing.
@@ -354,17 +791,7 @@ public final class DateTimeFormatter {
         ParsePosition pos = new ParsePosition(0);
         DateTimeParseContext result = parseToContext(str, pos);
         if (pos.getErrorIndex() >= 0 || pos.getIndex() < str.length()) {
-            String abbr = str.toString();
-            if (abbr.length() > 64) {
-                abbr = abbr.substring(0, 64) + "...";
-            }
-            if (pos.getErrorIndex() >= 0) {
-                throw new CalendricalParseException("Text '" + abbr + "' could not be parsed at index " +
-                        pos.getErrorIndex(), str, pos.getErrorIndex());
-            } else {
-                throw new CalendricalParseException("Text '" + abbr + "' could not be parsed, unparsed text found at index " +
-                        pos.getIndex(), str, pos.getIndex());
-            }
+            throw createError(str, pos.getErrorIndex() >= 0 ? ~pos.getErrorIndex() : pos.getIndex());
         }
         return result.toCalendricalEngine();
     }
@@ -471,6 +898,81 @@ public final class DateTimeFormatter {
         return pattern.startsWith("[") ? pattern : pattern.substring(1, pattern.length() - 1);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Exposes a range of a byte array or buffer of ASCII characters as a {@code CharSequence}.
+     */
+    static final class AsciiCharSequence implements CharSequence {
+        /** The bytes, null if using a buffer. */
+        private final byte[] bytes;
+        /** The buffer, null if using an array, accessed by absolute index only. */
+        private final ByteBuffer buffer;
+        /** The offset of the first character. */
+        private final int offset;
+        /** The number of characters. */
+        private final int length;
+        /** Constructor. */
+        AsciiCharSequence(byte[] bytes, int offset, int length) {
+            if (offset < 0 || length < 0 || offset > bytes.length - length) {
+                throw new IndexOutOfBoundsException("Invalid range " + offset + " length " + length +
+                        " for array of length " + bytes.length);
+            }
+            this.bytes = bytes;
+            this.buffer = null;
+            this.offset = offset;
+            this.length = length;
+        }
+        /** Constructor. */
+        AsciiCharSequence(ByteBuffer buffer, int offset, int length) {
+            if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+                throw new IndexOutOfBoundsException("Invalid range " + offset + " length " + length +
+                        " for buffer of limit " + buffer.limit());
+            }
+            this.bytes = null;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private char charAtOffset(int index) {
+            return (char) ((bytes != null ? bytes[index] : buffer.get(index)) & 0xFF);
+        }
+
+        /** {@inheritDoc} */
+        public int length() {
+            return length;
+        }
+
+        /** {@inheritDoc} */
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Invalid index " + index + " for length " + length);
+            }
+            return charAtOffset(offset + index);
+        }
+
+        /** {@inheritDoc} */
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || start > end || end > length) {
+                throw new IndexOutOfBoundsException("Invalid range " + start + " to " + end + " for length " + length);
+            }
+            if (bytes != null) {
+                return new AsciiCharSequence(bytes, offset + start, end - start);
+            }
+            return new AsciiCharSequence(buffer, offset + start, end - start);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = charAtOffset(offset + i);
+            }
+            return new String(chars);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implements the classic Java Format API.
@@ -453,7 +453,8 @@ public final class DateTimeFormatters {
             .append(ISO_LOCAL_DATE)
             .appendLiteral('T')
             .append(ISO_LOCAL_TIME)
-            .toFormatter();
+            .toFormatter()
+            .withFastType(ISOFastParser.LOCAL_DATE_TIME);
     }
 
     //-----------------------------------------------------------------------
@@ -487,7 +488,8 @@ public final class DateTimeFormatters {
         ISO_OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
             .append(ISO_LOCAL_DATE_TIME)
             .appendOffsetId()
-            .toFormatter();
+            .toFormatter()
+            .withFastType(ISOFastParser.OFFSET_DATE_TIME);
     }
 
     //-----------------------------------------------------------------------
@@ -31,13 +31,32 @@
  */
 package javax.time.format;
 
-import java.util.ArrayList;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
+import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.ZoneOffset;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
+import javax.time.calendrical.CalendricalRule;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 
@@ -51,9 +70,16 @@ import javax.time.calendrical.DateTimeRule;
  * Once parsing is complete, the {@link #toCalendricalEngine()} is typically used
  * to obtain a merger that will merge the separate parsed fields into meaningful values.
  * <p>
+ * Parsed fields are stored as a rule and primitive value, with optional segments
+ * tracked by position, so parsing does not allocate objects for the fields.
+ * A context obtained from {@link DateTimeFormatter#createParseContext()} can be
+ * reused for many parses by passing it to
+ * {@link DateTimeFormatter#parse(CharSequence, DateTimeParseContext, CalendricalRule)}.
+ * <p>
  * This class is a mutable context intended for use from a single thread.
  * Usage of the class is thread-safe within standard parsing as the framework creates
- * a new instance of the class for each parse and parsing is single-threaded
+ * a new instance of the class for each parse and parsing is single-threaded.
+ * A reusable context must only be used by one thread at a time.
  *
  * @author Michael Nascimento Santos
  * @author Stephen Colebourne
@@ -77,9 +103,33 @@ public final class DateTimeParseContext {
      */
     private boolean strict = true;
     /**
-     * The list of parsed data.
+     * The rules of the parsed entries, null where the entry is not a field.
+     */
+    private DateTimeRule[] rules = new DateTimeRule[8];
+    /**
+     * The values of the parsed entries that are fields.
+     */
+    private long[] values = new long[8];
+    /**
+     * The parsed entries that are not fields, null where the entry is a field.
+     */
+    private Calendrical[] objects = new Calendrical[8];
+    /**
+     * The number of parsed entries.
+     */
+    private int size;
+    /**
+     * The number of parsed entries at the start of each active optional segment.
+     */
+    private int[] optionalStarts = new int[4];
+    /**
+     * The number of active optional segments.
      */
-    private final ArrayList<Parsed> calendricals = new ArrayList<Parsed>();
+    private int optionalDepth;
+    /**
+     * The list view of the parsed entries, created on demand.
+     */
+    private ParsedList parsedList;
 
     /**
      * Creates a new instance of the context.
@@ -93,7 +143,22 @@ public final class DateTimeParseContext {
         super();
         setLocale(locale);
         setSymbols(symbols);
-        calendricals.add(new Parsed());
+    }
+
+    /**
+     * Resets the context for a new parse, retaining the allocated storage.
+     *
+     * @param locale  the locale to use, not null
+     * @param symbols  the symbols to use during parsing, not null
+     */
+    void reset(Locale locale, DateTimeFormatSymbols symbols) {
+        setLocale(locale);
+        setSymbols(symbols);
+        caseSensitive = true;
+        strict = true;
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+        optionalDepth = 0;
     }
 
     //-----------------------------------------------------------------------
@@ -227,7 +292,10 @@ public final class DateTimeParseContext {
      * Starts the parsing of an optional segment of the input.
      */
     void startOptional() {
-        calendricals.add(currentCalendrical().clone());
+        if (optionalDepth == optionalStarts.length) {
+            optionalStarts = Arrays.copyOf(optionalStarts, optionalDepth * 2);
+        }
+        optionalStarts[optionalDepth++] = size;
     }
 
     /**
@@ -236,23 +304,13 @@ public final class DateTimeParseContext {
      * @param successful  whether the optional segment was successfully parsed
      */
     void endOptional(boolean successful) {
-        if (successful) {
-            calendricals.remove(calendricals.size() - 2);
-        } else {
-            calendricals.remove(calendricals.size() - 1);
+        int start = optionalStarts[--optionalDepth];
+        if (successful == false && start < size) {
+            Arrays.fill(objects, start, size, null);
+            size = start;
         }
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Gets the currently active calendrical.
-     *
-     * @return the current calendrical, not null
-     */
-    private Parsed currentCalendrical() {
-        return calendricals.get(calendricals.size() - 1);
-    }
-
     //-----------------------------------------------------------------------
     /**
      * Gets the first field matching the specified rule.
@@ -266,12 +324,9 @@ public final class DateTimeParseContext {
      * @return the value mapped to the specified rule, null if rule not in the map
      */
     public DateTimeField getParsed(DateTimeRule rule) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
-            if (cal instanceof DateTimeField) {
-                DateTimeField field = (DateTimeField) cal;
-                if (field.getRule().equals(rule)) {
-                    return field;
-                }
+        for (int i = 0; i < size; i++) {
+            if (rules[i] != null && rules[i].equals(rule)) {
+                return DateTimeField.of(rules[i], values[i]);
             }
         }
         return null;
@@ -290,9 +345,17 @@ public final class DateTimeParseContext {
      */
     @SuppressWarnings("unchecked")
     public <T> T getParsed(Class<T> clazz) {
-        for (Calendrical cal : currentCalendrical().calendricals) {
-            if (clazz.isInstance(cal)) {
-                return (T) cal;
+        if (clazz == null) {
+            return null;
+        }
+        boolean fields = clazz.isAssignableFrom(DateTimeField.class);
+        for (int i = 0; i < size; i++) {
+            if (rules[i] != null) {
+                if (fields) {
+                    return (T) DateTimeField.of(rules[i], values[i]);
+                }
+            } else if (clazz.isInstance(objects[i])) {
+                return (T) objects[i];
             }
         }
         return null;
@@ -309,7 +372,10 @@ public final class DateTimeParseContext {
      * @return the list of previously parsed calendricals, not null, no nulls
      */
     public List<Calendrical> getParsed() {
-        return currentCalendrical().calendricals;
+        if (parsedList == null) {
+            parsedList = new ParsedList();
+        }
+        return parsedList;
     }
 
     /**
@@ -321,7 +387,7 @@ public final class DateTimeParseContext {
      */
     public <T> void setParsed(Calendrical calendrical) {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
-        currentCalendrical().calendricals.add(calendrical);
+        insert(size, calendrical);
     }
 
     /**
@@ -333,8 +399,91 @@ public final class DateTimeParseContext {
      * @param value  the value to set in the rule-value map
      */
     public void setParsedField(DateTimeRule rule, long value) {
-        DateTimeField field = DateTimeField.of(rule, value);
-        currentCalendrical().calendricals.add(field);
+        MathUtils.checkNotNull(rule, "DateTimeRule must not be null");
+        ensureCapacity();
+        rules[size] = rule;
+        values[size] = value;
+        size++;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Ensures there is space to add an entry.
+     */
+    private void ensureCapacity() {
+        if (size == rules.length) {
+            int newLength = size * 2;
+            rules = Arrays.copyOf(rules, newLength);
+            values = Arrays.copyOf(values, newLength);
+            objects = Arrays.copyOf(objects, newLength);
+        }
+    }
+
+    /**
+     * Inserts an entry, splitting fields into rule and value.
+     *
+     * @param index  the index to insert at, valid
+     * @param calendrical  the calendrical to insert, not null
+     */
+    private void insert(int index, Calendrical calendrical) {
+        ensureCapacity();
+        System.arraycopy(rules, index, rules, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        System.arraycopy(objects, index, objects, index + 1, size - index);
+        size++;
+        store(index, calendrical);
+        for (int i = 0; i < optionalDepth; i++) {
+            if (optionalStarts[i] > index) {
+                optionalStarts[i]++;
+            }
+        }
+    }
+
+    /**
+     * Stores an entry, splitting fields into rule and value.
+     *
+     * @param index  the index to store at, valid
+     * @param calendrical  the calendrical to store, not null
+     */
+    private void store(int index, Calendrical calendrical) {
+        if (calendrical instanceof DateTimeField) {
+            DateTimeField field = (DateTimeField) calendrical;
+            rules[index] = field.getRule();
+            values[index] = field.getValue();
+            objects[index] = null;
+        } else {
+            rules[index] = null;
+            values[index] = 0;
+            objects[index] = calendrical;
+        }
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param index  the index to remove, valid
+     */
+    private void delete(int index) {
+        size--;
+        System.arraycopy(rules, index + 1, rules, index, size - index);
+        System.arraycopy(values, index + 1, values, index, size - index);
+        System.arraycopy(objects, index + 1, objects, index, size - index);
+        objects[size] = null;
+        for (int i = 0; i < optionalDepth; i++) {
+            if (optionalStarts[i] > index) {
+                optionalStarts[i]--;
+            }
+        }
+    }
+
+    /**
+     * Gets an entry.
+     *
+     * @param index  the index to get, valid
+     * @return the entry, not null
+     */
+    private Calendrical entry(int index) {
+        return (rules[index] != null ? DateTimeField.of(rules[index], values[index]) : objects[index]);
     }
 
     //-----------------------------------------------------------------------
@@ -351,8 +500,115 @@ public final class DateTimeParseContext {
      * @return a new independent engine with the parsed calendricals, not null
      */
     public CalendricalEngine toCalendricalEngine() {
-        List<Calendrical> cals = getParsed();
-        return CalendricalEngine.merge(cals.toArray(new Calendrical[cals.size()]));
+        Calendrical[] cals = new Calendrical[size];
+        for (int i = 0; i < size; i++) {
+            cals[i] = entry(i);
+        }
+        return CalendricalEngine.merge(cals);
+    }
+
+    /**
+     * Resolves the parsed data directly to the specified rule if it is simple.
+     * <p>
+     * This handles data consisting only of the ISO year, month-of-year, day-of-month,
+     * hour-of-day, minute-of-hour, second-of-minute, milli-of-second or nano-of-second
+     * fields, each at most once, and at most one offset, as parsed by the standard ISO
+     * and common pattern formatters. Anything else, including invalid values, returns
+     * null so that the full engine can be used to merge the data and report errors.
+     *
+     * @param rule  the rule to resolve, not null
+     * @return the resolved value, null if the data is not simple enough
+     */
+    @SuppressWarnings("unchecked")
+    <T> T resolve(CalendricalRule<T> rule) {
+        long year = 0, month = 0, dom = 0, hour = 0, min = 0, sec = 0, nano = 0;
+        int found = 0;
+        ZoneOffset offset = null;
+        for (int i = 0; i < size; i++) {
+            DateTimeRule fieldRule = rules[i];
+            int bit;
+            if (fieldRule == null) {
+                if (objects[i] instanceof ZoneOffset == false || offset != null) {
+                    return null;
+                }
+                offset = (ZoneOffset) objects[i];
+                continue;
+            } else if (fieldRule == YEAR) {
+                year = values[i];
+                bit = 1;
+            } else if (fieldRule == MONTH_OF_YEAR) {
+                month = values[i];
+                bit = 2;
+            } else if (fieldRule == DAY_OF_MONTH) {
+                dom = values[i];
+                bit = 4;
+            } else if (fieldRule == HOUR_OF_DAY) {
+                hour = values[i];
+                bit = 8;
+            } else if (fieldRule == MINUTE_OF_HOUR) {
+                min = values[i];
+                bit = 16;
+            } else if (fieldRule == SECOND_OF_MINUTE) {
+                sec = values[i];
+                bit = 32;
+            } else if (fieldRule == NANO_OF_SECOND) {
+                nano = values[i];
+                bit = 64;
+            } else if (fieldRule == MILLI_OF_SECOND) {
+                if (values[i] < 0 || values[i] > 999) {
+                    return null;  // also avoids overflow when converting to nanos
+                }
+                nano = values[i] * 1000000L;
+                bit = 64;
+            } else {
+                return null;
+            }
+            if ((found & bit) != 0) {
+                return null;
+            }
+            found |= bit;
+        }
+        int dateBits = found & 7;
+        int timeBits = found & 120;
+        if ((dateBits != 0 && dateBits != 7) || (timeBits != 0 && timeBits != 24 && timeBits != 56 && timeBits != 120)) {
+            return null;
+        }
+        LocalDate date = null;
+        LocalTime time = null;
+        try {
+            if (dateBits != 0) {
+                if (year != (int) year || month < 1 || month > 12 || dom < 1 || dom > 31) {
+                    return null;
+                }
+                date = LocalDate.of((int) year, (int) month, (int) dom);
+            }
+            if (timeBits != 0) {
+                if (hour < 0 || hour > 23 || min < 0 || min > 59 || sec < 0 || sec > 59 || nano < 0 || nano > 999999999) {
+                    return null;
+                }
+                time = LocalTime.of((int) hour, (int) min, (int) sec, (int) nano);
+            }
+        } catch (CalendricalException ex) {
+            return null;
+        }
+        if (rule == LocalDate.rule()) {
+            return (T) date;
+        } else if (rule == LocalTime.rule()) {
+            return (T) time;
+        } else if (rule == LocalDateTime.rule()) {
+            return (date != null && time != null ? (T) LocalDateTime.of(date, time) : null);
+        } else if (rule == ZoneOffset.rule()) {
+            return (T) offset;
+        } else if (offset == null) {
+            return null;
+        } else if (rule == OffsetDateTime.rule()) {
+            return (date != null && time != null ? (T) OffsetDateTime.of(date, time, offset) : null);
+        } else if (rule == OffsetDate.rule()) {
+            return (date != null ? (T) OffsetDate.of(date, offset) : null);
+        } else if (rule == OffsetTime.rule()) {
+            return (time != null ? (T) OffsetTime.of(time, offset) : null);
+        }
+        return null;
     }
 
     //-----------------------------------------------------------------------
@@ -363,25 +619,50 @@ public final class DateTimeParseContext {
      */
     @Override
     public String toString() {
-        return currentCalendrical().toString();
+        return getParsed().toString();
     }
 
     //-----------------------------------------------------------------------
     /**
-     * Temporary store of parsed data.
+     * Modifiable list view of the parsed data.
      */
-    static class Parsed {
-        final List<Calendrical> calendricals = new ArrayList<Calendrical>();
-        
+    final class ParsedList extends AbstractList<Calendrical> {
+        @Override
+        public int size() {
+            return size;
+        }
         @Override
-        protected Parsed clone() {
-            Parsed cloned = new Parsed();
-            cloned.calendricals.addAll(this.calendricals);
-            return cloned;
+        public Calendrical get(int index) {
+            checkIndex(index, size);
+            return entry(index);
         }
         @Override
-        public String toString() {
-            return calendricals.toString();
+        public Calendrical set(int index, Calendrical element) {
+            checkIndex(index, size);
+            MathUtils.checkNotNull(element, "Calendrical must not be null");
+            Calendrical old = entry(index);
+            store(index, element);
+            return old;
+        }
+        @Override
+        public void add(int index, Calendrical element) {
+            checkIndex(index, size + 1);
+            MathUtils.checkNotNull(element, "Calendrical must not be null");
+            insert(index, element);
+            modCount++;
+        }
+        @Override
+        public Calendrical remove(int index) {
+            checkIndex(index, size);
+            Calendrical old = entry(index);
+            delete(index);
+            modCount++;
+            return old;
+        }
+        private void checkIndex(int index, int limit) {
+            if (index < 0 || index >= limit) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
         }
     }
 
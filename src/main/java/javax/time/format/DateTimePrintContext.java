@@ -31,12 +31,30 @@
  */
 package javax.time.format;
 
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
+
 import java.util.Locale;
 
 import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
 import javax.time.MathUtils;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.ZonedDateTime;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalRule;
+import javax.time.calendrical.DateTimeRule;
 
 /**
  * Context object used during date and time printing.
@@ -52,10 +70,24 @@ import javax.time.calendrical.CalendricalRule;
  */
 public final class DateTimePrintContext {
 
+    /**
+     * The value returned by {@link #getDirectValue(DateTimeRule)} when the value
+     * is not directly available.
+     */
+    static final long NO_DIRECT_VALUE = Long.MIN_VALUE;
+
     /**
      * The calendrical being output.
      */
     private Calendrical calendrical;
+    /**
+     * The date of the calendrical, null if not directly available.
+     */
+    private LocalDate date;
+    /**
+     * The time of the calendrical, null if not directly available.
+     */
+    private LocalTime time;
     /**
      * The locale, not null.
      */
@@ -103,6 +135,26 @@ public final class DateTimePrintContext {
     public void setCalendrical(Calendrical calendrical) {
         MathUtils.checkNotNull(calendrical, "Calendrical must not be null");
         this.calendrical = calendrical;
+        this.date = null;
+        this.time = null;
+        if (calendrical instanceof LocalDate) {
+            date = (LocalDate) calendrical;
+        } else if (calendrical instanceof LocalTime) {
+            time = (LocalTime) calendrical;
+        } else if (calendrical instanceof LocalDateTime) {
+            date = ((LocalDateTime) calendrical).toLocalDate();
+            time = ((LocalDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof OffsetDateTime) {
+            date = ((OffsetDateTime) calendrical).toLocalDate();
+            time = ((OffsetDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof ZonedDateTime) {
+            date = ((ZonedDateTime) calendrical).toLocalDate();
+            time = ((ZonedDateTime) calendrical).toLocalTime();
+        } else if (calendrical instanceof OffsetDate) {
+            date = ((OffsetDate) calendrical).toLocalDate();
+        } else if (calendrical instanceof OffsetTime) {
+            time = ((OffsetTime) calendrical).toLocalTime();
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -187,6 +239,46 @@ public final class DateTimePrintContext {
         }
     }
 
+    /**
+     * Gets the value of the specified rule directly from the date or time.
+     * <p>
+     * This is an optimization for the common ISO rules when printing one of the
+     * main date-time classes. The value is read from the primitive state of the
+     * date or time without creating a {@code DateTimeField}.
+     * Where this returns {@link #NO_DIRECT_VALUE}, the caller must use
+     * {@link #getValue(CalendricalRule)} instead.
+     *
+     * @param rule  the rule to find, not null
+     * @return the value, {@code NO_DIRECT_VALUE} if not directly available
+     */
+    long getDirectValue(DateTimeRule rule) {
+        if (date != null) {
+            if (rule == YEAR) {
+                return date.getYear();
+            } else if (rule == MONTH_OF_YEAR) {
+                return date.getMonthOfYear().getValue();
+            } else if (rule == DAY_OF_MONTH) {
+                return date.getDayOfMonth();
+            } else if (rule == DAY_OF_YEAR) {
+                return date.getDayOfYear();
+            } else if (rule == DAY_OF_WEEK) {
+                return date.getDayOfWeek().getValue();
+            }
+        }
+        if (time != null) {
+            if (rule == HOUR_OF_DAY) {
+                return time.getHourOfDay();
+            } else if (rule == MINUTE_OF_HOUR) {
+                return time.getMinuteOfHour();
+            } else if (rule == SECOND_OF_MINUTE) {
+                return time.getSecondOfMinute();
+            } else if (rule == NANO_OF_SECOND) {
+                return time.getNanoOfSecond();
+            }
+        }
+        return NO_DIRECT_VALUE;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string version of the context for debugging.
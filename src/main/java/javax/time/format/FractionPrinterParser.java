@@ -59,6 +59,10 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
      * The maximum width, from 0 to 9.
      */
     private final int maxWidth;
+    /**
+     * The number of decimal digits if the range is from zero to a power of ten, otherwise zero.
+     */
+    private final int decimalDigits;
 
     /**
      * Constructor.
@@ -85,17 +89,35 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
         this.rule = rule;
         this.minWidth = minWidth;
         this.maxWidth = maxWidth;
+        int digits = 0;
+        if (rule.getValueRange().getMinimum() == 0) {
+            long size = rule.getValueRange().getMaximum() + 1;
+            for (int i = 1; i <= 9; i++) {
+                if (size == NumberPrinterParser.EXCEED_POINTS[i]) {
+                    digits = i;
+                }
+            }
+        }
+        this.decimalDigits = digits;
     }
 
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     public boolean print(DateTimePrintContext context, StringBuilder buf) {
-        DateTimeField field = context.getValue(rule);
-        if (field == null) {
-            return false;
+        long value = context.getDirectValue(rule);
+        if (value == DateTimePrintContext.NO_DIRECT_VALUE) {
+            DateTimeField field = context.getValue(rule);
+            if (field == null) {
+                return false;
+            }
+            value = field.getValue();
         }
-        long value = field.getValue();
         DateTimeFormatSymbols symbols = context.getSymbols();
+        if (decimalDigits > 0 && symbols.getZeroDigit() == '0' &&
+                value >= 0 && value < NumberPrinterParser.EXCEED_POINTS[decimalDigits]) {
+            printDecimal((int) value, symbols, buf);
+            return true;
+        }
         BigDecimal fraction = rule.convertToFraction(value);
         if (fraction.scale() == 0) {  // scale is zero if value is zero
             if (minWidth > 0) {
@@ -115,6 +137,37 @@ final class FractionPrinterParser implements DateTimePrinter, DateTimeParser {
         return true;
     }
 
+    /**
+     * Prints the fraction of a rule with a decimal range using ASCII digits.
+     * <p>
+     * The fraction is the value zero-padded to the number of decimal digits,
+     * thus it can be output without the use of {@code BigDecimal}.
+     *
+     * @param value  the value, validated as within the range
+     * @param symbols  the symbols, not null
+     * @param buf  the buffer to append to, not null
+     */
+    private void printDecimal(int value, DateTimeFormatSymbols symbols, StringBuilder buf) {
+        int scale = decimalDigits;
+        int stripped = value;
+        while (scale > 0 && stripped % 10 == 0) {
+            stripped /= 10;
+            scale--;
+        }
+        int outputScale = Math.min(Math.max(scale, minWidth), maxWidth);
+        if (outputScale > 0) {
+            buf.append(symbols.getDecimalSeparator());
+            for (int i = decimalDigits - 1; i >= decimalDigits - outputScale; i--) {
+                if (i < 0) {
+                    buf.append('0');
+                } else {
+                    int divisor = (i == 0 ? 1 : NumberPrinterParser.EXCEED_POINTS[i]);
+                    buf.append((char) ('0' + (value / divisor) % 10));
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     public int parse(DateTimeParseContext context, CharSequence text, int position) {
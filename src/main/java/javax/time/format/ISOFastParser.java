@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import javax.time.LocalDateTime;
+import javax.time.MonthOfYear;
+import javax.time.OffsetDateTime;
+import javax.time.Year;
+import javax.time.ZoneOffset;
+import javax.time.calendrical.CalendricalRule;
+
+/**
+ * Parses the canonical form of the common ISO-8601 formats directly.
+ * <p>
+ * The general parser stores each field in the parse context and uses the
+ * {@code CalendricalEngine} to merge them, which is costly for formats that
+ * are parsed in high volume. This parser handles the canonical forms of
+ * {@link DateTimeFormatters#isoLocalDateTime()} and
+ * {@link DateTimeFormatters#isoOffsetDateTime()} by reading the digits
+ * directly from the text:
+ * <ul>
+ * <li>{@code yyyy-MM-ddTHH:mm[:ss[.S]]} with a four digit year and
+ * from one to nine fractional digits</li>
+ * <li>followed by {@code Z} or {@code +HH:MM} for the offset format</li>
+ * </ul>
+ * Any other input, including input that is invalid, returns null so that
+ * the caller can use the general parser to produce the result or error.
+ * <p>
+ * ISOFastParser is a thread-safe utility class.
+ *
+ * @author Stephen Colebourne
+ */
+final class ISOFastParser {
+
+    /**
+     * The type for a formatter that cannot be parsed by this class.
+     */
+    static final int NONE = 0;
+    /**
+     * The type for {@code DateTimeFormatters.isoLocalDateTime()}.
+     */
+    static final int LOCAL_DATE_TIME = 1;
+    /**
+     * The type for {@code DateTimeFormatters.isoOffsetDateTime()}.
+     */
+    static final int OFFSET_DATE_TIME = 2;
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private ISOFastParser() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text as the specified type of formatter producing the requested rule.
+     *
+     * @param type  the type of formatter, from the constants
+     * @param text  the text to parse, not null
+     * @param rule  the rule to produce, not null
+     * @return the parsed result, null if the fast parser cannot handle the input
+     */
+    static <T> T parse(int type, CharSequence text, CalendricalRule<T> rule) {
+        return parse(type, text, 0, text.length(), rule);
+    }
+
+    /**
+     * Parses a range of the text as the specified type of formatter producing the requested rule.
+     *
+     * @param type  the type of formatter, from the constants
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive, the whole range must be parsed
+     * @param rule  the rule to produce, not null
+     * @return the parsed result, null if the fast parser cannot handle the input
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T parse(int type, CharSequence text, int start, int end, CalendricalRule<T> rule) {
+        switch (type) {
+            case LOCAL_DATE_TIME:
+                if (rule == LocalDateTime.rule()) {
+                    return (T) parseLocalDateTime(text, start, end);
+                }
+                break;
+            case OFFSET_DATE_TIME:
+                if (rule == OffsetDateTime.rule()) {
+                    return (T) parseOffsetDateTime(text, start, end);
+                }
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the end of the run of characters that can form part of a canonical
+     * ISO date-time starting at the specified index.
+     * <p>
+     * This is used when parsing a date-time embedded in other text, such as a log line.
+     * The run is the longest range of digits and the characters {@code -:.+TZ}.
+     * If the range is not a canonical date-time, the general parser is used instead,
+     * which will stop at the correct place.
+     *
+     * @param text  the text to search, not null
+     * @param start  the start index, inclusive
+     * @param end  the maximum end index, exclusive
+     * @return the end index of the run, exclusive
+     */
+    static int findEnd(CharSequence text, int start, int end) {
+        int pos = start;
+        while (pos < end) {
+            char ch = text.charAt(pos);
+            if ((ch < '0' || ch > '9') && ch != '-' && ch != ':' && ch != '.' &&
+                    ch != '+' && ch != 'T' && ch != 'Z') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Parses a canonical ISO local date-time, such as '2011-12-03T10:15:30'.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive, the whole range must be parsed
+     * @return the parsed date-time, null if the fast parser cannot handle the input
+     */
+    static LocalDateTime parseLocalDateTime(CharSequence text, int start, int end) {
+        // yyyy-MM-ddTHH:mm is the minimum length
+        if (end - start < 16) {
+            return null;
+        }
+        int year = parseDigits(text, start, 4);
+        int month = parseDigits(text, start + 5, 2);
+        int day = parseDigits(text, start + 8, 2);
+        int hour = parseDigits(text, start + 11, 2);
+        int minute = parseDigits(text, start + 14, 2);
+        if ((year | month | day | hour | minute) < 0 ||
+                text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-' ||
+                text.charAt(start + 10) != 'T' || text.charAt(start + 13) != ':') {
+            return null;
+        }
+        int second = 0;
+        int nano = 0;
+        int pos = start + 16;
+        if (pos < end) {
+            if (end - pos < 3 || text.charAt(pos) != ':') {
+                return null;
+            }
+            second = parseDigits(text, pos + 1, 2);
+            if (second < 0) {
+                return null;
+            }
+            pos += 3;
+            if (pos < end) {
+                int digits = end - pos - 1;
+                if (digits < 1 || digits > 9 || text.charAt(pos) != '.') {
+                    return null;
+                }
+                nano = parseDigits(text, pos + 1, digits);
+                if (nano < 0) {
+                    return null;
+                }
+                if (digits < 9) {
+                    nano *= NumberPrinterParser.EXCEED_POINTS[9 - digits];
+                }
+            }
+        }
+        if (month < 1 || month > 12 || day < 1 ||
+                day > MonthOfYear.of(month).lengthInDays(Year.isLeap(year)) ||
+                hour > 23 || minute > 59 || second > 59) {
+            return null;  // let the general parser produce the error
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * Parses a canonical ISO offset date-time, such as '2011-12-03T10:15:30+01:00'.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive, the whole range must be parsed
+     * @return the parsed date-time, null if the fast parser cannot handle the input
+     */
+    static OffsetDateTime parseOffsetDateTime(CharSequence text, int start, int end) {
+        if (end - start < 17) {
+            return null;
+        }
+        ZoneOffset offset;
+        int localEnd;
+        if (text.charAt(end - 1) == 'Z') {
+            offset = ZoneOffset.UTC;
+            localEnd = end - 1;
+        } else {
+            localEnd = end - 6;
+            if (localEnd - start < 16) {
+                return null;
+            }
+            char sign = text.charAt(localEnd);
+            int hours = parseDigits(text, localEnd + 1, 2);
+            int minutes = parseDigits(text, localEnd + 4, 2);
+            if ((sign != '+' && sign != '-') || text.charAt(localEnd + 3) != ':' ||
+                    hours < 0 || hours > 17 || minutes < 0 || minutes > 59) {
+                return null;  // let the general parser handle 18:00 and errors
+            }
+            offset = (sign == '-' ? ZoneOffset.ofHoursMinutes(-hours, -minutes) : ZoneOffset.ofHoursMinutes(hours, minutes));
+        }
+        LocalDateTime dateTime = parseLocalDateTime(text, start, localEnd);
+        if (dateTime == null) {
+            return null;
+        }
+        return OffsetDateTime.of(dateTime, offset);
+    }
+
+    /**
+     * Parses a fixed number of ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, the range must be within the text
+     * @param count  the number of digits, from 1 to 9
+     * @return the value, negative if any character is not an ASCII digit
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int total = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            total = total * 10 + digit;
+        }
+        return total;
+    }
+
+}
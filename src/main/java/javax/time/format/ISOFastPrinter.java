@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.Calendrical;
+
+/**
+ * Prints the common ISO-8601 formats directly to a character or byte buffer.
+ * <p>
+ * The general printer appends each field to a {@code StringBuilder}, which must
+ * then be copied to the destination. This printer handles
+ * {@link DateTimeFormatters#isoLocalDateTime()} and
+ * {@link DateTimeFormatters#isoOffsetDateTime()} for the main date-time classes
+ * by writing the digits and literals in place, producing the same text:
+ * <ul>
+ * <li>{@code yyyy-MM-ddTHH:mm:ss[.S]} with a four digit year and
+ * the fraction printed without trailing zeros</li>
+ * <li>followed by {@code Z} or {@code +HH:MM[:SS]} for the offset format</li>
+ * </ul>
+ * Years outside the range 0 to 9999 and other calendricals are not handled,
+ * returning -1 so that the caller can use the general printer.
+ * <p>
+ * ISOFastPrinter is a thread-safe utility class.
+ *
+ * @author Stephen Colebourne
+ */
+final class ISOFastPrinter {
+
+    /**
+     * Private constructor since this is a utility class.
+     */
+    private ISOFastPrinter() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the calendrical as the specified type of formatter to the buffer.
+     * <p>
+     * Nothing is written unless the whole text fits between the index and the limit.
+     *
+     * @param type  the type of formatter, from the constants on {@code ISOFastParser}
+     * @param calendrical  the calendrical to print, not null
+     * @param buf  the buffer to print to, a {@code char[]}, {@code byte[]},
+     *  {@code CharBuffer} or {@code ByteBuffer}, not null
+     * @param index  the index in the buffer to print at
+     * @param limit  the limit index in the buffer, exclusive
+     * @return the number of characters printed, -1 if the fast printer cannot
+     *  handle the input or the text does not fit
+     */
+    static int print(int type, Calendrical calendrical, Object buf, int index, int limit) {
+        LocalDateTime dateTime;
+        ZoneOffset offset;
+        if (calendrical instanceof OffsetDateTime) {
+            OffsetDateTime odt = (OffsetDateTime) calendrical;
+            dateTime = odt.toLocalDateTime();
+            offset = odt.getOffset();
+        } else if (calendrical instanceof ZonedDateTime) {
+            ZonedDateTime zdt = (ZonedDateTime) calendrical;
+            dateTime = zdt.toLocalDateTime();
+            offset = zdt.getOffset();
+        } else if (calendrical instanceof LocalDateTime) {
+            dateTime = (LocalDateTime) calendrical;
+            offset = null;
+        } else {
+            return -1;
+        }
+        switch (type) {
+            case ISOFastParser.LOCAL_DATE_TIME:
+                offset = null;
+                break;
+            case ISOFastParser.OFFSET_DATE_TIME:
+                if (offset == null) {
+                    return -1;
+                }
+                break;
+            default:
+                return -1;
+        }
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int fraction = dateTime.getNanoOfSecond();
+        int fractionDigits = 0;
+        if (fraction > 0) {
+            fractionDigits = 9;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                fractionDigits--;
+            }
+        }
+        int length = 19 + (fractionDigits > 0 ? fractionDigits + 1 : 0);
+        int offsetSecs = 0;
+        if (offset != null) {
+            offsetSecs = offset.getTotalSeconds();
+            length += (offsetSecs == 0 ? 1 : (offsetSecs % 60 == 0 ? 6 : 9));
+        }
+        if (index < 0 || length > limit - index) {
+            return -1;
+        }
+        putDigits(buf, index, year / 100);
+        putDigits(buf, index + 2, year % 100);
+        put(buf, index + 4, '-');
+        putDigits(buf, index + 5, dateTime.getMonthOfYear().getValue());
+        put(buf, index + 7, '-');
+        putDigits(buf, index + 8, dateTime.getDayOfMonth());
+        put(buf, index + 10, 'T');
+        putDigits(buf, index + 11, dateTime.getHourOfDay());
+        put(buf, index + 13, ':');
+        putDigits(buf, index + 14, dateTime.getMinuteOfHour());
+        put(buf, index + 16, ':');
+        putDigits(buf, index + 17, dateTime.getSecondOfMinute());
+        int pos = index + 19;
+        if (fractionDigits > 0) {
+            put(buf, pos, '.');
+            for (int i = fractionDigits; i > 0; i--) {
+                put(buf, pos + i, (char) ('0' + fraction % 10));
+                fraction /= 10;
+            }
+            pos += fractionDigits + 1;
+        }
+        if (offset != null) {
+            if (offsetSecs == 0) {
+                put(buf, pos, 'Z');
+            } else {
+                int absSecs = Math.abs(offsetSecs);
+                put(buf, pos, offsetSecs < 0 ? '-' : '+');
+                putDigits(buf, pos + 1, absSecs / 3600);
+                put(buf, pos + 3, ':');
+                putDigits(buf, pos + 4, (absSecs / 60) % 60);
+                if (absSecs % 60 != 0) {
+                    put(buf, pos + 6, ':');
+                    putDigits(buf, pos + 7, absSecs % 60);
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Puts a two digit value into the buffer.
+     *
+     * @param buf  the buffer to print to, not null
+     * @param index  the index to put at
+     * @param value  the value, from 0 to 99
+     */
+    private static void putDigits(Object buf, int index, int value) {
+        put(buf, index, (char) ('0' + value / 10));
+        put(buf, index + 1, (char) ('0' + value % 10));
+    }
+
+    /**
+     * Puts an ASCII character into the buffer.
+     *
+     * @param buf  the buffer to print to, not null
+     * @param index  the index to put at
+     * @param ch  the character to put
+     */
+    private static void put(Object buf, int index, char ch) {
+        if (buf instanceof char[]) {
+            ((char[]) buf)[index] = ch;
+        } else if (buf instanceof byte[]) {
+            ((byte[]) buf)[index] = (byte) ch;
+        } else if (buf instanceof ByteBuffer) {
+            ((ByteBuffer) buf).put(index, (byte) ch);
+        } else {
+            ((CharBuffer) buf).put(index, ch);
+        }
+    }
+
+}
@@ -130,19 +130,22 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     public boolean print(DateTimePrintContext context, StringBuilder buf) {
-        DateTimeField field = context.getValue(rule);
-        if (field == null) {
-            return false;
+        long value = context.getDirectValue(rule);
+        if (value == DateTimePrintContext.NO_DIRECT_VALUE) {
+            DateTimeField field = context.getValue(rule);
+            if (field == null) {
+                return false;
+            }
+            value = field.getValue();
         }
-        long value = getValue(field);
+        value = getValue(value);
         DateTimeFormatSymbols symbols = context.getSymbols();
-        String str = (value == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(value)));
-        if (str.length() > maxWidth) {
+        int length = (value == Long.MIN_VALUE ? 19 : digitCount(Math.abs(value)));
+        if (length > maxWidth) {
             throw new CalendricalPrintException("Rule " + rule.getName() +
                 " cannot be printed as the value " + value +
                 " exceeds the maximum print width of " + maxWidth, rule);
         }
-        str = symbols.convertNumberToI18N(str);
         
         if (value >= 0) {
             switch (signStyle) {
@@ -168,21 +171,45 @@ class NumberPrinterParser implements DateTimePrinter, DateTimeParser {
                         " cannot be negative according to the SignStyle", rule);
             }
         }
-        for (int i = 0; i < minWidth - str.length(); i++) {
-            buf.append(symbols.getZeroDigit());
+        char zeroDigit = symbols.getZeroDigit();
+        for (int i = 0; i < minWidth - length; i++) {
+            buf.append(zeroDigit);
+        }
+        if (value == Long.MIN_VALUE) {
+            buf.append(symbols.convertNumberToI18N("9223372036854775808"));
+        } else if (zeroDigit == '0') {
+            // ASCII digits can be appended directly without an intermediate string
+            buf.append(Math.abs(value));
+        } else {
+            buf.append(symbols.convertNumberToI18N(Long.toString(Math.abs(value))));
         }
-        buf.append(str);
         return true;
     }
 
     /**
      * Gets the value to output.
      * 
-     * @param field  the field, not null
-     * @return the value
+     * @param value  the value of the field
+     * @return the value to output
      */
-    long getValue(DateTimeField field) {
-        return field.getValue();
+    long getValue(long value) {
+        return value;
+    }
+
+    /**
+     * Counts the number of decimal digits in a non-negative value.
+     * 
+     * @param value  the value, zero or greater
+     * @return the number of digits, from 1 to 19
+     */
+    static int digitCount(long value) {
+        int count = 1;
+        long limit = 10;
+        while (count < 19 && value >= limit) {
+            count++;
+            limit *= 10;
+        }
+        return count;
     }
 
     //-----------------------------------------------------------------------
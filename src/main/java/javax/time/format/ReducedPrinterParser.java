@@ -32,7 +32,6 @@
 package javax.time.format;
 
 import javax.time.CalendricalException;
-import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 
 /**
@@ -78,8 +77,7 @@ final class ReducedPrinterParser extends NumberPrinterParser {
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
-    long getValue(DateTimeField field) {
-        long value = field.getValue();
+    long getValue(long value) {
         return Math.abs(value % range);
     }
 
@@ -102,6 +102,25 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    /**
+     * Gets the compiled trie of text for the specified rule, style and locale for the purpose of parsing.
+     * <p>
+     * This is equivalent to {@link #getTextIterator}, but avoids testing each text in turn.
+     *
+     * @param rule  the rule to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @param caseSensitive  whether to match the case of the text
+     * @return the trie of text, null if the rule or style is not parsable
+     */
+    TextTrie<DateTimeField> getTextTrie(DateTimeRule rule, TextStyle style, Locale locale, boolean caseSensitive) {
+        Object store = findStore(rule, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getTextTrie(style, caseSensitive);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(DateTimeRule rule, Locale locale) {
         Entry<DateTimeRule, Locale> key = createEntry(rule, locale);
@@ -240,6 +259,14 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, DateTimeField>>> parsable;
+        /**
+         * Case sensitive parsable data, compiled to a trie.
+         */
+        private final Map<TextStyle, TextTrie<DateTimeField>> caseSensitiveTries;
+        /**
+         * Case insensitive parsable data, compiled to a trie.
+         */
+        private final Map<TextStyle, TextTrie<DateTimeField>> caseInsensitiveTries;
 
         //-----------------------------------------------------------------------
         /**
@@ -266,6 +293,12 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            this.caseSensitiveTries = new HashMap<TextStyle, TextTrie<DateTimeField>>();
+            this.caseInsensitiveTries = new HashMap<TextStyle, TextTrie<DateTimeField>>();
+            for (Entry<TextStyle, List<Entry<String, DateTimeField>>> entry : map.entrySet()) {
+                caseSensitiveTries.put(entry.getKey(), TextTrie.of(entry.getValue(), true));
+                caseInsensitiveTries.put(entry.getKey(), TextTrie.of(entry.getValue(), false));
+            }
         }
 
         //-----------------------------------------------------------------------
@@ -295,6 +328,17 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, DateTimeField>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets the compiled trie of text for the specified style for the purpose of parsing.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @param caseSensitive  whether to match the case of the text
+         * @return the trie of text, null if the style is not parsable
+         */
+        TextTrie<DateTimeField> getTextTrie(TextStyle style, boolean caseSensitive) {
+            return (caseSensitive ? caseSensitiveTries : caseInsensitiveTries).get(style);
+        }
     }
 
 }
@@ -94,7 +94,22 @@ final class TextPrinterParser implements DateTimePrinter, DateTimeParser {
             throw new IndexOutOfBoundsException();
         }
         TextStyle style = (context.isStrict() ? textStyle : null);
-        Iterator<Entry<String, DateTimeField>> it = DateTimeFormatters.getTextProvider().getTextIterator(rule, style, context.getLocale());
+        DateTimeTextProvider provider = DateTimeFormatters.getTextProvider();
+        if (provider instanceof SimpleDateTimeTextProvider) {
+            TextTrie<DateTimeField> trie = ((SimpleDateTimeTextProvider) provider).getTextTrie(rule, style, context.getLocale(), context.isCaseSensitive());
+            if (trie != null) {
+                int node = trie.match(parseText, position);
+                if (node >= 0) {
+                    context.setParsed(trie.getValue(node));
+                    return position + trie.getLength(node);
+                }
+                if (context.isStrict()) {
+                    return ~position;
+                }
+            }
+            return numberPrinterParser().parse(context, parseText, position);
+        }
+        Iterator<Entry<String, DateTimeField>> it = provider.getTextIterator(rule, style, context.getLocale());
         if (it != null) {
             while (it.hasNext()) {
                 Entry<String, DateTimeField> entry = it.next();
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * A compiled character trie used to parse text, such as field text or zone IDs.
+ * <p>
+ * The trie is built once from a set of text to value pairs, such as the text of
+ * a single rule, locale and style.
+ * Parsing walks the trie one character at a time, finding the longest text
+ * that matches at the parse position in time proportional to the length of the text.
+ * This produces the same result as testing each text from the longest to the shortest.
+ * <p>
+ * A case insensitive trie folds each character using the upper then lower case form,
+ * both when building and when parsing.
+ * <p>
+ * The trie is stored as a set of arrays indexed by node, with node zero as the root.
+ * The edges from each node are held contiguously and sorted by character.
+ * <p>
+ * TextTrie is immutable and thread-safe providing that the values are.
+ *
+ * @param <T> the type of the value associated with each text
+ * @author Stephen Colebourne
+ */
+final class TextTrie<T> {
+
+    /**
+     * Whether the trie is case sensitive.
+     */
+    private final boolean caseSensitive;
+    /**
+     * The index of the first edge of each node, with an extra element marking the end.
+     */
+    private final int[] firstEdge;
+    /**
+     * The character of each edge, sorted within each node.
+     */
+    private final char[] edgeChars;
+    /**
+     * The node that each edge leads to.
+     */
+    private final int[] edgeTargets;
+    /**
+     * The value of each node, null if no text ends at the node.
+     */
+    private final Object[] values;
+    /**
+     * The length of the text ending at each node.
+     */
+    private final int[] lengths;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builds a trie from text to value pairs.
+     * <p>
+     * Where two texts are equal, after folding if case insensitive,
+     * the first in the list is used.
+     *
+     * @param <T> the type of the value
+     * @param entries  the text to value pairs, no nulls, not null
+     * @param caseSensitive  whether the trie is case sensitive
+     * @return the trie, not null
+     */
+    static <T> TextTrie<T> of(List<Entry<String, T>> entries, boolean caseSensitive) {
+        Node root = new Node();
+        int nodeCount = 1;
+        int edgeCount = 0;
+        for (Entry<String, T> entry : entries) {
+            String text = entry.getKey();
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = (caseSensitive ? text.charAt(i) : fold(text.charAt(i)));
+                Node child = node.children.get(ch);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(ch, child);
+                    nodeCount++;
+                    edgeCount++;
+                }
+                node = child;
+            }
+            if (node.value == null) {
+                node.value = entry.getValue();
+            }
+        }
+        // flatten breadth first, so each node's edges are contiguous
+        int[] firstEdge = new int[nodeCount + 1];
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        Object[] values = new Object[nodeCount];
+        int[] lengths = new int[nodeCount];
+        List<Node> queue = new ArrayList<Node>(nodeCount);
+        queue.add(root);
+        int edge = 0;
+        for (int i = 0; i < queue.size(); i++) {
+            Node node = queue.get(i);
+            firstEdge[i] = edge;
+            values[i] = node.value;
+            for (Entry<Character, Node> child : node.children.entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = queue.size();
+                lengths[queue.size()] = lengths[i] + 1;
+                queue.add(child.getValue());
+                edge++;
+            }
+        }
+        firstEdge[nodeCount] = edge;
+        return new TextTrie<T>(caseSensitive, firstEdge, edgeChars, edgeTargets, values, lengths);
+    }
+
+    /**
+     * Folds a character for case insensitive matching.
+     *
+     * @param ch  the character to fold
+     * @return the folded character
+     */
+    private static char fold(char ch) {
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param caseSensitive  whether the trie is case sensitive
+     * @param firstEdge  the first edge of each node, assigned not cloned, not null
+     * @param edgeChars  the character of each edge, assigned not cloned, not null
+     * @param edgeTargets  the target node of each edge, assigned not cloned, not null
+     * @param values  the value of each node, assigned not cloned, not null
+     * @param lengths  the text length of each node, assigned not cloned, not null
+     */
+    private TextTrie(boolean caseSensitive, int[] firstEdge, char[] edgeChars, int[] edgeTargets, Object[] values, int[] lengths) {
+        this.caseSensitive = caseSensitive;
+        this.firstEdge = firstEdge;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.values = values;
+        this.lengths = lengths;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the trie is case sensitive.
+     *
+     * @return true if case sensitive
+     */
+    boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * Checks if the trie contains no text.
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return firstEdge[1] == 0;
+    }
+
+    /**
+     * Finds the longest text matching at the position.
+     * <p>
+     * The result is a node which can be queried using {@link #getValue(int)}
+     * and {@link #getLength(int)}.
+     *
+     * @param text  the text to match against, not null
+     * @param position  the position to start matching at, from 0 to the text length
+     * @return the node of the longest match, negative if nothing matched
+     */
+    int match(CharSequence text, int position) {
+        int length = text.length();
+        int node = 0;
+        int matchNode = -1;
+        for (int pos = position; pos < length; pos++) {
+            char ch = text.charAt(pos);
+            node = child(node, caseSensitive ? ch : fold(ch));
+            if (node < 0) {
+                break;
+            }
+            if (values[node] != null) {
+                matchNode = node;
+            }
+        }
+        return matchNode;
+    }
+
+    /**
+     * Gets the value of a node returned by {@link #match}.
+     *
+     * @param node  the matched node
+     * @return the value, not null
+     */
+    @SuppressWarnings("unchecked")
+    T getValue(int node) {
+        return (T) values[node];
+    }
+
+    /**
+     * Gets the length of the text matched by a node returned by {@link #match}.
+     *
+     * @param node  the matched node
+     * @return the length of the matched text
+     */
+    int getLength(int node) {
+        return lengths[node];
+    }
+
+    /**
+     * Finds the child of a node.
+     *
+     * @param node  the node to search from
+     * @param ch  the character of the edge, folded if case insensitive
+     * @return the child node, negative if not found
+     */
+    private int child(int node, char ch) {
+        int index = Arrays.binarySearch(edgeChars, firstEdge[node], firstEdge[node + 1], ch);
+        return (index >= 0 ? edgeTargets[index] : -1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Mutable node used while building the trie.
+     */
+    private static final class Node {
+        /** The child nodes, sorted by character. */
+        private final TreeMap<Character, Node> children = new TreeMap<Character, Node>();
+        /** The value, null if no text ends here. */
+        private Object value;
+    }
+
+}
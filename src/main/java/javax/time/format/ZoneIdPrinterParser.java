@@ -32,12 +32,8 @@
 package javax.time.format;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.time.ZoneId;
@@ -92,23 +88,19 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
 
     //-----------------------------------------------------------------------
     /**
-     * The cached tree to speed up parsing.
+     * The cached trie of IDs to speed up parsing.
+     * Immutable and volatile, so no synchronization needed.
      */
-    private static SubstringTree preparedTree;
-    /**
-     * The cached IDs.
-     */
-    private static Set<String> preparedIDs;  // TODO: used inside and outside sync block
+    private static volatile ParsableIDs preparedIDs;
 
     /**
      * This implementation looks for the longest matching string.
      * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
      * Etc/GMC although both are valid.
      * <p>
-     * This implementation uses a tree to search for valid time-zone names in
-     * the parseText. The top level node of the tree has a length equal to the
-     * length of the shortest time-zone as well as the beginning characters of
-     * all other time-zones.
+     * This implementation uses a trie of the parsable time-zone IDs, matching
+     * the parseText one character at a time.
+     * The trie is rebuilt when a new zone rules provider is registered.
      */
     public int parse(DateTimeParseContext context, CharSequence text, int position) {
         int length = text.length();
@@ -117,22 +109,14 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
         
         // setup parse tree
-        Set<String> ids = ZoneRulesGroup.getParsableIDs();
-        if (ids.size() == 0) {
+        TextTrie<String> trie = parsableIDs();
+        if (trie.isEmpty()) {
             return ~position;
         }
-        SubstringTree tree;
-        synchronized (ZoneIdPrinterParser.class) {
-            if (preparedTree == null || preparedIDs.size() < ids.size()) {
-                ids = new HashSet<String>(ids);
-                preparedTree = prepareParser(ids);
-                preparedIDs = ids;
-            }
-            tree = preparedTree;
-        }
         
         // handle fixed time-zone ids
-        if (text.subSequence(position, text.length()).toString().startsWith("UTC")) {
+        if (position + 3 <= length && text.charAt(position) == 'U' &&
+                text.charAt(position + 1) == 'T' && text.charAt(position + 2) == 'C') {
             DateTimeParseContext newContext = new DateTimeParseContext(context.getLocale(), DateTimeFormatSymbols.STANDARD);
             int startPos = position + 3;
             int endPos = new ZoneOffsetPrinterParser("", "+HH:MM:ss").parse(newContext, text, startPos);
@@ -146,128 +130,77 @@ final class ZoneIdPrinterParser implements DateTimePrinter, DateTimeParser {
         }
         
         // parse
-        String parsedZoneId = null;
-        while (tree != null) {
-            int nodeLength = tree.length;
-            if (position + nodeLength > length) {
-                break;
-            }
-            parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-            tree = tree.get(parsedZoneId);
+        int node = trie.match(text, position);
+        if (node < 0) {
+            return ~position;
         }
-        
-        if (parsedZoneId != null && preparedIDs.contains(parsedZoneId)) {
-            // handle zone version
-            ZoneId zone = ZoneId.of(parsedZoneId);
-            int pos = position + parsedZoneId.length();
-            if (pos + 1 < length && text.charAt(pos) == '#') {
-                Set<String> versions = zone.getGroup().getAvailableVersionIDs();
-                for (String version : versions) {
-                    if (context.subSequenceEquals(text, pos + 1, version, 0, version.length())) {
-                        zone = zone.withVersion(version);
-                        pos += version.length() + 1;
-                        break;
-                    }
+        // handle zone version
+        ZoneId zone = ZoneId.of(trie.getValue(node));
+        int pos = position + trie.getLength(node);
+        if (pos + 1 < length && text.charAt(pos) == '#') {
+            Set<String> versions = zone.getGroup().getAvailableVersionIDs();
+            for (String version : versions) {
+                if (context.subSequenceEquals(text, pos + 1, version, 0, version.length())) {
+                    zone = zone.withVersion(version);
+                    pos += version.length() + 1;
+                    break;
                 }
             }
-            context.setParsed(zone);
-            return pos;
-        } else {
-            return ~position;
         }
+        context.setParsed(zone);
+        return pos;
     }
 
-    //-----------------------------------------------------------------------
     /**
-     * Model a tree of substrings to make the parsing easier. Due to the nature
-     * of time-zone names, it can be faster to parse based in unique substrings
-     * rather than just a character by character match.
+     * Gets the trie of parsable IDs, rebuilding it if a provider has been registered.
      * <p>
-     * For example, to parse America/Denver we can look at the first two
-     * character "Am". We then notice that the shortest time-zone that starts
-     * with Am is America/Nome which is 12 characters long. Checking the first
-     * 12 characters of America/Denver gives America/Denv which is a substring
-     * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-     * match can be found.
+     * Two threads may rebuild the trie at the same time, which is harmless
+     * as the result is immutable and equivalent.
+     *
+     * @return the trie of parsable IDs, not null
+     */
+    private static TextTrie<String> parsableIDs() {
+        ParsableIDs prepared = preparedIDs;
+        int registrationCount = ZoneRulesGroup.getRegistrationCount();
+        if (prepared == null || prepared.registrationCount != registrationCount) {
+            prepared = new ParsableIDs(registrationCount, ZoneRulesGroup.getParsableIDs());
+            preparedIDs = prepared;
+        }
+        return prepared.trie;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The parsable IDs, compiled to a trie, as of a registration count.
      * <p>
-     * This structure maps substrings to substrings of a longer length. Each
-     * node of the tree contains a length and a map of valid substrings to
-     * sub-nodes. The parser gets the length from the root node. It then
-     * extracts a substring of that length from the parseText. If the map
-     * contains the substring, it is set as the possible time-zone and the
-     * sub-node for that substring is retrieved. The process continues until the
-     * substring is no longer found, at which point the matched text is checked
-     * against the real time-zones.
+     * This class is immutable and thread-safe.
      */
-    private static final class SubstringTree {
+    private static final class ParsableIDs {
         /**
-         * The length of the substring this node of the tree contains.
-         * Subtrees will have a longer length.
+         * The registration count that the IDs were obtained at.
          */
-        final int length;
+        final int registrationCount;
         /**
-         * Map of a substring to a set of substrings that contain the key.
+         * The trie of IDs, where the value is the ID.
          */
-        private final Map<CharSequence, SubstringTree> substringMap = new HashMap<CharSequence, SubstringTree>();
+        final TextTrie<String> trie;
 
         /**
          * Constructor.
          *
-         * @param length  the length of this tree
+         * @param registrationCount  the registration count, obtained before the IDs
+         * @param ids  the parsable IDs, not null
          */
-        private SubstringTree(int length) {
-            this.length = length;
-        }
-
-        private SubstringTree get(CharSequence substring2) {
-            return substringMap.get(substring2);
-
-        }
-
-        /**
-         * Values must be added from shortest to longest.
-         *
-         * @param newSubstring  the substring to add, not null
-         */
-        private void add(String newSubstring) {
-            int idLen = newSubstring.length();
-            if (idLen == length) {
-                substringMap.put(newSubstring, null);
-            } else if (idLen > length) {
-                String substring = newSubstring.substring(0, length);
-                SubstringTree parserTree = substringMap.get(substring);
-                if (parserTree == null) {
-                    parserTree = new SubstringTree(idLen);
-                    substringMap.put(substring, parserTree);
-                }
-                parserTree.add(newSubstring);
+        private ParsableIDs(int registrationCount, Set<String> ids) {
+            List<Entry<String, String>> entries = new ArrayList<Entry<String, String>>(ids.size());
+            for (String id : ids) {
+                entries.add(DateTimeTextProvider.createEntry(id, id));
             }
+            this.registrationCount = registrationCount;
+            this.trie = TextTrie.of(entries, true);
         }
     }
 
-    /**
-     * Builds an optimized parsing tree.
-     *
-     * @param availableIDs  the available IDs, not null, not empty
-     * @return the tree, not null
-     */
-    private static SubstringTree prepareParser(Set<String> availableIDs) {
-        // sort by length
-        List<String> ids = new ArrayList<String>(availableIDs);
-        Collections.sort(ids, new Comparator<String>() {
-            public int compare(String str1, String str2) {
-                return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
-            }
-        });
-        
-        // build the tree
-        SubstringTree tree = new SubstringTree(ids.get(0).length());
-        for (String id : ids) {
-            tree.add(id);
-        }
-        return tree;
-    }
-
     //-----------------------------------------------------------------------
     /** {@inheritDoc} */
     @Override
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import javax.time.MathUtils;
+import javax.time.calendrical.ISODateTimeRule;
+
+/**
+ * Epoch-day arithmetic used by the zone rules to work with dates without creating objects.
+ * <p>
+ * All calculations use the ISO-8601 chronology.
+ * The results must match those of {@code LocalDate}, whose calendar engine is
+ * package scoped in {@code javax.time} and cannot be used from this package.
+ * <p>
+ * EpochDays is a thread-safe utility class.
+ *
+ * @author Stephen Colebourne
+ */
+final class EpochDays {
+
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    /**
+     * Restricted constructor.
+     */
+    private EpochDays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day of a year and day-of-year.
+     *
+     * @param year  the year
+     * @param dayOfYear  the day-of-year, from 1, may exceed the length of the year
+     * @return the epoch-day
+     */
+    static long toEpochDay(int year, int dayOfYear) {
+        long y = year;
+        long leapDays = MathUtils.floorDiv(y + 3, 4) - MathUtils.floorDiv(y + 99, 100) + MathUtils.floorDiv(y + 399, 400);
+        return 365 * y + leapDays + dayOfYear - 1 - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Calculates the year of an epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the year
+     * @throws IllegalCalendarFieldValueException if the year is out of range
+     */
+    static int toYear(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchMonth0 = ((int) doyEst * 5 + 2) / 153;
+        yearEst += marchMonth0 / 10;
+        return ISODateTimeRule.YEAR.checkValidIntValue(yearEst);
+    }
+
+    /**
+     * Calculates the day-of-week of an epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the day-of-week, from 0 (Monday) to 6 (Sunday)
+     */
+    static int toDayOfWeek0(long epochDay) {
+        return MathUtils.floorMod(epochDay + 3, 7);
+    }
+
+}
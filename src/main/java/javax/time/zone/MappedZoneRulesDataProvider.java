@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.time.CalendricalException;
+import javax.time.MathUtils;
+
+/**
+ * Provides time-zone rules from a memory-mapped file in an indexed format.
+ * <p>
+ * {@link ResourceZoneRulesDataProvider} reads the whole of its data when it is loaded.
+ * This provider instead maps the file and reads only the fixed size header when opened,
+ * thus a file containing many versions of the rules for hundreds of regions is opened
+ * in constant time. The names of the versions and regions are read when the provider
+ * is registered, and each set of rules is decoded directly from the mapping the first
+ * time it is requested. As the mapping is read-only, the operating system shares the
+ * pages of the file between all the JVMs on the host that open it.
+ * <p>
+ * The file is written by {@link TZDBZoneRulesCompiler} using the {@code -mapped} option.
+ * The format uses fixed width offset tables, allowing any rules to be found without scanning:
+ * <ul>
+ * <li>the header, being the magic number, format version, the counts of versions,
+ *  regions and rules, and the offsets of the group ID and each table</li>
+ * <li>the version table and the region table, each being an int offset per entry
+ *  pointing at the name, with regions sorted</li>
+ * <li>the index table, being an int per version per region, holding the index
+ *  of the rules or -1 if the region is not in the version</li>
+ * <li>the rules table, being an int offset and an int length per rules</li>
+ * <li>the data, being the names and the serialized rules</li>
+ * </ul>
+ * <p>
+ * To use the file, open the provider and register it with {@link ZoneRulesGroup}.
+ * A version can only be registered once, thus the versions in the file must not
+ * already have been registered, such as from a jar file on the classpath.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class MappedZoneRulesDataProvider implements ZoneRulesDataProvider {
+
+    /**
+     * The magic number at the start of the file, 'TZMR'.
+     */
+    private static final int MAGIC = 0x545A4D52;
+    /**
+     * The format version.
+     */
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * The size of the header.
+     */
+    private static final int HEADER_SIZE = 40;
+
+    /**
+     * The mapped file, only accessed using absolute positions.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The time-zone group ID.
+     */
+    private final String groupID;
+    /**
+     * The number of versions.
+     */
+    private final int versionCount;
+    /**
+     * The number of regions.
+     */
+    private final int regionCount;
+    /**
+     * The number of rules.
+     */
+    private final int rulesCount;
+    /**
+     * The offset of the version table.
+     */
+    private final int versionTableOffset;
+    /**
+     * The offset of the region table.
+     */
+    private final int regionTableOffset;
+    /**
+     * The offset of the index table.
+     */
+    private final int indexTableOffset;
+    /**
+     * The offset of the rules table.
+     */
+    private final int rulesTableOffset;
+    /**
+     * The decoded rules, populated on demand.
+     */
+    private final AtomicReferenceArray<ZoneRules> rules;
+    /**
+     * The sorted region IDs, decoded on demand.
+     */
+    private volatile String[] regionArray;
+    /**
+     * The versions, created on demand.
+     */
+    private volatile Set<ZoneRulesVersion> versions;
+
+    /**
+     * Opens a file of rules, mapping it into memory.
+     * <p>
+     * Only the header of the file is read.
+     * The file is closed once mapped, as the mapping remains valid.
+     *
+     * @param file  the file to open, not null
+     * @return the provider, not null
+     * @throws IOException if the file cannot be read or is not in the correct format
+     */
+    public static MappedZoneRulesDataProvider open(File file) throws IOException {
+        MathUtils.checkNotNull(file, "File must not be null");
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedZoneRulesDataProvider(buffer);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param buffer  the buffer holding the file, not null
+     * @throws IOException if the buffer is not in the correct format
+     */
+    MappedZoneRulesDataProvider(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        int size = buffer.limit();
+        if (size < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new StreamCorruptedException("File format version not supported: " + buffer.getInt(4));
+        }
+        versionCount = buffer.getInt(8);
+        regionCount = buffer.getInt(12);
+        rulesCount = buffer.getInt(16);
+        int groupOffset = buffer.getInt(20);
+        versionTableOffset = buffer.getInt(24);
+        regionTableOffset = buffer.getInt(28);
+        indexTableOffset = buffer.getInt(32);
+        rulesTableOffset = buffer.getInt(36);
+        if (versionCount < 0 || regionCount < 0 || rulesCount < 0 ||
+                isValidRange(groupOffset, 2, size) == false ||
+                isValidRange(versionTableOffset, versionCount * 4L, size) == false ||
+                isValidRange(regionTableOffset, regionCount * 4L, size) == false ||
+                isValidRange(indexTableOffset, versionCount * (long) regionCount * 4L, size) == false ||
+                isValidRange(rulesTableOffset, rulesCount * 8L, size) == false) {
+            throw new StreamCorruptedException("File is truncated or corrupt");
+        }
+        groupID = readString(groupOffset);
+        rules = new AtomicReferenceArray<ZoneRules>(rulesCount);
+    }
+
+    private static boolean isValidRange(int offset, long length, int size) {
+        return offset >= HEADER_SIZE && offset + length <= size;
+    }
+
+    //-----------------------------------------------------------------------
+    public String getGroupID() {
+        return groupID;
+    }
+
+    public Set<ZoneRulesVersion> getVersions() {
+        Set<ZoneRulesVersion> result = versions;
+        if (result == null) {
+            // a race creates equal versions, which is harmless
+            Set<ZoneRulesVersion> set = new HashSet<ZoneRulesVersion>(versionCount * 2);
+            for (int i = 0; i < versionCount; i++) {
+                set.add(new MappedZoneRulesVersion(this, i, readString(buffer.getInt(versionTableOffset + i * 4))));
+            }
+            result = Collections.unmodifiableSet(set);
+            versions = result;
+        }
+        return result;
+    }
+
+    public Set<String> getRegionIDs() {
+        return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(getRegionArray())));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the sorted region IDs, decoding them if necessary.
+     *
+     * @return the region IDs, not to be modified, not null
+     */
+    String[] getRegionArray() {
+        String[] result = regionArray;
+        if (result == null) {
+            result = new String[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                result[i] = readString(buffer.getInt(regionTableOffset + i * 4));
+            }
+            regionArray = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the index of the rules for a version and region from the index table.
+     *
+     * @param versionIndex  the version index
+     * @param regionID  the region ID, not null
+     * @return the index of the rules, negative if not found
+     */
+    int findRulesIndex(int versionIndex, String regionID) {
+        int regionIndex = Arrays.binarySearch(getRegionArray(), regionID);
+        if (regionIndex < 0) {
+            return -1;
+        }
+        return buffer.getInt(indexTableOffset + (versionIndex * regionCount + regionIndex) * 4);
+    }
+
+    /**
+     * Loads the rules, decoding them from the mapping if necessary.
+     *
+     * @param index  the index to retrieve
+     * @return the rules, not null
+     * @throws Exception if the rules cannot be decoded
+     */
+    ZoneRules loadRules(int index) throws Exception {
+        ZoneRules result = rules.get(index);
+        if (result == null) {
+            // a race decodes equal rules twice, which is harmless
+            int offset = buffer.getInt(rulesTableOffset + index * 8);
+            int length = buffer.getInt(rulesTableOffset + index * 8 + 4);
+            result = (ZoneRules) Ser.read(new DataInputStream(new MappedInputStream(buffer, offset, length)));
+            rules.set(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads a string written by {@link DataOutputStream#writeUTF(String)}.
+     *
+     * @param offset  the offset of the string
+     * @return the string, not null
+     */
+    private String readString(int offset) {
+        try {
+            return new DataInputStream(new MappedInputStream(buffer, offset, buffer.limit() - offset)).readUTF();
+        } catch (IOException ex) {
+            throw new CalendricalException("Unable to read time-zone rules file: " + ex.getMessage(), ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a file of rules in the format read by this class.
+     *
+     * @param file  the file to write, not null
+     * @param groupID  the group ID, not null
+     * @param allBuiltZones  the rules by region ID by version ID, not null
+     * @throws IOException if an error occurs
+     */
+    static void write(File file, String groupID, Map<String, ? extends Map<String, ZoneRules>> allBuiltZones) throws IOException {
+        // collect the sorted names and the distinct rules
+        String[] versionArray = new TreeSet<String>(allBuiltZones.keySet()).toArray(new String[0]);
+        Set<String> regionSet = new TreeSet<String>();
+        List<ZoneRules> rulesList = new ArrayList<ZoneRules>();
+        Map<ZoneRules, Integer> rulesIndexMap = new HashMap<ZoneRules, Integer>();
+        for (String versionID : versionArray) {
+            for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(versionID).entrySet()) {
+                regionSet.add(entry.getKey());
+                if (rulesIndexMap.containsKey(entry.getValue()) == false) {
+                    rulesIndexMap.put(entry.getValue(), rulesList.size());
+                    rulesList.add(entry.getValue());
+                }
+            }
+        }
+        String[] regionArray = regionSet.toArray(new String[regionSet.size()]);
+        
+        // write the data area first, recording offsets
+        ByteArrayOutputStream data = new ByteArrayOutputStream(1024 * 1024);
+        DataOutputStream dataOut = new DataOutputStream(data);
+        int tablesSize = (versionArray.length + regionArray.length +
+                versionArray.length * regionArray.length + rulesList.size() * 2) * 4;
+        int dataOffset = HEADER_SIZE + tablesSize;
+        int groupOffset = dataOffset + dataOut.size();
+        dataOut.writeUTF(groupID);
+        int[] versionOffsets = new int[versionArray.length];
+        for (int i = 0; i < versionArray.length; i++) {
+            versionOffsets[i] = dataOffset + dataOut.size();
+            dataOut.writeUTF(versionArray[i]);
+        }
+        int[] regionOffsets = new int[regionArray.length];
+        for (int i = 0; i < regionArray.length; i++) {
+            regionOffsets[i] = dataOffset + dataOut.size();
+            dataOut.writeUTF(regionArray[i]);
+        }
+        int[] rulesOffsets = new int[rulesList.size()];
+        int[] rulesLengths = new int[rulesList.size()];
+        for (int i = 0; i < rulesList.size(); i++) {
+            rulesOffsets[i] = dataOffset + dataOut.size();
+            Ser.write(rulesList.get(i), dataOut);
+            rulesLengths[i] = dataOffset + dataOut.size() - rulesOffsets[i];
+        }
+        dataOut.flush();
+        
+        // write the header, tables and data
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            int versionTableOffset = HEADER_SIZE;
+            int regionTableOffset = versionTableOffset + versionArray.length * 4;
+            int indexTableOffset = regionTableOffset + regionArray.length * 4;
+            int rulesTableOffset = indexTableOffset + versionArray.length * regionArray.length * 4;
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(versionArray.length);
+            out.writeInt(regionArray.length);
+            out.writeInt(rulesList.size());
+            out.writeInt(groupOffset);
+            out.writeInt(versionTableOffset);
+            out.writeInt(regionTableOffset);
+            out.writeInt(indexTableOffset);
+            out.writeInt(rulesTableOffset);
+            for (int offset : versionOffsets) {
+                out.writeInt(offset);
+            }
+            for (int offset : regionOffsets) {
+                out.writeInt(offset);
+            }
+            for (String versionID : versionArray) {
+                Map<String, ZoneRules> builtZones = allBuiltZones.get(versionID);
+                for (String regionID : regionArray) {
+                    ZoneRules zoneRules = builtZones.get(regionID);
+                    out.writeInt(zoneRules != null ? rulesIndexMap.get(zoneRules) : -1);
+                }
+            }
+            for (int i = 0; i < rulesOffsets.length; i++) {
+                out.writeInt(rulesOffsets[i]);
+                out.writeInt(rulesLengths[i]);
+            }
+            data.writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return groupID + ":#" + getVersions();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Version of the rules.
+     * <p>
+     * MappedZoneRulesVersion is thread-safe and immutable.
+     */
+    static final class MappedZoneRulesVersion implements ZoneRulesVersion {
+        /** Provider. */
+        private final MappedZoneRulesDataProvider provider;
+        /** Version index. */
+        private final int versionIndex;
+        /** Version ID. */
+        private final String versionID;
+        /** Constructor. */
+        MappedZoneRulesVersion(MappedZoneRulesDataProvider provider, int versionIndex, String versionID) {
+            this.provider = provider;
+            this.versionIndex = versionIndex;
+            this.versionID = versionID;
+        }
+        public String getVersionID() {
+            return versionID;
+        }
+        public boolean isRegionID(String regionID) {
+            return provider.findRulesIndex(versionIndex, regionID) >= 0;
+        }
+        public Set<String> getRegionIDs() {
+            Set<String> set = new HashSet<String>();
+            for (String regionID : provider.getRegionArray()) {
+                if (isRegionID(regionID)) {
+                    set.add(regionID);
+                }
+            }
+            return Collections.unmodifiableSet(set);
+        }
+        public ZoneRules getZoneRules(String regionID) {
+            int index = provider.findRulesIndex(versionIndex, regionID);
+            if (index < 0) {
+                return null;
+            }
+            try {
+                return provider.loadRules(index);
+            } catch (Exception ex) {
+                throw new CalendricalException("Unable to load rules: " + provider.groupID + ':' + regionID + '#' + versionID, ex);
+            }
+        }
+        @Override
+        public String toString() {
+            return versionID;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Input stream reading a range of the mapping without altering its position.
+     */
+    static final class MappedInputStream extends InputStream {
+        /** The buffer. */
+        private final ByteBuffer buffer;
+        /** The current position. */
+        private int pos;
+        /** The end position, exclusive. */
+        private final int end;
+        /** Constructor. */
+        MappedInputStream(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.pos = offset;
+            this.end = offset + length;
+        }
+        @Override
+        public int read() {
+            return (pos < end ? buffer.get(pos++) & 0xFF : -1);
+        }
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (pos >= end) {
+                return -1;
+            }
+            int count = Math.min(len, end - pos);
+            for (int i = 0; i < count; i++) {
+                bytes[off + i] = buffer.get(pos++);
+            }
+            return count;
+        }
+    }
+
+}
@@ -39,11 +39,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.time.Instant;
 import javax.time.LocalDateTime;
+import javax.time.MathUtils;
 import javax.time.OffsetDateTime;
 import javax.time.Period;
 import javax.time.Year;
@@ -97,10 +97,19 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The first year held in the last rules caches.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private final int lastRulesCacheFirstYear;
+    /**
+     * The cache of transitions created from the last rules, indexed by year.
+     */
+    private final AtomicReferenceArray<ZoneOffsetTransition[]> lastRulesCache;
+    /**
+     * The cache of transition epoch-seconds created from the last rules, indexed by year.
+     * Each array is parallel to the last rules, thus the offsets before and after
+     * each transition are those of the matching rule.
+     */
+    private final AtomicReferenceArray<long[]> lastRulesEpochSecondCache;
 
     /**
      * Creates an instance.
@@ -156,6 +165,12 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             throw new IllegalArgumentException("Too many transition rules");
         }
         this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        
+        // caches
+        this.lastRulesCacheFirstYear = findLastRulesCacheFirstYear(savingsInstantTransitions, wallOffsets);
+        int cacheSize = (this.lastRules.length > 0 ? Math.max(LAST_CACHED_YEAR - lastRulesCacheFirstYear, 0) : 0);
+        this.lastRulesCache = new AtomicReferenceArray<ZoneOffsetTransition[]>(cacheSize);
+        this.lastRulesEpochSecondCache = new AtomicReferenceArray<long[]>(cacheSize);
     }
 
     /**
@@ -197,6 +212,28 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             }
         }
         this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        
+        // caches
+        this.lastRulesCacheFirstYear = findLastRulesCacheFirstYear(savingsInstantTransitions, wallOffsets);
+        int cacheSize = (lastRules.length > 0 ? Math.max(LAST_CACHED_YEAR - lastRulesCacheFirstYear, 0) : 0);
+        this.lastRulesCache = new AtomicReferenceArray<ZoneOffsetTransition[]>(cacheSize);
+        this.lastRulesEpochSecondCache = new AtomicReferenceArray<long[]>(cacheSize);
+    }
+
+    /**
+     * Finds the first year that the last rules can apply to.
+     * <p>
+     * This is the year of the last historic transition in the final wall offset.
+     *
+     * @param savingsInstantTransitions  the savings transitions, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @return the first year to cache
+     */
+    private static int findLastRulesCacheFirstYear(long[] savingsInstantTransitions, ZoneOffset[] wallOffsets) {
+        if (savingsInstantTransitions.length == 0) {
+            return LAST_CACHED_YEAR;
+        }
+        return findYear(savingsInstantTransitions[savingsInstantTransitions.length - 1], wallOffsets[wallOffsets.length - 1]);
     }
 
     //-----------------------------------------------------------------------
@@ -279,21 +316,36 @@ final class StandardZoneRules implements ZoneRules, Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(Instant instant) {
-        long epochSec = instant.getEpochSecond();
-        
+        return findOffset(instant.getEpochSecond());
+    }
+
+    @Override
+    public int getOffsetSeconds(long epochSecond) {
+        return findOffset(epochSecond).getTotalSeconds();
+    }
+
+    /**
+     * Finds the offset applicable at the specified epoch-second.
+     * <p>
+     * No objects are created by this method, other than when first caching
+     * the transitions of a year.
+     *
+     * @param epochSec  the epoch-second
+     * @return the offset, not null
+     */
+    private ZoneOffset findOffset(long epochSec) {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
-            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
-            ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
-            ZoneOffsetTransition trans = null;
-            for (int i = 0; i < transArray.length; i++) {
-                trans = transArray[i];
-                if (instant.isBefore(trans.getInstant())) {
-                    return trans.getOffsetBefore();
+            int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
+            long[] transArray = findTransitionEpochSecondArray(year);
+            for (int i = 0; i < lastRules.length; i++) {
+                long trans = (transArray != null ? transArray[i] : lastRules[i].createTransitionEpochSecond(year));
+                if (epochSec < trans) {
+                    return lastRules[i].getOffsetBefore();
                 }
             }
-            return trans.getOffsetAfter();
+            return lastRules[lastRules.length - 1].getOffsetAfter();
         }
         
         // using historic rules
@@ -355,6 +407,147 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         }
     }
 
+    @Override
+    public int getOffsetInfoSeconds(long localEpochSecond, int[] offsetSeconds) {
+        MathUtils.checkNotNull(offsetSeconds, "Offset seconds array must not be null");
+        if (offsetSeconds.length < 2) {
+            throw new IllegalArgumentException("Offset seconds array must have a length of at least 2");
+        }
+        int localCount = savingsInstantTransitions.length * 2;
+        
+        // check if using last rules
+        if (lastRules.length > 0 &&
+                localEpochSecond > findLocalTransition(localCount - 1)) {
+            int year = findYear(localEpochSecond, ZoneOffset.UTC);
+            long[] transArray = findTransitionEpochSecondArray(year);
+            int result = 1;
+            for (int i = 0; i < lastRules.length; i++) {
+                long trans = (transArray != null ? transArray[i] : lastRules[i].createTransitionEpochSecond(year));
+                int before = lastRules[i].getOffsetBefore().getTotalSeconds();
+                int after = lastRules[i].getOffsetAfter().getTotalSeconds();
+                result = findOffsetInfoSeconds(localEpochSecond, trans, before, after, offsetSeconds);
+                if (result != 1 || offsetSeconds[0] == before) {
+                    return result;
+                }
+            }
+            return result;
+        }
+        
+        // using historic rules, searching in the same manner as Arrays.binarySearch
+        int index = -1;
+        int low = 0;
+        int high = localCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midSec = findLocalTransition(mid);
+            if (midSec < localEpochSecond) {
+                low = mid + 1;
+            } else if (midSec > localEpochSecond) {
+                high = mid - 1;
+            } else {
+                index = mid;
+                break;
+            }
+        }
+        if (low > high) {
+            index = -(low + 1);
+        }
+        if (index == -1) {
+            // before first transition
+            offsetSeconds[0] = offsetSeconds[1] = wallOffsets[0].getTotalSeconds();
+            return 1;
+        }
+        if (index < 0) {
+            // switch negative insert position to start of matched range
+            index = -index - 2;
+        } else if (index < localCount - 1 &&
+                findLocalTransition(index) == findLocalTransition(index + 1)) {
+            // handle overlap immediately following gap
+            index++;
+        }
+        if ((index & 1) == 0) {
+            // gap or overlap
+            int before = wallOffsets[index / 2].getTotalSeconds();
+            int after = wallOffsets[index / 2 + 1].getTotalSeconds();
+            offsetSeconds[0] = before;
+            offsetSeconds[1] = after;
+            return (after > before ? 0 : 2);
+        } else {
+            // normal (neither gap or overlap)
+            offsetSeconds[0] = offsetSeconds[1] = wallOffsets[index / 2 + 1].getTotalSeconds();
+            return 1;
+        }
+    }
+
+    /**
+     * Finds the local epoch-second of an entry in the local transitions.
+     * <p>
+     * This is the primitive equivalent of {@code savingsLocalTransitions[index]},
+     * derived from the instant transitions and wall offsets.
+     *
+     * @param index  the index into the local transitions
+     * @return the local epoch-second
+     */
+    private long findLocalTransition(int index) {
+        int transIndex = index / 2;
+        long epochSec = savingsInstantTransitions[transIndex];
+        int before = wallOffsets[transIndex].getTotalSeconds();
+        int after = wallOffsets[transIndex + 1].getTotalSeconds();
+        boolean first = ((index & 1) == 0);
+        if (after > before) {
+            // gap, stored as before then after
+            return epochSec + (first ? before : after);
+        } else {
+            // overlap, stored as after then before
+            return epochSec + (first ? after : before);
+        }
+    }
+
+    /**
+     * Finds the offset info in seconds for a local epoch-second and transition.
+     * <p>
+     * This is the primitive equivalent of {@link #findOffsetInfo}.
+     *
+     * @param localSec  the local epoch-second
+     * @param transEpochSec  the epoch-second of the transition
+     * @param before  the offset seconds before the transition
+     * @param after  the offset seconds after the transition
+     * @param offsetSeconds  the array to populate, not null
+     * @return the number of valid offsets
+     */
+    private static int findOffsetInfoSeconds(
+            long localSec, long transEpochSec, int before, int after, int[] offsetSeconds) {
+        long localBefore = transEpochSec + before;
+        long localAfter = transEpochSec + after;
+        if (after > before) {
+            if (localSec < localBefore) {
+                offsetSeconds[0] = offsetSeconds[1] = before;
+                return 1;
+            }
+            if (localSec < localAfter) {
+                offsetSeconds[0] = before;
+                offsetSeconds[1] = after;
+                return 0;
+            } else {
+                offsetSeconds[0] = offsetSeconds[1] = after;
+                return 1;
+            }
+        } else {
+            if (localSec >= localBefore) {
+                offsetSeconds[0] = offsetSeconds[1] = after;
+                return 1;
+            }
+            if (localSec < localAfter) {
+                offsetSeconds[0] = offsetSeconds[1] = before;
+                return 1;
+            } else {
+                offsetSeconds[0] = before;
+                offsetSeconds[1] = after;
+                return 2;
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Finds the offset info for a local date-time and transition.
@@ -393,22 +586,73 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-        if (transArray != null) {
-            return transArray;
+        int index = year - lastRulesCacheFirstYear;
+        boolean cacheable = (index >= 0 && index < lastRulesCache.length());
+        if (cacheable) {
+            ZoneOffsetTransition[] transArray = lastRulesCache.get(index);
+            if (transArray != null) {
+                return transArray;
+            }
         }
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
+        ZoneOffsetTransition[] transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
+        if (cacheable) {
+            lastRulesCache.compareAndSet(index, null, transArray);
         }
         return transArray;
     }
 
+    /**
+     * Finds the transition epoch-seconds for the given year.
+     * <p>
+     * The array is parallel to the last rules array, such that the offsets
+     * before and after each transition are those of the matching rule.
+     * Years up to {@code LAST_CACHED_YEAR} are cached, thus a lookup in
+     * those years is an array access without allocation.
+     * Other years return null, and the caller calculates each transition using
+     * {@link ZoneOffsetTransitionRule#createTransitionEpochSecond(int)}.
+     *
+     * @param year  the year
+     * @return the transition epoch-seconds, null if the year is not cached
+     */
+    private long[] findTransitionEpochSecondArray(int year) {
+        int index = year - lastRulesCacheFirstYear;
+        if (index < 0 || index >= lastRulesEpochSecondCache.length()) {
+            return null;
+        }
+        long[] epochSecArray = lastRulesEpochSecondCache.get(index);
+        if (epochSecArray == null) {
+            ZoneOffsetTransitionRule[] ruleArray = lastRules;
+            epochSecArray = new long[ruleArray.length];
+            for (int i = 0; i < ruleArray.length; i++) {
+                epochSecArray[i] = ruleArray[i].createTransitionEpochSecond(year);
+            }
+            if (lastRulesEpochSecondCache.compareAndSet(index, null, epochSecArray) == false) {
+                epochSecArray = lastRulesEpochSecondCache.get(index);
+            }
+        }
+        return epochSecArray;
+    }
+
+    /**
+     * Finds the year of an epoch-second in the specified offset.
+     * <p>
+     * This is equivalent to {@code OffsetDateTime.ofEpochSecond(epochSec, offset).getYear()}
+     * without creating any objects.
+     *
+     * @param epochSec  the epoch-second
+     * @param offset  the offset to find the local year in, not null
+     * @return the year
+     * @throws IllegalCalendarFieldValueException if the year is out of range
+     */
+    static int findYear(long epochSec, ZoneOffset offset) {
+        long localSec = epochSec + offset.getTotalSeconds();
+        return EpochDays.toYear(MathUtils.floorDiv(localSec, MathUtils.SECONDS_PER_DAY));
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isValidDateTime(OffsetDateTime dateTime) {
@@ -450,8 +694,7 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             if (lastRules.length == 0) {
                 return null;
             }
-            OffsetDateTime dt = OffsetDateTime.ofInstant(instant, wallOffsets[wallOffsets.length - 1]);
-            for (int year = dt.getYear(); true; year++) {
+            for (int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]); true; year++) {
                 ZoneOffsetTransition[] transArray = findTransitionArray(year);
                 for (ZoneOffsetTransition trans : transArray) {
                     if (instant.isBefore(trans.getInstant())) {
@@ -512,6 +755,35 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         return new ZoneOffsetTransition(trans, wallOffsets[index]);
     }
 
+    @Override
+    public ZoneOffsetTransitionCursor transitionCursor(Instant instant) {
+        return new ZoneOffsetTransitionCursor(savingsInstantTransitions, wallOffsets, lastRules, instant.getEpochSecond());
+    }
+
+    @Override
+    public List<ZoneOffsetTransition> getTransitions(Instant startInclusive, Instant endExclusive) {
+        MathUtils.checkNotNull(startInclusive, "Start instant must not be null");
+        MathUtils.checkNotNull(endExclusive, "End instant must not be null");
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new IllegalArgumentException("End instant must not be before start instant");
+        }
+        // transitions are whole seconds, thus convert to an exclusive range of seconds
+        long afterSec = startInclusive.getEpochSecond();
+        if (startInclusive.getNanoOfSecond() == 0 && afterSec > Long.MIN_VALUE) {
+            afterSec--;
+        }
+        long beforeSec = endExclusive.getEpochSecond();
+        if (endExclusive.getNanoOfSecond() > 0 && beforeSec < Long.MAX_VALUE) {
+            beforeSec++;
+        }
+        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
+        ZoneOffsetTransitionCursor cursor = new ZoneOffsetTransitionCursor(savingsInstantTransitions, wallOffsets, lastRules, afterSec);
+        while (cursor.next() && cursor.getEpochSecond() < beforeSec) {
+            list.add(cursor.getTransition());
+        }
+        return list;
+    }
+
     //-------------------------------------------------------------------------
     @Override
     public List<ZoneOffsetTransition> getTransitions() {
@@ -35,10 +35,14 @@ import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
 import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
 import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.text.ParsePosition;
@@ -46,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +58,13 @@ import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
@@ -74,6 +86,10 @@ import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 /**
  * A builder that can read the TZDB time-zone files and build {@code ZoneRules} instances.
  * <p>
+ * The source files are parsed and the zones are built in parallel when an executor is set.
+ * In incremental mode, the rules of a zone are reused from an earlier version,
+ * or an earlier run, if the zone and rule lines that define it are unchanged.
+ * <p>
  * This class is a mutable builder. A new instance must be created for each compile.
  *
  * @author Stephen Colebourne
@@ -95,6 +111,10 @@ public final class TZDBZoneRulesCompiler {
      * Constant for MJD 1972-01-01.
      */
     private static final long MJD_1972_01_01 = 41317L;
+    /**
+     * The name of the file caching built rules in incremental mode.
+     */
+    private static final String CACHE_FILE_NAME = "jsr-310-TZDB-cache.dat";
 
     /**
      * Reads a set of TZDB files and builds a single combined data file.
@@ -112,6 +132,8 @@ public final class TZDBZoneRulesCompiler {
         File baseSrcDir = null;
         File dstDir = null;
         boolean verbose = false;
+        boolean incremental = false;
+        boolean mapped = false;
         
         // parse options
         int i;
@@ -140,6 +162,16 @@ public final class TZDBZoneRulesCompiler {
                     verbose = true;
                     continue;
                 }
+            } else if ("-incremental".equals(arg)) {
+                if (incremental == false) {
+                    incremental = true;
+                    continue;
+                }
+            } else if ("-mapped".equals(arg)) {
+                if (mapped == false) {
+                    mapped = true;
+                    continue;
+                }
             } else if ("-help".equals(arg) == false) {
                 System.out.println("Unrecognised option: " + arg);
             }
@@ -198,7 +230,7 @@ public final class TZDBZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, verbose);
+        process(srcDirs, srcFileNames, dstDir, verbose, incremental, mapped);
         System.exit(0);
     }
 
@@ -213,20 +245,32 @@ public final class TZDBZoneRulesCompiler {
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
+        System.out.println("   -incremental          Reuse zones that are unchanged from the cache in dstdir");
+        System.out.println("   -mapped               Also output a combined file for MappedZoneRulesDataProvider");
         System.out.println(" There must be one directory for each version in srcdir");
         System.out.println(" Each directory must have the name of the version, such as 2009a");
         System.out.println(" Each directory must contain the unpacked tzdb files, such as asia or europe");
         System.out.println(" Directories must match the regex [12][0-9][0-9][0-9][A-Za-z0-9._-]+");
         System.out.println(" There will be one jar file for each version and one combined jar in dstdir");
         System.out.println(" If the version is specified, only that version is processed");
+        System.out.println(" The incremental cache must be deleted if the compiler itself changes");
     }
 
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir,
+            boolean verbose, boolean incremental, boolean mapped) {
+        // load the rules built by earlier runs
+        File cacheFile = new File(dstDir, CACHE_FILE_NAME);
+        Map<String, ZoneRules> buildCache = null;
+        if (incremental) {
+            buildCache = loadBuildCache(cacheFile, verbose);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        
         // build actual jar files
-        Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+        ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         Set<String> allRegionIds = new TreeSet<String>();
         Set<ZoneRules> allRules = new HashSet<ZoneRules>();
@@ -254,6 +298,8 @@ public final class TZDBZoneRulesCompiler {
             String loopVersion = srcDir.getName();
             TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
             compiler.setDeduplicateMap(deduplicateMap);
+            compiler.setExecutor(executor);
+            compiler.setBuildCache(buildCache);
             try {
                 // compile
                 compiler.compile();
@@ -286,6 +332,7 @@ public final class TZDBZoneRulesCompiler {
                 System.exit(1);
             }
         }
+        executor.shutdown();
         
         // output merged file
         File dstFile = new File(dstDir, "jsr-310-TZDB-all.jar");
@@ -293,6 +340,91 @@ public final class TZDBZoneRulesCompiler {
             System.out.println("Outputting combined file: " + dstFile);
         }
         outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+        
+        // output merged file for memory-mapping
+        if (mapped) {
+            File mappedFile = new File(dstDir, "jsr-310-TZDB-all.tzm");
+            if (verbose) {
+                System.out.println("Outputting mapped file: " + mappedFile);
+            }
+            try {
+                MappedZoneRulesDataProvider.write(mappedFile, "TZDB", allBuiltZones);
+            } catch (Exception ex) {
+                System.out.println("Failed: " + ex.toString());
+                ex.printStackTrace();
+                System.exit(1);
+            }
+        }
+        
+        // save the rules for the next run
+        if (incremental) {
+            saveBuildCache(cacheFile, buildCache, verbose);
+        }
+    }
+
+    /**
+     * Loads the cache of built rules, returning an empty cache if the file is missing or invalid.
+     */
+    private static Map<String, ZoneRules> loadBuildCache(File cacheFile, boolean verbose) {
+        Map<String, ZoneRules> buildCache = new ConcurrentHashMap<String, ZoneRules>();
+        if (cacheFile.exists() == false) {
+            return buildCache;
+        }
+        if (verbose) {
+            System.out.println("Loading cache file: " + cacheFile);
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)));
+            if (in.readByte() != 1) {
+                throw new IllegalArgumentException("Unknown cache file version");
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                byte[] keyBytes = new byte[in.readInt()];
+                in.readFully(keyBytes);
+                ZoneRules rules = (ZoneRules) Ser.read(in);
+                buildCache.put(new String(keyBytes, "UTF-8"), rules);
+            }
+        } catch (Exception ex) {
+            System.out.println("Ignoring invalid cache file: " + cacheFile + ": " + ex.toString());
+            buildCache.clear();
+        } finally {
+            try {
+                if (in != null) {
+                    in.close();
+                }
+            } catch (Exception ex) {
+                // ignore NPE and IOE
+            }
+        }
+        return buildCache;
+    }
+
+    /**
+     * Saves the cache of built rules.
+     */
+    private static void saveBuildCache(File cacheFile, Map<String, ZoneRules> buildCache, boolean verbose) {
+        if (verbose) {
+            System.out.println("Outputting cache file: " + cacheFile);
+        }
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile)));
+            // file version
+            out.writeByte(1);
+            out.writeInt(buildCache.size());
+            for (Map.Entry<String, ZoneRules> entry : new TreeMap<String, ZoneRules>(buildCache).entrySet()) {
+                byte[] keyBytes = entry.getKey().getBytes("UTF-8");
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                Ser.write(entry.getValue(), out);
+            }
+            out.close();
+        } catch (Exception ex) {
+            System.out.println("Failed: " + ex.toString());
+            ex.printStackTrace();
+            System.exit(1);
+        }
     }
 
     /**
@@ -351,11 +483,15 @@ public final class TZDBZoneRulesCompiler {
             }
             // link version-region-rules
             List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
+            Map<ZoneRules, Integer> rulesIndexMap = new HashMap<ZoneRules, Integer>();
+            for (int i = 0; i < rulesList.size(); i++) {
+                rulesIndexMap.put(rulesList.get(i), i);
+            }
             for (String version : allBuiltZones.keySet()) {
                 out.writeShort(allBuiltZones.get(version).size());
                 for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
                      int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
-                     int rulesIndex = rulesList.indexOf(entry.getValue());
+                     int rulesIndex = rulesIndexMap.get(entry.getValue());
                      out.writeShort(regionIndex);
                      out.writeShort(rulesIndex);
                 }
@@ -426,8 +562,12 @@ public final class TZDBZoneRulesCompiler {
     private final Map<String, String> links = new HashMap<String, String>();
     /** The built zones. */
     private final SortedMap<String, ZoneRules> builtZones = new TreeMap<String, ZoneRules>();
-    /** A map to deduplicate object instances. */
-    private Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
+    /** A map to deduplicate object instances, concurrent as it is shared between threads. */
+    private ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<Object, Object>();
+    /** The executor to run tasks in parallel, null to run in the calling thread. */
+    private ExecutorService executor;
+    /** The cache of built rules keyed by the source that defines them, null if not incremental. */
+    private Map<String, ZoneRules> buildCache;
     /** Sorted collection of LeapSecondRules. */
     private final SortedMap<LocalDate, Byte> leapSeconds = new TreeMap<LocalDate, Byte>();
 
@@ -501,10 +641,34 @@ public final class TZDBZoneRulesCompiler {
      *
      * @param deduplicateMap  the map to deduplicate items
      */
-    void setDeduplicateMap(Map<Object, Object> deduplicateMap) {
+    void setDeduplicateMap(ConcurrentMap<Object, Object> deduplicateMap) {
         this.deduplicateMap = deduplicateMap;
     }
 
+    /**
+     * Sets the executor used to parse the files and build the zones in parallel.
+     * <p>
+     * The deduplication map must be a concurrent map if an executor is set.
+     *
+     * @param executor  the executor, null to run in the calling thread
+     */
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the cache of built rules, enabling incremental compilation.
+     * <p>
+     * The cache is keyed by a description of the zone and rule lines that define a zone.
+     * Zones that are found in the cache are not built again.
+     * Newly built zones are added to the cache.
+     *
+     * @param buildCache  the concurrent cache to use, null to build every zone
+     */
+    void setBuildCache(Map<String, ZoneRules> buildCache) {
+        this.buildCache = buildCache;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the source files.
@@ -512,9 +676,31 @@ public final class TZDBZoneRulesCompiler {
      * @throws Exception if an error occurs
      */
     private void parseFiles() throws Exception {
-        for (File file : sourceFiles) {
-            printVerbose("Parsing file: " + file);
-            parseFile(file);
+        List<Callable<TZDBFile>> tasks = new ArrayList<Callable<TZDBFile>>(sourceFiles.size());
+        for (final File file : sourceFiles) {
+            tasks.add(new Callable<TZDBFile>() {
+                public TZDBFile call() throws Exception {
+                    printVerbose("Parsing file: " + file);
+                    return parseFile(file);
+                }
+            });
+        }
+        // merge in file order, so later files take precedence as before
+        for (TZDBFile parsed : invokeAll(tasks)) {
+            for (Map.Entry<String, List<TZDBRule>> entry : parsed.rules.entrySet()) {
+                if (rules.containsKey(entry.getKey()) == false) {
+                    rules.put(entry.getKey(), new ArrayList<TZDBRule>());
+                }
+                rules.get(entry.getKey()).addAll(entry.getValue());
+            }
+            zones.putAll(parsed.zones);
+            links.putAll(parsed.links);
+        }
+        // the rules are shared between zones, so adjust them before building in parallel
+        for (List<TZDBRule> ruleList : rules.values()) {
+            for (TZDBRule rule : ruleList) {
+                rule.adjustToFowards(2004);  // irrelevant, treat as leap year
+            }
         }
     }
 
@@ -614,9 +800,11 @@ public final class TZDBZoneRulesCompiler {
      * Parses a source file.
      *
      * @param file  the file being read, not null
+     * @return the rules, zones and links parsed from the file, not null
      * @throws Exception if an error occurs
      */
-    private void parseFile(File file) throws Exception {
+    private TZDBFile parseFile(File file) throws Exception {
+        TZDBFile parsed = new TZDBFile();
         int lineNumber = 1;
         String line = null;
         BufferedReader in = null;
@@ -645,7 +833,7 @@ public final class TZDBZoneRulesCompiler {
                                 throw new IllegalArgumentException("Invalid Zone line");
                             }
                             openZone = new ArrayList<TZDBZone>();
-                            zones.put(st.nextToken(), openZone);
+                            parsed.zones.put(st.nextToken(), openZone);
                             if (parseZoneLine(st, openZone)) {
                                 openZone = null;
                             }
@@ -656,7 +844,7 @@ public final class TZDBZoneRulesCompiler {
                                     printVerbose("Invalid Rule line in file: " + file + ", line: " + line);
                                     throw new IllegalArgumentException("Invalid Rule line");
                                 }
-                                parseRuleLine(st);
+                                parseRuleLine(st, parsed.rules);
                                 
                             } else if (first.equals("Link")) {
                                 if (st.countTokens() < 2) {
@@ -665,7 +853,7 @@ public final class TZDBZoneRulesCompiler {
                                 }
                                 String realId = st.nextToken();
                                 String aliasId = st.nextToken();
-                                links.put(aliasId, realId);
+                                parsed.links.put(aliasId, realId);
                                 
                             } else {
                                 throw new IllegalArgumentException("Unknown line");
@@ -685,14 +873,16 @@ public final class TZDBZoneRulesCompiler {
                 // ignore NPE and IOE
             }
         }
+        return parsed;
     }
 
     /**
      * Parses a Rule line.
      *
      * @param st  the tokenizer, not null
+     * @param rules  the rules to add to, not null
      */
-    private void parseRuleLine(StringTokenizer st) {
+    private void parseRuleLine(StringTokenizer st, Map<String, List<TZDBRule>> rules) {
         TZDBRule rule = new TZDBRule();
         String name = st.nextToken();
         if (rules.containsKey(name) == false) {
@@ -892,16 +1082,21 @@ public final class TZDBZoneRulesCompiler {
      */
     private void buildZoneRules() throws Exception {
         // build zones
+        List<String> zoneIds = new ArrayList<String>(zones.size());
+        List<Callable<ZoneRules>> tasks = new ArrayList<Callable<ZoneRules>>(zones.size());
         for (String zoneId : zones.keySet()) {
-            printVerbose("Building zone " + zoneId);
-            zoneId = deduplicate(zoneId);
-            List<TZDBZone> tzdbZones = zones.get(zoneId);
-            ZoneRulesBuilder bld = new ZoneRulesBuilder();
-            for (TZDBZone tzdbZone : tzdbZones) {
-                bld = tzdbZone.addToBuilder(bld, rules);
-            }
-            ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
-            builtZones.put(zoneId, deduplicate(buildRules));
+            final String dedupedZoneId = deduplicate(zoneId);
+            final List<TZDBZone> tzdbZones = zones.get(zoneId);
+            zoneIds.add(dedupedZoneId);
+            tasks.add(new Callable<ZoneRules>() {
+                public ZoneRules call() throws Exception {
+                    return buildZone(dedupedZoneId, tzdbZones);
+                }
+            });
+        }
+        List<ZoneRules> results = invokeAll(tasks);
+        for (int i = 0; i < zoneIds.size(); i++) {
+            builtZones.put(zoneIds.get(i), deduplicate(results.get(i)));
         }
         
         // build aliases
@@ -926,6 +1121,103 @@ public final class TZDBZoneRulesCompiler {
         builtZones.remove("GMT");
     }
 
+    /**
+     * Builds the rules for a single zone, using the cache if possible.
+     *
+     * @param zoneId  the zone id, not null
+     * @param tzdbZones  the zone lines, not null
+     * @return the rules, not null
+     */
+    private ZoneRules buildZone(String zoneId, List<TZDBZone> tzdbZones) {
+        String key = null;
+        if (buildCache != null) {
+            // the key must be created before building, which alters the zone lines
+            key = buildKey(tzdbZones);
+            ZoneRules cached = buildCache.get(key);
+            if (cached != null) {
+                printVerbose("Reusing zone " + zoneId);
+                return cached;
+            }
+        }
+        printVerbose("Building zone " + zoneId);
+        ZoneRulesBuilder bld = new ZoneRulesBuilder();
+        for (TZDBZone tzdbZone : tzdbZones) {
+            bld = tzdbZone.addToBuilder(bld, rules);
+        }
+        ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
+        if (key != null) {
+            buildCache.put(key, buildRules);
+        }
+        return buildRules;
+    }
+
+    /**
+     * Creates the key describing the zone and rule lines that define a zone.
+     * <p>
+     * The key is formed from the parsed values, excluding the zone id and the text
+     * that are not used when building, thus formatting changes do not alter the key.
+     *
+     * @param tzdbZones  the zone lines, not null
+     * @return the key, not null
+     */
+    String buildKey(List<TZDBZone> tzdbZones) {
+        StringBuilder buf = new StringBuilder(256);
+        Set<String> ruleNames = new LinkedHashSet<String>();
+        for (TZDBZone tzdbZone : tzdbZones) {
+            tzdbZone.appendKey(buf);
+            if (tzdbZone.savingsRule != null) {
+                ruleNames.add(tzdbZone.savingsRule);
+            }
+        }
+        for (String ruleName : ruleNames) {
+            buf.append(ruleName).append(':');
+            List<TZDBRule> tzdbRules = rules.get(ruleName);
+            if (tzdbRules != null) {
+                for (TZDBRule tzdbRule : tzdbRules) {
+                    tzdbRule.appendKey(buf);
+                }
+            }
+        }
+        return buf.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the tasks, in parallel if there is an executor.
+     *
+     * @param <T> the result type
+     * @param tasks  the tasks to run, not null
+     * @return the results in the order of the tasks, not null
+     * @throws Exception if a task throws an exception
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList<T>(tasks.size());
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                results.add(task.call());
+            }
+            return results;
+        }
+        List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException ex) {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw (Error) ex.getCause();
+        }
+        return results;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Deduplicates an object instance.
@@ -936,10 +1228,9 @@ public final class TZDBZoneRulesCompiler {
      */
     @SuppressWarnings("unchecked")
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        // atomic, so that the map can be shared between threads
+        T existing = (T) deduplicateMap.putIfAbsent(object, object);
+        return (existing != null ? existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -982,6 +1273,12 @@ public final class TZDBZoneRulesCompiler {
                 adjustForwards = true;
             }
         }
+
+        void appendKey(StringBuilder buf) {
+            buf.append(month).append(',').append(dayOfMonth).append(',').append(adjustForwards).append(',')
+                .append(dayOfWeek).append(',').append(time).append(',').append(endOfDay).append(',')
+                .append(timeDefinition);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -1002,6 +1299,13 @@ public final class TZDBZoneRulesCompiler {
             adjustToFowards(2004);  // irrelevant, treat as leap year
             bld.addRuleToWindow(startYear, endYear, month, dayOfMonth, dayOfWeek, time, endOfDay, timeDefinition, savingsAmount);
         }
+
+        @Override
+        void appendKey(StringBuilder buf) {
+            buf.append(startYear).append(',').append(endYear).append(',').append(savingsAmount).append(',');
+            super.appendKey(buf);
+            buf.append(';');
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -1042,6 +1346,14 @@ public final class TZDBZoneRulesCompiler {
             return bld;
         }
 
+        @Override
+        void appendKey(StringBuilder buf) {
+            buf.append(standardOffset).append(',').append(fixedSavings).append(',')
+                .append(savingsRule).append(',').append(year).append(',');
+            super.appendKey(buf);
+            buf.append(';');
+        }
+
         private LocalDateTime toDateTime(int year) {
             adjustToFowards(year);
             LocalDate date;
@@ -1066,6 +1378,19 @@ public final class TZDBZoneRulesCompiler {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Class representing the rules, zones and links parsed from one TZDB file.
+     */
+    final class TZDBFile {
+        /** The TZDB rules. */
+        final Map<String, List<TZDBRule>> rules = new HashMap<String, List<TZDBRule>>();
+        /** The TZDB zones. */
+        final Map<String, List<TZDBZone>> zones = new HashMap<String, List<TZDBZone>>();
+        /** The TZDB links. */
+        final Map<String, String> links = new HashMap<String, String>();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Class representing a rule line in the TZDB file.
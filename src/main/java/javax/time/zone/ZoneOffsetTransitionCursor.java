@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.MathUtils;
+import javax.time.OffsetDateTime;
+import javax.time.Year;
+import javax.time.ZoneOffset;
+
+/**
+ * A cursor that walks forward through the transitions of a time-zone.
+ * <p>
+ * A cursor is obtained from {@link ZoneRules#transitionCursor(Instant)}.
+ * Each call to {@link #next()} moves to the next transition, stepping through the
+ * fully defined transitions and then through the transitions generated by the
+ * transition rules, one year at a time.
+ * The details of the current transition are available as primitive values and
+ * offsets, and a {@code ZoneOffsetTransition} is only created if requested.
+ * <p>
+ * This is intended for walking the time-line of many zones, where calling
+ * {@link ZoneRules#nextTransition(Instant)} repeatedly would search the
+ * transitions from scratch and create objects for each transition.
+ * <p>
+ * This class is mutable and intended for use from a single thread.
+ *
+ * @author Stephen Colebourne
+ */
+public final class ZoneOffsetTransitionCursor {
+
+    /**
+     * The epoch-second of the start of the minimum year.
+     */
+    private static final long MIN_SECOND = LocalDate.MIN_DATE.toEpochDay() * MathUtils.SECONDS_PER_DAY;
+    /**
+     * The epoch-second of the end of the maximum year.
+     */
+    private static final long MAX_SECOND = (LocalDate.MAX_DATE.toEpochDay() + 1) * MathUtils.SECONDS_PER_DAY;
+
+    /**
+     * The fully defined transition epoch-seconds, not null.
+     */
+    private final long[] transitions;
+    /**
+     * The wall offsets, one more than the transitions, empty if there are no transitions.
+     */
+    private final ZoneOffset[] wallOffsets;
+    /**
+     * The transition rules, not null.
+     */
+    private final ZoneOffsetTransitionRule[] lastRules;
+    /**
+     * The index of the next fully defined transition.
+     */
+    private int index;
+    /**
+     * The year being generated from the rules, zero until the rules are reached.
+     */
+    private int year;
+    /**
+     * The index of the next rule within the year.
+     */
+    private int ruleIndex;
+    /**
+     * Whether the rules have been reached.
+     */
+    private boolean inRules;
+    /**
+     * The epoch-second that the next transition must be after.
+     */
+    private long epochSecond;
+    /**
+     * The offset before the current transition, null if there is no current transition.
+     */
+    private ZoneOffset offsetBefore;
+    /**
+     * The offset after the current transition, null if there is no current transition.
+     */
+    private ZoneOffset offsetAfter;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a cursor from the transitions and transition rules of a time-zone.
+     * <p>
+     * This is intended for use by implementations of {@link ZoneRules}.
+     * The first call to {@link #next()} moves to the first transition after the instant.
+     *
+     * @param transitions  the fully defined transitions, in order, not null
+     * @param transitionRules  the rules for transitions after the fully defined transitions, not null
+     * @param instant  the instant to start after, not null
+     * @return the cursor, not null
+     */
+    public static ZoneOffsetTransitionCursor of(
+            List<ZoneOffsetTransition> transitions, List<ZoneOffsetTransitionRule> transitionRules, Instant instant) {
+        MathUtils.checkNotNull(transitions, "Transitions must not be null");
+        MathUtils.checkNotNull(transitionRules, "Transition rules must not be null");
+        MathUtils.checkNotNull(instant, "Instant must not be null");
+        long[] epochSeconds = new long[transitions.size()];
+        ZoneOffset[] offsets = new ZoneOffset[transitions.isEmpty() ? 0 : transitions.size() + 1];
+        for (int i = 0; i < epochSeconds.length; i++) {
+            ZoneOffsetTransition trans = transitions.get(i);
+            epochSeconds[i] = trans.getInstant().getEpochSecond();
+            offsets[i] = trans.getOffsetBefore();
+            offsets[i + 1] = trans.getOffsetAfter();
+        }
+        ZoneOffsetTransitionRule[] rules = transitionRules.toArray(new ZoneOffsetTransitionRule[transitionRules.size()]);
+        return new ZoneOffsetTransitionCursor(epochSeconds, offsets, rules, instant.getEpochSecond());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param transitions  the fully defined transition epoch-seconds, not altered, not null
+     * @param wallOffsets  the wall offsets, not altered, not null
+     * @param lastRules  the transition rules, not altered, not null
+     * @param epochSecond  the epoch-second that the first transition must be after
+     */
+    ZoneOffsetTransitionCursor(long[] transitions, ZoneOffset[] wallOffsets,
+            ZoneOffsetTransitionRule[] lastRules, long epochSecond) {
+        this.transitions = transitions;
+        this.wallOffsets = wallOffsets;
+        this.lastRules = lastRules;
+        this.epochSecond = epochSecond;
+        int found = Arrays.binarySearch(transitions, epochSecond);
+        this.index = (found < 0 ? -found - 1 : found + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves to the next transition.
+     * <p>
+     * If there are no more transitions, false is returned and the cursor has no
+     * current transition.
+     *
+     * @return true if the cursor moved to a transition, false if there are no more transitions
+     */
+    public boolean next() {
+        if (index < transitions.length) {
+            epochSecond = transitions[index];
+            offsetBefore = wallOffsets[index];
+            offsetAfter = wallOffsets[index + 1];
+            index++;
+            return true;
+        }
+        offsetBefore = null;
+        offsetAfter = null;
+        if (lastRules.length == 0) {
+            return false;
+        }
+        if (inRules == false) {
+            if (transitions.length > 0) {
+                epochSecond = Math.max(epochSecond, transitions[transitions.length - 1]);
+            }
+            if (epochSecond >= MAX_SECOND) {
+                return false;
+            }
+            // start one year early as the local year may differ from the UTC year
+            year = (epochSecond < MIN_SECOND ? Year.MIN_YEAR :
+                    Math.max(StandardZoneRules.findYear(epochSecond, ZoneOffset.UTC) - 1, Year.MIN_YEAR));
+            inRules = true;
+        }
+        while (true) {
+            if (ruleIndex == lastRules.length) {
+                if (year == Year.MAX_YEAR) {
+                    return false;
+                }
+                year++;
+                ruleIndex = 0;
+            }
+            ZoneOffsetTransitionRule rule = lastRules[ruleIndex++];
+            long trans = rule.createTransitionEpochSecond(year);
+            if (trans > epochSecond) {
+                epochSecond = trans;
+                offsetBefore = rule.getOffsetBefore();
+                offsetAfter = rule.getOffsetAfter();
+                return true;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the instant of the current transition as an epoch-second.
+     *
+     * @return the epoch-second of the current transition
+     * @throws IllegalStateException if there is no current transition
+     */
+    public long getEpochSecond() {
+        checkCurrent();
+        return epochSecond;
+    }
+
+    /**
+     * Gets the offset before the current transition.
+     *
+     * @return the offset before, not null
+     * @throws IllegalStateException if there is no current transition
+     */
+    public ZoneOffset getOffsetBefore() {
+        checkCurrent();
+        return offsetBefore;
+    }
+
+    /**
+     * Gets the offset after the current transition.
+     *
+     * @return the offset after, not null
+     * @throws IllegalStateException if there is no current transition
+     */
+    public ZoneOffset getOffsetAfter() {
+        checkCurrent();
+        return offsetAfter;
+    }
+
+    /**
+     * Gets the current transition, creating a {@code ZoneOffsetTransition}.
+     *
+     * @return the current transition, not null
+     * @throws IllegalStateException if there is no current transition
+     */
+    public ZoneOffsetTransition getTransition() {
+        checkCurrent();
+        return new ZoneOffsetTransition(OffsetDateTime.ofEpochSecond(epochSecond, offsetBefore), offsetAfter);
+    }
+
+    private void checkCurrent() {
+        if (offsetBefore == null) {
+            throw new IllegalStateException("Cursor is not positioned on a transition");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs the cursor as a {@code String}.
+     *
+     * @return a string representation of the cursor, not null
+     */
+    @Override
+    public String toString() {
+        if (offsetBefore == null) {
+            return "ZoneOffsetTransitionCursor[]";
+        }
+        return "ZoneOffsetTransitionCursor[" + getTransition() + "]";
+    }
+
+}
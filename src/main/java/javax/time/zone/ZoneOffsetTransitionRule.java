@@ -416,6 +416,62 @@ public final class ZoneOffsetTransitionRule implements Serializable {
         return new ZoneOffsetTransition(transition, offsetAfter);
     }
 
+    /**
+     * Calculates the instant of the transition for the specified year as an epoch-second.
+     * <p>
+     * This is equivalent to {@code createTransition(year).getInstant().getEpochSecond()}
+     * but is calculated using primitive arithmetic without creating any objects.
+     * Calculations are performed using the ISO-8601 chronology.
+     *
+     * @param year  the year to calculate the transition for, from MIN_YEAR to MAX_YEAR
+     * @return the epoch-second of the transition
+     */
+    long createTransitionEpochSecond(int year) {
+        boolean leap = Year.isLeap(year);
+        long epochDay;
+        if (dom < 0) {
+            epochDay = toEpochDay(year, leap, month.getLastDayOfMonth(leap) + 1 + dom);
+            if (dow != null) {
+                // previous or current
+                epochDay -= MathUtils.floorMod(EpochDays.toDayOfWeek0(epochDay) - (dow.getValue() - 1), 7);
+            }
+        } else {
+            epochDay = toEpochDay(year, leap, dom);
+            if (dow != null) {
+                // next or current
+                epochDay += MathUtils.floorMod((dow.getValue() - 1) - EpochDays.toDayOfWeek0(epochDay), 7);
+            }
+        }
+        if (timeEndOfDay) {
+            epochDay++;
+        }
+        int offsetSecs;
+        switch (timeDefinition) {
+            case UTC:
+                offsetSecs = 0;
+                break;
+            case STANDARD:
+                offsetSecs = standardOffset.getTotalSeconds();
+                break;
+            default:  // WALL
+                offsetSecs = offsetBefore.getTotalSeconds();
+                break;
+        }
+        return epochDay * MathUtils.SECONDS_PER_DAY + time.toSecondOfDay() - offsetSecs;
+    }
+
+    /**
+     * Calculates the epoch-day of a day in the month of this rule.
+     *
+     * @param year  the year
+     * @param leap  whether the year is a leap year
+     * @param dayOfMonth  the day-of-month, valid for the year and month
+     * @return the epoch-day
+     */
+    private long toEpochDay(int year, boolean leap, int dayOfMonth) {
+        return EpochDays.toEpochDay(year, month.getMonthStartDayOfYear(leap) + dayOfMonth - 1);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this object equals another.
@@ -99,6 +99,19 @@ public interface ZoneRules {
      */
     ZoneOffset getOffset(Instant instant);
 
+    /**
+     * Gets the offset in seconds applicable at the specified epoch-second in this zone.
+     * <p>
+     * This is the primitive equivalent of {@link #getOffset(Instant)}, where the
+     * epoch-second is that of {@link Instant#getEpochSecond()}.
+     * It is intended for high volume conversions and does not create any objects
+     * in the common case.
+     *
+     * @param epochSecond  the epoch-second to find the offset for
+     * @return the total offset in seconds
+     */
+    int getOffsetSeconds(long epochSecond);
+
     /**
      * Gets the offset information for a local date-time in this zone.
      * <p>
@@ -120,6 +133,30 @@ public interface ZoneRules {
      */
     ZoneOffsetInfo getOffsetInfo(LocalDateTime dateTime);
 
+    /**
+     * Gets the offset information in seconds for a local epoch-second in this zone.
+     * <p>
+     * This is the primitive equivalent of {@link #getOffsetInfo(LocalDateTime)}.
+     * The local epoch-second is the count of seconds from 1970-01-01T00:00 on the
+     * local time-line, ignoring any offset.
+     * It is intended for high volume conversions and does not create any objects
+     * in the common case.
+     * <p>
+     * The result is the number of valid offsets for the local epoch-second:
+     * <ul>
+     * <li>1 - Normal. Both elements of the array are set to the single valid offset.</li>
+     * <li>0 - Gap. The array is set to the offset before and the offset after the gap.</li>
+     * <li>2 - Overlap. The array is set to the offset before and the offset after the overlap.</li>
+     * </ul>
+     *
+     * @param localEpochSecond  the local epoch-second to find the offset information for
+     * @param offsetSeconds  the array to populate with the offsets in seconds,
+     *  at least two elements long, not null
+     * @return the number of valid offsets, from 0 to 2
+     * @throws IllegalArgumentException if the array is too short
+     */
+    int getOffsetInfoSeconds(long localEpochSecond, int[] offsetSeconds);
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the offset date-time is valid for these rules.
@@ -210,6 +247,35 @@ public interface ZoneRules {
      */
     ZoneOffsetTransition previousTransition(Instant instant);
 
+    /**
+     * Obtains a cursor to walk forward through the transitions after the specified instant.
+     * <p>
+     * The first call to {@link ZoneOffsetTransitionCursor#next()} moves to the
+     * transition that would be returned by {@link #nextTransition(Instant)}.
+     * Each subsequent call moves to the following transition, without searching
+     * from scratch or creating a {@code ZoneOffsetTransition}.
+     * <p>
+     * The cursor will have no transitions for fixed offset rules.
+     *
+     * @param instant  the instant to walk forward from, not null
+     * @return a new cursor, not null
+     */
+    ZoneOffsetTransitionCursor transitionCursor(Instant instant);
+
+    /**
+     * Gets the transitions that occur in the specified range of instants.
+     * <p>
+     * This returns the transitions, both fully defined and generated from
+     * the transition rules, whose instant is equal to or after the start
+     * and before the end.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return a modifiable list of the transitions in order, not null
+     * @throws IllegalArgumentException if the end is before the start
+     */
+    List<ZoneOffsetTransition> getTransitions(Instant startInclusive, Instant endExclusive);
+
     /**
      * Gets the complete list of fully defined transitions.
      * <p>
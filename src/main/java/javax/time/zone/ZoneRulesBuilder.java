@@ -35,9 +35,9 @@ import static javax.time.calendrical.ISODateTimeRule.YEAR;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.time.DayOfWeek;
 import javax.time.LocalDate;
@@ -85,7 +85,7 @@ public class ZoneRulesBuilder {
     /**
      * A map for deduplicating the output.
      */
-    private Map<Object, Object> deduplicateMap;
+    private ConcurrentMap<Object, Object> deduplicateMap;
 
     //-----------------------------------------------------------------------
     /**
@@ -306,7 +306,7 @@ public class ZoneRulesBuilder {
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
     public ZoneRules toRules(String id) {
-        return toRules(id, new HashMap<Object, Object>());
+        return toRules(id, new ConcurrentHashMap<Object, Object>());
     }
 
     /**
@@ -316,12 +316,12 @@ public class ZoneRulesBuilder {
      * Further rules should not be added to this builder once this method is called.
      *
      * @param id  the time-zone id, not null
-     * @param deduplicateMap  a map for deduplicating the values, not null
+     * @param deduplicateMap  a map for deduplicating the values, may be shared between threads, not null
      * @return the zone rules, not null
      * @throws IllegalStateException if no windows have been added
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
-    ZoneRules toRules(String id, Map<Object, Object> deduplicateMap) {
+    ZoneRules toRules(String id, ConcurrentMap<Object, Object> deduplicateMap) {
         MathUtils.checkNotNull(id, "Time zone id must not be null");
         this.deduplicateMap = deduplicateMap;
         if (windowList.isEmpty()) {
@@ -414,10 +414,9 @@ public class ZoneRulesBuilder {
      */
     @SuppressWarnings("unchecked")
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        // atomic, so that the map can be shared between builders
+        T existing = (T) deduplicateMap.putIfAbsent(object, object);
+        return (existing != null ? existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -96,6 +96,10 @@ public final class ZoneRulesGroup {
      */
     private static final ConcurrentMap<String, ZoneRulesGroup> GROUPS =
             new ConcurrentHashMap<String, ZoneRulesGroup>(16, 0.75f, 2);
+    /**
+     * The number of providers registered, incremented after each registration.
+     */
+    private static volatile int registrationCount;
 
     static {
         ResourceZoneRulesDataProvider.load();
@@ -196,6 +200,20 @@ public final class ZoneRulesGroup {
         return Collections.unmodifiableSet(IDS.keySet());
     }
 
+    /**
+     * Gets a count that changes each time a provider is registered.
+     * <p>
+     * This is incremented once the IDs and versions of a newly registered provider
+     * are available, thus data derived from this class, such as a parser of the
+     * {@link #getParsableIDs() parsable IDs}, can be cached alongside the count
+     * and only rebuilt when the count changes.
+     *
+     * @return the registration count
+     */
+    public static int getRegistrationCount() {
+        return registrationCount;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Registers a zone rules provider with this group.
@@ -219,6 +237,7 @@ public final class ZoneRulesGroup {
             GROUPS.put(provider.getGroupID(), group);
         }
         group.registerProvider0(provider);
+        registrationCount++;  // synchronized, publishes the new state
         return group;
     }
 
@@ -76,6 +76,8 @@ import javax.time.format.TestDateTimeFormatterBuilder;
 import javax.time.format.TestDateTimeFormatters;
 import javax.time.format.TestDateTimeParseContext;
 import javax.time.format.TestFractionPrinterParser;
+import javax.time.format.TestISOFastParser;
+import javax.time.format.TestISOFastPrinter;
 import javax.time.format.TestNumberParser;
 import javax.time.format.TestNumberPrinter;
 import javax.time.format.TestPadParserDecorator;
@@ -85,6 +87,7 @@ import javax.time.format.TestStrictLenientPrinterParser;
 import javax.time.format.TestStringLiteralParser;
 import javax.time.format.TestStringLiteralPrinter;
 import javax.time.format.TestTextParser;
+import javax.time.format.TestTextTrie;
 import javax.time.format.TestTextPrinter;
 import javax.time.format.TestZoneIdParser;
 import javax.time.format.TestZoneOffsetParser;
@@ -92,11 +95,14 @@ import javax.time.format.TestZoneOffsetPrinter;
 import javax.time.i18n.TestCopticChronology;
 import javax.time.i18n.TestCopticDate;
 import javax.time.i18n.TestInterCalendarSystem;
+import javax.time.zone.TestEpochDays;
 import javax.time.zone.TestFixedZoneRules;
+import javax.time.zone.TestMappedZoneRulesDataProvider;
 import javax.time.zone.TestStandardZoneRules;
 import javax.time.zone.TestTZDBZoneRulesCompiler;
 import javax.time.zone.TestZoneOffsetInfo;
 import javax.time.zone.TestZoneOffsetTransition;
+import javax.time.zone.TestZoneOffsetTransitionCursor;
 import javax.time.zone.TestZoneOffsetTransitionRule;
 import javax.time.zone.TestZoneRulesBuilder;
 import javax.time.zone.TestZoneRulesGroup;
@@ -123,7 +129,11 @@ public class AllTest {
         testng.setTestClasses(new Class[] {
             // main classes
             TestDuration.class,
+            TestEpochConversions.class,
+            TestEpochDayEngine.class,
             TestInstant.class,
+            TestInstantArray.class,
+            TestInstantBuffer.class,
             TestMathUtils.class,
             // simple calendar classes
             TestAmPmOfDay.class,
@@ -134,6 +144,7 @@ public class AllTest {
             TestClock_Tick.class,
             TestDayOfWeek.class,
             TestLocalDate.class,
+            TestLocalDateArray.class,
             TestLocalDateTime.class,
             TestLocalTime.class,
             TestMonthDay.class,
@@ -148,6 +159,7 @@ public class AllTest {
             TestYearMonth.class,
             TestZonedDateTime.class,
             TestZoneId.class,
+            TestZoneLocalizer.class,
             TestZoneOffset.class,
             // advanced calendar classes
             TestCalendricalNomalizer.class,
@@ -196,6 +208,8 @@ public class AllTest {
             TestDateTimeFormatters.class,
             TestDateTimeFormatterBuilder.class,
             TestFractionPrinterParser.class,
+            TestISOFastParser.class,
+            TestISOFastPrinter.class,
             TestNumberParser.class,
             TestNumberPrinter.class,
             TestPadParserDecorator.class,
@@ -206,6 +220,7 @@ public class AllTest {
             TestStringLiteralParser.class,
             TestTextPrinter.class,
             TestTextParser.class,
+            TestTextTrie.class,
             TestZoneOffsetPrinter.class,
             TestZoneOffsetParser.class,
             TestZoneIdParser.class,
@@ -214,11 +229,14 @@ public class AllTest {
             TestCopticDate.class,
             TestInterCalendarSystem.class,
             // zone
+            TestEpochDays.class,
             TestFixedZoneRules.class,
+            TestMappedZoneRulesDataProvider.class,
             TestStandardZoneRules.class,
             TestTZDBZoneRulesCompiler.class,
             TestZoneOffsetInfo.class,
             TestZoneOffsetTransition.class,
+            TestZoneOffsetTransitionCursor.class,
             TestZoneOffsetTransitionRule.class,
             TestZoneRulesBuilder.class,
             TestZoneRulesGroup.class,
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Random;
+
+import javax.time.zone.ZoneRules;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test EpochConversions.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestEpochConversions {
+
+    private static final long HOUR_MILLIS = 60L * 60L * 1000L;
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="zones")
+    Object[][] provider_zones() {
+        return new Object[][] {
+            {"Europe/London"},
+            {"America/New_York"},
+            {"Australia/Sydney"},
+            {"Asia/Kathmandu"},
+            {"UTC"},
+            {"UTC+05:30"},
+        };
+    }
+
+    @Test(dataProvider="zones")
+    public void test_toLocal_sorted(String zoneID) {
+        ZoneId zone = ZoneId.of(zoneID);
+        long start = OffsetDateTime.ofMidnight(1900, 1, 1, ZoneOffset.UTC).toInstant().toEpochMilli();
+        long[] millis = new long[200 * 366 * 4];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = start + i * 6 * HOUR_MILLIS + (i % 1000) * 7L;
+        }
+        assertToLocal(zone, millis);
+    }
+
+    @Test(dataProvider="zones")
+    public void test_toLocal_unsorted(String zoneID) {
+        ZoneId zone = ZoneId.of(zoneID);
+        Random random = new Random(zoneID.hashCode());
+        long[] millis = new long[20000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (random.nextLong() % (300L * 366L * 24L * HOUR_MILLIS));
+        }
+        assertToLocal(zone, millis);
+    }
+
+    public void test_toLocal_negativeMillis() {
+        long[] millis = {-1, -999, -1000, -1001};
+        long[] epochDays = new long[4];
+        long[] nanosOfDay = new long[4];
+        EpochConversions.toLocal(ZoneOffset.UTC.toZoneId().getRules(), millis, epochDays, nanosOfDay, null);
+        assertEquals(epochDays[0], -1);
+        assertEquals(nanosOfDay[0], LocalTime.of(23, 59, 59, 999000000).toNanoOfDay());
+        assertEquals(nanosOfDay[1], LocalTime.of(23, 59, 59, 1000000).toNanoOfDay());
+        assertEquals(nanosOfDay[2], LocalTime.of(23, 59, 59).toNanoOfDay());
+        assertEquals(nanosOfDay[3], LocalTime.of(23, 59, 58, 999000000).toNanoOfDay());
+    }
+
+    public void test_toLocal_range() {
+        ZoneRules rules = ZoneId.of("Europe/Paris").getRules();
+        long[] millis = {0, 0, 0, 0};
+        int[] offsets = {-1, -1, -1, -1};
+        EpochConversions.toLocal(rules, millis, 1, 3, null, null, offsets);
+        assertEquals(offsets[0], -1);
+        assertEquals(offsets[1], 3600);
+        assertEquals(offsets[2], 3600);
+        assertEquals(offsets[3], -1);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toLocal_nullRules() {
+        EpochConversions.toLocal(null, new long[1], null, null, null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toLocal_nullInput() {
+        EpochConversions.toLocal(ZoneId.UTC.getRules(), null, null, null, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toLocal_badRange() {
+        EpochConversions.toLocal(ZoneId.UTC.getRules(), new long[2], 1, 3, null, null, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toLocal_shortOutput() {
+        EpochConversions.toLocal(ZoneId.UTC.getRules(), new long[2], new long[1], null, null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toYearMonthDay() {
+        long[] epochDays = new long[400 * 366 * 2];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = i - 400 * 366;
+        }
+        epochDays[0] = LocalDate.of(Year.MIN_YEAR, 1, 1).toEpochDay();
+        epochDays[1] = LocalDate.of(Year.MAX_YEAR, 12, 31).toEpochDay();
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        EpochConversions.toYearMonthDay(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDays[i]);
+            assertEquals(years[i], expected.getYear());
+            assertEquals(months[i], expected.getMonthOfYear().getValue());
+            assertEquals(days[i], expected.getDayOfMonth());
+        }
+    }
+
+    public void test_toYearMonthDay_partial() {
+        long[] epochDays = {0, 365};
+        int[] months = new int[2];
+        EpochConversions.toYearMonthDay(epochDays, null, months, null);
+        assertEquals(months[0], 1);
+        assertEquals(months[1], 1);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toYearMonthDay_shortOutput() {
+        EpochConversions.toYearMonthDay(new long[2], new int[1], null, null);
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertToLocal(ZoneId zone, long[] millis) {
+        long[] epochDays = new long[millis.length];
+        long[] nanosOfDay = new long[millis.length];
+        int[] offsets = new int[millis.length];
+        EpochConversions.toLocal(zone.getRules(), millis, epochDays, nanosOfDay, offsets);
+        for (int i = 0; i < millis.length; i++) {
+            Instant instant = Instant.ofEpochMilli(millis[i]);
+            OffsetDateTime expected = OffsetDateTime.ofInstant(instant, zone.getRules().getOffset(instant));
+            assertEquals(epochDays[i], expected.toLocalDate().toEpochDay());
+            assertEquals(nanosOfDay[i], expected.toLocalTime().toNanoOfDay());
+            assertEquals(offsets[i], expected.getOffset().getTotalSeconds());
+        }
+    }
+
+}
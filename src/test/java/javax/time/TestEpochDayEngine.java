@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import javax.time.calendrical.IllegalCalendarFieldValueException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test EpochDayEngine.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestEpochDayEngine {
+
+    //-----------------------------------------------------------------------
+    public void test_forwardFrom1970() {
+        int year = 1970;
+        int month = 1;
+        int day = 1;
+        for (long epochDay = 0; epochDay < 1000L * 366; epochDay++) {
+            assertDate(epochDay, year, month, day);
+            day++;
+            if (day > MonthOfYear.of(month).lengthInDays(Year.isLeap(year))) {
+                day = 1;
+                month++;
+                if (month > 12) {
+                    month = 1;
+                    year++;
+                }
+            }
+        }
+    }
+
+    public void test_backwardFrom1970() {
+        int year = 1969;
+        int month = 12;
+        int day = 31;
+        for (long epochDay = -1; epochDay > -3000L * 366; epochDay--) {
+            assertDate(epochDay, year, month, day);
+            day--;
+            if (day < 1) {
+                month--;
+                if (month < 1) {
+                    month = 12;
+                    year--;
+                }
+                day = MonthOfYear.of(month).lengthInDays(Year.isLeap(year));
+            }
+        }
+    }
+
+    public void test_limits() {
+        long minEpochDay = EpochDayEngine.toEpochDay(Year.MIN_YEAR, 1, 1);
+        long maxEpochDay = EpochDayEngine.toEpochDay(Year.MAX_YEAR, 12, 31);
+        assertEquals(minEpochDay, EpochDayEngine.MIN_EPOCH_DAY);
+        assertEquals(maxEpochDay, EpochDayEngine.MAX_EPOCH_DAY);
+        assertDate(minEpochDay, Year.MIN_YEAR, 1, 1);
+        assertDate(maxEpochDay, Year.MAX_YEAR, 12, 31);
+        assertInvalid(minEpochDay - 1, Year.MIN_YEAR - 1L);
+        assertInvalid(maxEpochDay + 1, Year.MAX_YEAR + 1L);
+        assertInvalid(Long.MIN_VALUE, -25252734927764585L);
+        assertInvalid(Long.MAX_VALUE, 25252734927768524L);
+    }
+
+    public void test_toPackedDate_dayOfYear() {
+        for (int year = 1999; year <= 2004; year++) {
+            long epochDay = EpochDayEngine.toEpochDay(year, 1, 1);
+            int length = (Year.isLeap(year) ? 366 : 365);
+            for (int doy = 1; doy <= length; doy++) {
+                assertEquals(EpochDayEngine.toPackedDate(year, Year.isLeap(year), doy), EpochDayEngine.toPackedDate(epochDay + doy - 1));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private void assertDate(long epochDay, int year, int month, int day) {
+        long packed = EpochDayEngine.toPackedDate(epochDay);
+        assertEquals(EpochDayEngine.packedYear(packed), year);
+        assertEquals(EpochDayEngine.packedMonth(packed), month);
+        assertEquals(EpochDayEngine.packedDay(packed), day);
+        assertEquals(EpochDayEngine.toEpochDay(year, month, day), epochDay);
+    }
+
+    private void assertInvalid(long epochDay, long year) {
+        try {
+            EpochDayEngine.toPackedDate(epochDay);
+            fail();
+        } catch (IllegalCalendarFieldValueException ex) {
+            assertEquals(ex.getActual(), year);
+        }
+    }
+
+}
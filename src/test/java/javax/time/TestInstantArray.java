@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test InstantArray.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestInstantArray {
+
+    private static final Instant I1 = Instant.ofEpochSecond(-100, 5);
+    private static final Instant I2 = Instant.ofEpochSecond(0, 0);
+    private static final Instant I3 = Instant.ofEpochSecond(0, 999999999);
+    private static final Instant I4 = Instant.ofEpochSecond(1340000000L, 500);
+
+    //-----------------------------------------------------------------------
+    public void test_empty() {
+        InstantArray test = new InstantArray();
+        assertEquals(test.size(), 0);
+        assertTrue(test.isEmpty());
+        assertFalse(test.iterator().hasNext());
+        assertEquals(test.binarySearch(I1), -1);
+        assertEquals(test.toString(), "[]");
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_constructor_negativeCapacity() {
+        new InstantArray(-1);
+    }
+
+    public void test_constructor_zeroCapacity_grows() {
+        InstantArray test = new InstantArray(0);
+        test.add(I1);
+        test.add(I2);
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0), I1);
+        assertEquals(test.get(1), I2);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        InstantArray test = InstantArray.of(I3, I1, I4);
+        assertEquals(test.size(), 3);
+        assertFalse(test.isEmpty());
+        assertEquals(test.get(0), I3);
+        assertEquals(test.get(1), I1);
+        assertEquals(test.get(2), I4);
+        assertEquals(test.getEpochSecond(1), -100L);
+        assertEquals(test.getNanoOfSecond(1), 5);
+        assertEquals(test.toString(), "[" + I3 + ", " + I1 + ", " + I4 + "]");
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_nullElement() {
+        InstantArray.of(I1, null);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_negative() {
+        InstantArray.of(I1).get(-1);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_size() {
+        InstantArray test = new InstantArray(10);
+        test.add(I1);
+        test.get(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_add_many() {
+        InstantArray test = new InstantArray();
+        for (int i = 0; i < 1000; i++) {
+            test.add(Instant.ofEpochSecond(i, i));
+        }
+        assertEquals(test.size(), 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(test.get(i), Instant.ofEpochSecond(i, i));
+        }
+    }
+
+    public void test_addEpochSecond_normalized() {
+        InstantArray test = new InstantArray();
+        test.addEpochSecond(3, -1);
+        test.addEpochSecond(3, 2000000001L);
+        assertEquals(test.get(0), Instant.ofEpochSecond(3, -1));
+        assertEquals(test.get(1), Instant.ofEpochSecond(3, 2000000001L));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_addEpochSecond_overflow() {
+        new InstantArray().addEpochSecond(Long.MAX_VALUE, 1000000000L);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_add_null() {
+        new InstantArray().add(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sort_binarySearch() {
+        InstantArray test = InstantArray.of(I4, I2, I1, I3);
+        test.sort();
+        assertEquals(test.get(0), I1);
+        assertEquals(test.get(1), I2);
+        assertEquals(test.get(2), I3);
+        assertEquals(test.get(3), I4);
+        assertEquals(test.binarySearch(I1), 0);
+        assertEquals(test.binarySearch(I3), 2);
+        assertEquals(test.binarySearch(I4), 3);
+        assertEquals(test.binarySearch(Instant.ofEpochSecond(-101)), -1);
+        assertEquals(test.binarySearch(Instant.ofEpochSecond(0, 1)), -3);
+        assertEquals(test.binarySearch(Instant.ofEpochSecond(Long.MAX_VALUE)), -5);
+    }
+
+    public void test_sort_matchesCollections() {
+        Random random = new Random(310);
+        for (int size : new int[] {0, 1, 2, 15, 16, 17, 100, 5000}) {
+            List<Instant> expected = new ArrayList<Instant>();
+            InstantArray test = new InstantArray();
+            for (int i = 0; i < size; i++) {
+                // narrow range of seconds so that nanos decide many comparisons
+                Instant instant = Instant.ofEpochSecond(random.nextInt(50) - 25, random.nextInt(3) * 333333333);
+                expected.add(instant);
+                test.add(instant);
+            }
+            Collections.sort(expected);
+            test.sort();
+            for (int i = 0; i < size; i++) {
+                assertEquals(test.get(i), expected.get(i));
+            }
+            for (Instant instant : expected) {
+                int index = test.binarySearch(instant);
+                assertEquals(test.get(index), instant);
+            }
+        }
+    }
+
+    public void test_sort_sortedAndReversed() {
+        InstantArray ascending = new InstantArray();
+        InstantArray descending = new InstantArray();
+        for (int i = 0; i < 10000; i++) {
+            ascending.addEpochSecond(i, 0);
+            descending.addEpochSecond(10000 - i, 0);
+        }
+        ascending.sort();
+        descending.sort();
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(ascending.getEpochSecond(i), i);
+            assertEquals(descending.getEpochSecond(i), i + 1);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_slice() {
+        InstantArray base = InstantArray.of(I1, I2, I3, I4);
+        InstantArray test = base.slice(1, 3);
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0), I2);
+        assertEquals(test.get(1), I3);
+        test.add(I1);
+        assertEquals(base.size(), 4);
+        assertEquals(base.get(3), I4);
+        assertEquals(base.slice(2, 2).size(), 0);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_slice_beyondSize() {
+        InstantArray.of(I1, I2).slice(1, 3);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_slice_reversed() {
+        InstantArray.of(I1, I2).slice(2, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_iterator() {
+        InstantArray test = InstantArray.of(I1, I2, I3);
+        Iterator<Instant> it = test.iterator();
+        assertEquals(it.next(), I1);
+        assertEquals(it.next(), I2);
+        assertEquals(it.next(), I3);
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException ex) {
+            // expected
+        }
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_iterator_remove() {
+        Iterator<Instant> it = InstantArray.of(I1).iterator();
+        it.next();
+        it.remove();
+    }
+
+}
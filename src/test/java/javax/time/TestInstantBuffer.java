@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test InstantBuffer.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestInstantBuffer {
+
+    private static final Instant I1 = Instant.ofEpochSecond(-100, 5);
+    private static final Instant I2 = Instant.ofEpochSecond(0, 0);
+    private static final Instant I3 = Instant.ofEpochSecond(0, 999999999);
+    private static final Instant I4 = Instant.ofEpochSecond(1340000000L, 500);
+
+    //-----------------------------------------------------------------------
+    public void test_allocateDirect() {
+        InstantBuffer test = InstantBuffer.allocateDirect(0);
+        assertEquals(test.size(), 0);
+        assertTrue(test.isEmpty());
+        assertEquals(test.binarySearch(I1), -1);
+        assertEquals(test.toString(), "[]");
+        assertTrue(test.asByteBuffer().isDirect());
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_allocateDirect_negative() {
+        InstantBuffer.allocateDirect(-1);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_allocateDirect_tooLarge() {
+        InstantBuffer.allocateDirect(Integer.MAX_VALUE / InstantBuffer.RECORD_BYTES + 1);
+    }
+
+    public void test_add_grows() {
+        InstantBuffer test = InstantBuffer.allocateDirect(1);
+        for (int i = 0; i < 100; i++) {
+            test.addEpochSecond(i, -i);
+        }
+        assertEquals(test.size(), 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(test.get(i), Instant.ofEpochSecond(i, -i));
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_size() {
+        InstantBuffer test = InstantBuffer.allocateDirect(10);
+        test.add(I1);
+        test.get(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_wrap() {
+        ByteBuffer records = ByteBuffer.allocate(4 + 2 * InstantBuffer.RECORD_BYTES + 5);
+        records.putInt(-1);
+        records.putLong(I4.getEpochSecond()).putInt(I4.getNanoOfSecond());
+        records.putLong(I1.getEpochSecond()).putInt(I1.getNanoOfSecond());
+        records.position(4);
+        InstantBuffer test = InstantBuffer.wrap(records);
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0), I4);
+        assertEquals(test.get(1), I1);
+        assertEquals(records.position(), 4);
+        test.sort();
+        assertEquals(records.getLong(4), I1.getEpochSecond());
+        assertEquals(records.getInt(12), I1.getNanoOfSecond());
+    }
+
+    public void test_wrap_addCopies() {
+        ByteBuffer records = ByteBuffer.allocate(InstantBuffer.RECORD_BYTES);
+        records.putLong(3).putInt(4).flip();
+        InstantBuffer test = InstantBuffer.wrap(records);
+        test.add(I1);
+        test.sort();
+        assertEquals(test.get(0), I1);
+        assertEquals(test.get(1), Instant.ofEpochSecond(3, 4));
+        assertEquals(records.getLong(0), 3L);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_wrap_null() {
+        InstantBuffer.wrap(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sort_matchesCollections() {
+        Random random = new Random(310);
+        List<Instant> expected = new ArrayList<Instant>();
+        InstantBuffer test = InstantBuffer.allocateDirect(16);
+        for (int i = 0; i < 3000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextInt(100) - 50, random.nextInt(3) * 333333333);
+            expected.add(instant);
+            test.add(instant);
+        }
+        Collections.sort(expected);
+        test.sort();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(test.get(i), expected.get(i));
+            assertEquals(test.get(test.binarySearch(expected.get(i))), expected.get(i));
+        }
+        assertEquals(test.binarySearch(Instant.ofEpochSecond(-51)), -1);
+        assertEquals(test.binarySearch(Instant.ofEpochSecond(50)), -3001);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_slice_isView() {
+        InstantBuffer base = InstantBuffer.allocateDirect(4);
+        base.add(I4);
+        base.add(I3);
+        base.add(I2);
+        base.add(I1);
+        InstantBuffer test = base.slice(1, 4);
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(0), I3);
+        test.sort();
+        assertEquals(base.get(0), I4);
+        assertEquals(base.get(1), I1);
+        assertEquals(base.get(2), I2);
+        assertEquals(base.get(3), I3);
+        test.add(I4);
+        assertEquals(test.get(3), I4);
+        assertEquals(base.size(), 4);
+        assertEquals(base.get(3), I3);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_slice_beyondSize() {
+        InstantBuffer.allocateDirect(4).slice(0, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_asByteBuffer() {
+        InstantBuffer test = InstantBuffer.allocateDirect(10);
+        test.add(I1);
+        test.add(I2);
+        ByteBuffer records = test.asByteBuffer();
+        assertEquals(records.position(), 0);
+        assertEquals(records.limit(), 2 * InstantBuffer.RECORD_BYTES);
+        assertTrue(records.isReadOnly());
+        assertEquals(records.getLong(), I1.getEpochSecond());
+        assertEquals(records.getInt(), I1.getNanoOfSecond());
+        InstantBuffer copy = InstantBuffer.wrap(records);
+        assertEquals(copy.size(), 1);
+        assertEquals(copy.get(0), I2);
+    }
+
+    @Test(expectedExceptions=ReadOnlyBufferException.class)
+    public void test_asByteBuffer_readOnly() {
+        InstantBuffer test = InstantBuffer.allocateDirect(1);
+        test.add(I1);
+        test.asByteBuffer().putLong(0, 0);
+    }
+
+    public void test_iterator() {
+        InstantBuffer test = InstantBuffer.allocateDirect(2);
+        test.add(I1);
+        test.add(I2);
+        Iterator<Instant> it = test.iterator();
+        assertEquals(it.next(), I1);
+        assertEquals(it.next(), I2);
+        assertFalse(it.hasNext());
+    }
+
+}
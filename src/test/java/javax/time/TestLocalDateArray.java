@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test LocalDateArray.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestLocalDateArray {
+
+    private static final LocalDate D1 = LocalDate.of(1900, 2, 28);
+    private static final LocalDate D2 = LocalDate.of(1970, 1, 1);
+    private static final LocalDate D3 = LocalDate.of(2012, 6, 30);
+
+    //-----------------------------------------------------------------------
+    public void test_empty() {
+        LocalDateArray test = new LocalDateArray();
+        assertEquals(test.size(), 0);
+        assertTrue(test.isEmpty());
+        assertFalse(test.iterator().hasNext());
+        assertEquals(test.binarySearch(D1), -1);
+        assertEquals(test.toString(), "[]");
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_constructor_negativeCapacity() {
+        new LocalDateArray(-1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        LocalDateArray test = LocalDateArray.of(D3, D1, D2);
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(0), D3);
+        assertEquals(test.get(1), D1);
+        assertEquals(test.get(2), D2);
+        assertEquals(test.getEpochDay(2), 0L);
+        assertEquals(test.getEpochDay(0), D3.toEpochDay());
+        assertEquals(test.toString(), "[2012-06-30, 1900-02-28, 1970-01-01]");
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_nullElement() {
+        LocalDateArray.of(D1, null);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_size() {
+        LocalDateArray test = new LocalDateArray(10);
+        test.add(D1);
+        test.get(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_addEpochDay_intRange() {
+        LocalDateArray test = new LocalDateArray(0);
+        test.addEpochDay(Integer.MIN_VALUE);
+        test.addEpochDay(Integer.MAX_VALUE);
+        assertEquals(test.get(0), LocalDate.ofEpochDay(Integer.MIN_VALUE));
+        assertEquals(test.get(1), LocalDate.ofEpochDay(Integer.MAX_VALUE));
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_addEpochDay_tooLarge() {
+        new LocalDateArray().addEpochDay(Integer.MAX_VALUE + 1L);
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_add_tooLarge() {
+        new LocalDateArray().add(LocalDate.MAX_DATE);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sort_binarySearch() {
+        Random random = new Random(310);
+        List<LocalDate> expected = new ArrayList<LocalDate>();
+        LocalDateArray test = new LocalDateArray();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(100000) - 50000);
+            expected.add(date);
+            test.add(date);
+        }
+        Collections.sort(expected);
+        test.sort();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(test.get(i), expected.get(i));
+            assertEquals(test.get(test.binarySearch(expected.get(i))), expected.get(i));
+        }
+    }
+
+    public void test_binarySearch_outsideIntRange() {
+        LocalDateArray test = LocalDateArray.of(D1, D2, D3);
+        assertEquals(test.binarySearch(D2), 1);
+        assertEquals(test.binarySearch(D2.plusDays(1)), -3);
+        assertEquals(test.binarySearch(LocalDate.MIN_DATE), -1);
+        assertEquals(test.binarySearch(LocalDate.MAX_DATE), -4);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_slice() {
+        LocalDateArray base = LocalDateArray.of(D1, D2, D3);
+        LocalDateArray test = base.slice(1, 3);
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0), D2);
+        assertEquals(test.get(1), D3);
+        test.add(D1);
+        assertEquals(base.size(), 3);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_slice_negative() {
+        LocalDateArray.of(D1, D2).slice(-1, 1);
+    }
+
+    public void test_iterator() {
+        Iterator<LocalDate> it = LocalDateArray.of(D1, D2).iterator();
+        assertEquals(it.next(), D1);
+        assertEquals(it.next(), D2);
+        assertFalse(it.hasNext());
+    }
+
+}
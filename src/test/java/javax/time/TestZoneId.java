@@ -40,6 +40,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -48,9 +49,12 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
@@ -61,6 +65,10 @@ import javax.time.calendrical.MockRuleNoValue;
 import javax.time.format.TextStyle;
 import javax.time.zone.ZoneOffsetInfo;
 import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+import javax.time.zone.ZoneRulesDataProvider;
+import javax.time.zone.ZoneRulesGroup;
+import javax.time.zone.ZoneRulesVersion;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -554,6 +562,92 @@ public class TestZoneId {
         ZoneId.of("TZDB:Unknown#2008i");
     }
 
+    //-----------------------------------------------------------------------
+    public void test_of_string_cached() {
+        ZoneId first = ZoneId.of("America/Argentina/Buenos_Aires");
+        long hits = ZoneId.getCacheHitCount();
+        ZoneId second = ZoneId.of("America/Argentina/Buenos_Aires");
+        assertSame(second, first);
+        assertTrue(ZoneId.getCacheHitCount() > hits);
+    }
+
+    public void test_of_string_cached_hitCountAcrossThreads() throws Exception {
+        ZoneId.of("Europe/Paris");
+        long hits = ZoneId.getCacheHitCount();
+        Thread[] threads = new Thread[20];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        ZoneId.of("Europe/Paris");
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(ZoneId.getCacheHitCount() >= hits + 20 * 1000);
+    }
+
+    public void test_of_string_cached_afterCacheFull() {
+        for (int i = 1; i <= 2500; i++) {
+            ZoneId.of("UTC" + ZoneOffset.ofTotalSeconds(i).getID());
+        }
+        ZoneId first = ZoneId.of("UTC+13:59:59");
+        long hits = ZoneId.getCacheHitCount();
+        assertSame(ZoneId.of("UTC+13:59:59"), first);
+        assertTrue(ZoneId.getCacheHitCount() > hits);
+    }
+
+    public void test_of_string_cached_fixed() {
+        ZoneId first = ZoneId.of("UTC+05:45");
+        assertSame(ZoneId.of("UTC+05:45"), first);
+        assertEquals(first, ZoneId.of(ZoneOffset.ofHoursMinutes(5, 45)));
+    }
+
+    public void test_of_string_cached_versioned() {
+        ZoneId first = ZoneId.of("TZDB:Europe/London#2008i");
+        assertSame(ZoneId.of("TZDB:Europe/London#2008i"), first);
+        assertEquals(first.getVersionID(), "2008i");
+    }
+
+    public void test_of_string_invalidNotCached() {
+        long misses = ZoneId.getCacheMissCount();
+        for (int i = 0; i < 2; i++) {
+            try {
+                ZoneId.of("Unknown/Cached");
+                fail();
+            } catch (CalendricalException ex) {
+                // expected
+            }
+        }
+        assertTrue(ZoneId.getCacheMissCount() >= misses + 2);
+    }
+
+    @DataProvider(name="regionIDs")
+    Object[][] data_regionIDs() {
+        return new Object[][] {
+            {"Europe/London"},
+            {"America/Port-au-Prince"},
+            {"Etc/GMT+5"},
+            {"Etc/GMT-14"},
+            {"GMT0"},
+            {"EST5EDT"},
+        };
+    }
+
+    @Test(dataProvider="regionIDs")
+    public void test_of_string_regionID_matchesGroupForm(String id) {
+        ZoneId test = ZoneId.of(id);
+        assertEquals(test.getGroupID(), "TZDB");
+        assertEquals(test.getRegionID(), id);
+        assertEquals(test.getVersionID(), "");
+        assertEquals(test, ZoneId.of("TZDB:" + id));
+    }
+
     //-------------------------------------------------------------------------
     public void test_ofUnchecked_string_invalidNotChecked() {
         ZoneId test = ZoneId.ofUnchecked("UnknownGroup:UnknownRegion#UnknownVersion");
@@ -1322,6 +1416,59 @@ public class TestZoneId {
         base.withVersion(null);
     }
 
+    //-----------------------------------------------------------------------
+    // getRules()
+    //-----------------------------------------------------------------------
+    public void test_getRules_cached() {
+        ZoneId test = ZoneId.of("Europe/London");
+        assertSame(test.getRules(), test.getRules());
+        assertSame(test.getRules(), ZoneRulesGroup.getGroup("TZDB").getRules("Europe/London", test.getGroup().getLatestVersionID("Europe/London")));
+    }
+
+    public void test_getRules_floating_refreshedOnRegistration() {
+        ZoneRulesGroup.registerProvider(new MockRulesProvider("1", ZoneOffset.ofHours(1)));
+        ZoneId floating = ZoneId.of("RULESMOCK:Mock/Rules");
+        ZoneId versioned = ZoneId.of("RULESMOCK:Mock/Rules#1");
+        assertEquals(floating.getRules().getOffset(Instant.ofEpochSecond(0L)), ZoneOffset.ofHours(1));
+        assertEquals(versioned.getRules().getOffset(Instant.ofEpochSecond(0L)), ZoneOffset.ofHours(1));
+        
+        ZoneRulesGroup.registerProvider(new MockRulesProvider("2", ZoneOffset.ofHours(2)));
+        assertEquals(floating.getRules().getOffset(Instant.ofEpochSecond(0L)), ZoneOffset.ofHours(2));
+        assertEquals(versioned.getRules().getOffset(Instant.ofEpochSecond(0L)), ZoneOffset.ofHours(1));
+    }
+
+    static class MockRulesProvider implements ZoneRulesDataProvider {
+        private final String versionID;
+        private final ZoneOffset offset;
+        MockRulesProvider(String versionID, ZoneOffset offset) {
+            this.versionID = versionID;
+            this.offset = offset;
+        }
+        public String getGroupID() {
+            return "RULESMOCK";
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return versionID;
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Mock/Rules");
+                }
+                public Set<String> getRegionIDs() {
+                    return new HashSet<String>(Arrays.asList("Mock/Rules"));
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(offset).getRules();
+                }
+            };
+            return new HashSet<ZoneRulesVersion>(Arrays.asList(version));
+        }
+        public Set<String> getRegionIDs() {
+            return new HashSet<String>(Arrays.asList("Mock/Rules"));
+        }
+    }
+
     //-----------------------------------------------------------------------
     // isValid()
     //-----------------------------------------------------------------------
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.Random;
+
+import javax.time.zone.ZoneOffsetTransition;
+import javax.time.zone.ZoneRules;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ZoneLocalizer.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestZoneLocalizer {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @DataProvider(name="zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {"Europe/London"},
+            {"America/New_York"},
+            {"Australia/Sydney"},
+            {"Asia/Kathmandu"},
+            {"UTC"},
+            {"UTC+05:30"},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zones")
+    public void test_localize_ascendingHourly(String zoneID) {
+        ZoneId zone = ZoneId.of(zoneID);
+        ZoneLocalizer test = ZoneLocalizer.of(zone);
+        long start = OffsetDateTime.ofMidnight(2007, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (long sec = start; sec < start + 3 * 366 * 86400L; sec += 1800) {
+            Instant instant = Instant.ofEpochSecond(sec, 5);
+            assertEquals(test.localize(instant), ZonedDateTime.ofInstant(instant, zone));
+        }
+    }
+
+    @Test(dataProvider="zones")
+    public void test_getOffsetSeconds_ascendingDaily(String zoneID) {
+        ZoneId zone = ZoneId.of(zoneID);
+        ZoneRules rules = zone.getRules();
+        ZoneLocalizer test = ZoneLocalizer.of(zone);
+        long start = OffsetDateTime.ofMidnight(1850, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (long sec = start; sec < start + 450 * 366 * 86400L; sec += 86400 + 3599) {
+            assertEquals(test.getOffsetSeconds(sec), rules.getOffsetSeconds(sec));
+        }
+    }
+
+    @Test(dataProvider="zones")
+    public void test_getOffset_random(String zoneID) {
+        ZoneId zone = ZoneId.of(zoneID);
+        ZoneRules rules = zone.getRules();
+        ZoneLocalizer test = ZoneLocalizer.of(zone);
+        Random random = new Random(zoneID.hashCode());
+        long start = OffsetDateTime.ofMidnight(1900, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (int i = 0; i < 2000; i++) {
+            Instant instant = Instant.ofEpochSecond(start + (random.nextLong() & 0x1FFFFFFFFL));
+            assertEquals(test.getOffset(instant), rules.getOffset(instant));
+        }
+    }
+
+    public void test_getOffset_aroundTransitions() {
+        ZoneRules rules = LONDON.getRules();
+        ZoneLocalizer test = ZoneLocalizer.of(LONDON);
+        Instant start = OffsetDateTime.ofMidnight(2008, 1, 1, ZoneOffset.UTC).toInstant();
+        Instant end = OffsetDateTime.ofMidnight(2012, 1, 1, ZoneOffset.UTC).toInstant();
+        for (ZoneOffsetTransition trans : rules.getTransitions(start, end)) {
+            Instant instant = trans.getInstant();
+            assertEquals(test.getOffset(instant.minusNanos(1)), trans.getOffsetBefore());
+            assertEquals(test.getOffset(instant), trans.getOffsetAfter());
+            assertEquals(test.getOffset(instant.minusSeconds(1)), trans.getOffsetBefore());
+            assertEquals(test.getOffset(instant.plusNanos(1)), trans.getOffsetAfter());
+        }
+    }
+
+    public void test_getOffset_farFuture() {
+        ZoneLocalizer test = ZoneLocalizer.of(LONDON);
+        Instant instant = OffsetDateTime.ofMidnight(999999999, 7, 1, ZoneOffset.UTC).toInstant();
+        assertEquals(test.getOffset(instant), LONDON.getRules().getOffset(instant));
+        instant = OffsetDateTime.ofMidnight(999999999, 12, 1, ZoneOffset.UTC).toInstant();
+        assertEquals(test.getOffset(instant), LONDON.getRules().getOffset(instant));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_getZone() {
+        ZoneLocalizer test = ZoneLocalizer.of(LONDON);
+        assertSame(test.getZone(), LONDON);
+        assertSame(test.localize(Instant.EPOCH).getZone(), LONDON);
+    }
+
+    public void test_toString() {
+        assertEquals(ZoneLocalizer.of(LONDON).toString(), "ZoneLocalizer[Europe/London]");
+    }
+
+    @Test(expectedExceptions=CalendricalException.class)
+    public void test_localize_outOfRange() {
+        ZoneLocalizer.of(LONDON).localize(Instant.ofEpochSecond(Long.MAX_VALUE));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_null() {
+        ZoneLocalizer.of(null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_localize_null() {
+        ZoneLocalizer.of(LONDON).localize(null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffset_null() {
+        ZoneLocalizer.of(LONDON).getOffset(null);
+    }
+
+}
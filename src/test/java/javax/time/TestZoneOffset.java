@@ -399,6 +399,29 @@ public class TestZoneOffset {
     	assertSame(ZoneOffset.ofTotalSeconds(0), ZoneOffset.UTC);
     }
 
+    @Test(groups={"implementation"})
+    public void test_factory_ofTotalSeconds_quarterHoursCached() {
+        for (int i = -18 * 4; i <= 18 * 4; i++) {
+            ZoneOffset test = ZoneOffset.ofTotalSeconds(i * 15 * 60);
+            assertEquals(test.getTotalSeconds(), i * 15 * 60);
+            assertSame(ZoneOffset.ofTotalSeconds(i * 15 * 60), test);
+            assertSame(ZoneOffset.of(test.getID()), test);
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_factory_ofTotalSeconds_secondsCached() {
+        for (int i = -18 * 60 * 60; i <= 18 * 60 * 60; i += 7 * 60 + 1) {
+            ZoneOffset test = ZoneOffset.ofTotalSeconds(i);
+            assertEquals(test.getTotalSeconds(), i);
+            assertSame(ZoneOffset.ofTotalSeconds(i), test);
+            assertEquals(ZoneOffset.of(test.getID()), test);
+        }
+        assertEquals(ZoneOffset.ofTotalSeconds(-75).getID(), "-00:01:15");
+        assertEquals(ZoneOffset.ofTotalSeconds(18 * 60 * 60 - 1).getID(), "+17:59:59");
+        assertEquals(ZoneOffset.ofTotalSeconds(-18 * 60 * 60 + 1).getID(), "-17:59:59");
+    }
+
     @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
     public void test_factory_ofTotalSeconds_tooLarge() {
         ZoneOffset.ofTotalSeconds(18 * 60 * 60 + 1);
@@ -52,6 +52,12 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -64,6 +70,7 @@ import javax.time.calendrical.ISOChronology;
 import javax.time.calendrical.MockDateAdjusterReturnsNull;
 import javax.time.calendrical.MockRuleNoValue;
 import javax.time.calendrical.MockTimeAdjusterReturnsNull;
+import javax.time.calendrical.MockZoneResolverReturnsNull;
 import javax.time.calendrical.PeriodProvider;
 import javax.time.calendrical.TimeAdjuster;
 import javax.time.calendrical.ZoneResolver;
@@ -118,6 +125,35 @@ public class TestZonedDateTime {
         }
     }
 
+    @Test(groups={"tck"})
+    public void test_serialization() throws IOException, ClassNotFoundException {
+        ZonedDateTime overlap = ZonedDateTime.of(LocalDateTime.of(2008, 10, 26, 2, 30), ZONE_PARIS, ZoneResolvers.postTransition());
+        ZonedDateTime[] values = new ZonedDateTime[] {
+            TEST_DATE_TIME,
+            ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30, 59, 500), ZoneId.UTC),
+            ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 11, 30, 59, 500), ZONE_PARIS),
+            overlap,
+        };
+        for (ZonedDateTime value : values) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(baos);
+            oos.writeObject(value);
+            oos.close();
+            ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+            ZonedDateTime test = (ZonedDateTime) ois.readObject();
+            assertEquals(test, value);
+            assertEquals(test.getOffset(), value.getOffset());
+            assertEquals(test.getZone(), value.getZone());
+        }
+        assertEquals(overlap.getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_serialization_versionChangedWithForm() {
+        // the form before the offset was held separately used -456761901L
+        assertTrue(ObjectStreamClass.lookup(ZonedDateTime.class).getSerialVersionUID() != -456761901L);
+    }
+
     //-----------------------------------------------------------------------
     // now()
     //-----------------------------------------------------------------------
@@ -1712,6 +1748,40 @@ public class TestZonedDateTime {
         assertSame(test, base);
     }
 
+    //-----------------------------------------------------------------------
+    // plusXxx() fixed offset
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_plus_fixedOffset_matchesOffsetDateTime() {
+        OffsetDateTime odt = OffsetDateTime.of(2008, 2, 29, 23, 30, 59, 500, OFFSET_0130);
+        ZonedDateTime base = ZonedDateTime.of(odt, ZoneId.of(OFFSET_0130));
+        assertEquals(base.plusYears(1).toOffsetDateTime(), odt.plusYears(1));
+        assertEquals(base.plusMonths(13).toOffsetDateTime(), odt.plusMonths(13));
+        assertEquals(base.plusDays(-400).toOffsetDateTime(), odt.plusDays(-400));
+        assertEquals(base.plusHours(25).toOffsetDateTime(), odt.plusHours(25));
+        assertEquals(base.plusMinutes(-61).toOffsetDateTime(), odt.plusMinutes(-61));
+        assertEquals(base.plusSeconds(3601).toOffsetDateTime(), odt.plusSeconds(3601));
+        assertEquals(base.plusNanos(999999999).toOffsetDateTime(), odt.plusNanos(999999999));
+        assertEquals(base.withHourOfDay(3).toOffsetDateTime(), odt.withHourOfDay(3));
+        assertEquals(base.withYear(2009).getOffset(), OFFSET_0130);
+        assertSame(base.plusHours(1).getZone(), base.getZone());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_plus_utc_matchesOffsetDateTime() {
+        OffsetDateTime odt = OffsetDateTime.of(2008, 3, 30, 1, 30, ZoneOffset.UTC);
+        ZonedDateTime base = ZonedDateTime.of(odt.toLocalDateTime(), ZoneId.UTC);
+        for (int i = 0; i < 48; i++) {
+            assertEquals(base.plusMinutes(i * 17).toOffsetDateTime(), odt.plusMinutes(i * 17));
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
+    public void test_plus_fixedOffset_badResolver() {
+        ZonedDateTime base = ZonedDateTime.of(LocalDateTime.of(2008, 6, 30, 23, 30), ZONE_0100);
+        base.plus(Period.ofHours(1), new MockZoneResolverReturnsNull());
+    }
+
     //-----------------------------------------------------------------------
     // plusDuration(PeriodProvider)
     //-----------------------------------------------------------------------
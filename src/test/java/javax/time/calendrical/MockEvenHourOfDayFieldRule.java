@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendrical;
+
+import java.io.Serializable;
+
+/**
+ * Mock rule, whose normalization depends on the value of the field.
+ * Odd values are rejected as an error during normalization.
+ *
+ * @author Stephen Colebourne
+ */
+public final class MockEvenHourOfDayFieldRule extends DateTimeRule implements Serializable {
+
+    /** Singleton instance. */
+    public static final DateTimeRule INSTANCE = new MockEvenHourOfDayFieldRule();
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+
+    /** Constructor. */
+    private MockEvenHourOfDayFieldRule() {
+        super("EvenHourOfDay", ISOPeriodUnit.HOURS, ISOPeriodUnit.DAYS, 0, 23, null);
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected void normalize(CalendricalEngine engine) {
+        DateTimeField field = engine.getField(this, false);
+        if (field != null && field.getValue() % 2 != 0) {
+            engine.addError("Odd value: " + field);
+        }
+    }
+
+}
@@ -549,6 +549,59 @@ public class TestCalendricalNomalizer {
     public void test_normalized(DateTimeField input, DateTimeField output) {
         DateTimeField test = CalendricalEngine.derive(output.getRule(), input.getRule(), null, input);
         assertEquals(test, output);
+        test = CalendricalEngine.derive(output.getRule(), input.getRule(), null, input);
+        assertEquals(test, output);
+    }
+
+    //-----------------------------------------------------------------------
+    // derivation plans
+    //-----------------------------------------------------------------------
+    public void test_derivationPlan_field() {
+        for (int i = 0; i < 2; i++) {
+            for (int moy = 1; moy <= 12; moy++) {
+                assertEquals(MONTH_OF_YEAR.field(moy).get(QUARTER_OF_YEAR), QUARTER_OF_YEAR.field((moy - 1) / 3 + 1));
+            }
+            assertEquals(CalendricalEngine.isPlanCached(QUARTER_OF_YEAR, MONTH_OF_YEAR, null), true);
+        }
+    }
+
+    public void test_derivationPlan_merged() {
+        for (int i = 0; i < 2; i++) {
+            for (int moy = 1; moy <= 12; moy++) {
+                YearMonth ym = YearMonth.of(2011, moy);
+                assertEquals(ym.get(ZERO_EPOCH_MONTH), ZERO_EPOCH_MONTH.field(2011L * 12 + moy - 1));
+                assertEquals(ym.get(QUARTER_OF_YEAR), QUARTER_OF_YEAR.field((moy - 1) / 3 + 1));
+            }
+            assertEquals(CalendricalEngine.isPlanCached(ZERO_EPOCH_MONTH, YearMonth.rule(), ISOChronology.INSTANCE), true);
+        }
+    }
+
+    public void test_derivationPlan_shapeChanges() {
+        CalendricalRule<?> ruleOfData = new MockFieldRule();
+        for (int i = 0; i < 2; i++) {
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, CLOCK_HOUR_OF_DAY.field(24)), HOUR_OF_DAY.field(0));
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, HOUR_OF_DAY.field(5)), HOUR_OF_DAY.field(5));
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, MINUTE_OF_DAY.field(125)), HOUR_OF_DAY.field(2));
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, DAY_OF_MONTH.field(5)), null);
+        }
+    }
+
+    public void test_derivationPlan_valueDependentRule() {
+        CalendricalRule<?> ruleOfData = MockEvenHourOfDayFieldRule.INSTANCE;
+        for (int i = 0; i < 2; i++) {
+            DateTimeFields even = DateTimeFields.of(HOUR_OF_DAY, 5, MockEvenHourOfDayFieldRule.INSTANCE, 2);
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, null, null, null, null, even), HOUR_OF_DAY.field(5));
+            DateTimeFields odd = DateTimeFields.of(HOUR_OF_DAY, 5, MockEvenHourOfDayFieldRule.INSTANCE, 3);
+            assertEquals(CalendricalEngine.derive(HOUR_OF_DAY, ruleOfData, null, null, null, null, null, odd), null);
+            assertEquals(CalendricalEngine.isPlanCached(HOUR_OF_DAY, ruleOfData, null), false);
+        }
+    }
+
+    public void test_derivationPlan_failureNotCached() {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(YearMonth.of(2011, 6).get(LocalDate.rule()), null);
+            assertEquals(CalendricalEngine.isPlanCached(LocalDate.rule(), YearMonth.rule(), ISOChronology.INSTANCE), false);
+        }
     }
 
 }
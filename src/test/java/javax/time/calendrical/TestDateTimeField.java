@@ -50,7 +50,9 @@ import static javax.time.calendrical.ISODateTimeRule.WEEK_BASED_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static javax.time.calendrical.ISODateTimeRule.ZERO_EPOCH_MONTH;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -136,6 +138,30 @@ public class TestDateTimeField {
         DateTimeField.of(null, 1);
     }
 
+    @Test(groups={"implementation"})
+    public void factory_of_cached() {
+        for (int i = 1; i <= 12; i++) {
+            assertSame(DateTimeField.of(MONTH_OF_YEAR, i), DateTimeField.of(MONTH_OF_YEAR, i));
+            assertSame(MONTH_OF_YEAR.field(i), DateTimeField.of(MONTH_OF_YEAR, i));
+            assertField(DateTimeField.of(MONTH_OF_YEAR, i), MONTH_OF_YEAR, i);
+        }
+        assertSame(DateTimeField.of(MINUTE_OF_HOUR, 0), DateTimeField.of(MINUTE_OF_HOUR, 0));
+        assertSame(DateTimeField.of(MINUTE_OF_HOUR, 59), DateTimeField.of(MINUTE_OF_HOUR, 59));
+        assertSame(DateTimeField.of(DAY_OF_WEEK, 7), DAY_OF_WEEK.field(7));
+        assertSame(DateTimeField.of(YEAR, 2008).withRule(MONTH_OF_QUARTER).withValue(2), MONTH_OF_QUARTER.field(2));
+    }
+
+    @Test(groups={"implementation"})
+    public void factory_of_notCached() {
+        assertNotSame(DateTimeField.of(MONTH_OF_YEAR, 0), DateTimeField.of(MONTH_OF_YEAR, 0));
+        assertNotSame(DateTimeField.of(MONTH_OF_YEAR, 13), DateTimeField.of(MONTH_OF_YEAR, 13));
+        assertNotSame(DateTimeField.of(MINUTE_OF_HOUR, -1), DateTimeField.of(MINUTE_OF_HOUR, -1));
+        assertNotSame(DateTimeField.of(YEAR, 2008), DateTimeField.of(YEAR, 2008));
+        assertNotSame(DateTimeField.of(NANO_OF_DAY, 0), DateTimeField.of(NANO_OF_DAY, 0));
+        assertField(DateTimeField.of(MONTH_OF_YEAR, 13), MONTH_OF_YEAR, 13);
+        assertField(DateTimeField.of(MINUTE_OF_HOUR, Long.MIN_VALUE), MINUTE_OF_HOUR, Long.MIN_VALUE);
+    }
+
     //-----------------------------------------------------------------------
     // withRule()
     //-----------------------------------------------------------------------
@@ -32,11 +32,18 @@
 package javax.time.format;
 
 import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_SECOND;
+import static javax.time.calendrical.ISODateTimeRule.MINUTE_OF_HOUR;
 import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
@@ -46,8 +53,11 @@ import java.util.Locale;
 
 import javax.time.CalendricalException;
 import javax.time.LocalDate;
+import javax.time.LocalDateTime;
 import javax.time.LocalTime;
 import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
 import javax.time.ZoneOffset;
 import javax.time.calendrical.Calendrical;
 import javax.time.calendrical.CalendricalEngine;
@@ -55,6 +65,7 @@ import javax.time.calendrical.CalendricalRule;
 import javax.time.calendrical.DateTimeField;
 
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -233,6 +244,129 @@ public class TestDateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_printTo_charArray() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        char[] buf = "xxxxxxxx".toCharArray();
+        assertEquals(test.printTo(LocalDate.of(2008, 6, 30), buf, 2), 5);
+        assertEquals(new String(buf), "xxONE30x");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_charArray_iso() throws Exception {
+        char[] buf = new char[30];
+        OffsetDateTime odt = OffsetDateTime.of(2011, 12, 3, 10, 15, 30, 500000000, ZoneOffset.ofHours(1));
+        assertEquals(DateTimeFormatters.isoOffsetDateTime().printTo(odt, buf, 1), 27);
+        assertEquals(new String(buf, 1, 27), "2011-12-03T10:15:30.5+01:00");
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_printTo_charArray_doesNotFit() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        char[] buf = "xxxxxxxx".toCharArray();
+        try {
+            test.printTo(LocalDate.of(2008, 6, 30), buf, 4);
+        } catch (IndexOutOfBoundsException ex) {
+            assertEquals(new String(buf), "xxxxxxxx");
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_printTo_charArray_isoDoesNotFit() throws Exception {
+        char[] buf = new char[20];
+        DateTimeFormatters.isoLocalDateTime().printTo(LocalDateTime.of(2011, 12, 3, 10, 15), buf, 2);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_printTo_charArray_badOffset() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.printTo(LocalDate.of(2008, 6, 30), new char[8], -1);
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_CharBuffer() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        CharBuffer buf = CharBuffer.allocate(8);
+        buf.put('x');
+        assertEquals(test.printTo(LocalDate.of(2008, 6, 30), buf), 5);
+        assertEquals(buf.position(), 6);
+        buf.flip();
+        assertEquals(buf.toString(), "xONE30");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_CharBuffer_iso() throws Exception {
+        CharBuffer buf = CharBuffer.allocate(40);
+        buf.put('x');
+        assertEquals(DateTimeFormatters.isoLocalDateTime().printTo(LocalDateTime.of(2011, 12, 3, 10, 15), buf), 19);
+        assertEquals(buf.position(), 20);
+        buf.flip();
+        assertEquals(buf.toString(), "x2011-12-03T10:15:00");
+    }
+
+    @Test(expectedExceptions=BufferOverflowException.class, groups={"tck"})
+    public void test_printTo_CharBuffer_doesNotFit() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        CharBuffer buf = CharBuffer.allocate(4);
+        try {
+            test.printTo(LocalDate.of(2008, 6, 30), buf);
+        } catch (BufferOverflowException ex) {
+            assertEquals(buf.position(), 0);
+            throw ex;
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_ByteBuffer() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        ByteBuffer buf = ByteBuffer.allocate(8);
+        assertEquals(test.printTo(LocalDate.of(2008, 6, 30), buf), 5);
+        assertEquals(buf.position(), 5);
+        assertEquals(new String(buf.array(), 0, 5, "UTF-8"), "ONE30");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_ByteBuffer_direct() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(64);
+        OffsetDateTime odt = OffsetDateTime.of(2011, 12, 3, 10, 15, 30, ZoneOffset.UTC);
+        DateTimeFormatter test = DateTimeFormatters.isoOffsetDateTime();
+        assertEquals(test.printTo(odt, buf), 20);
+        buf.put((byte) ' ');
+        assertEquals(test.printTo(odt.plusHours(1), buf), 20);
+        buf.flip();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        assertEquals(new String(bytes, "UTF-8"), "2011-12-03T10:15:30Z 2011-12-03T11:15:30Z");
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_ByteBuffer_nonAscii() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder().appendLiteral("\u00e9t\u00e9 ").appendValue(DAY_OF_MONTH).toFormatter();
+        ByteBuffer buf = ByteBuffer.allocate(16);
+        assertEquals(test.printTo(LocalDate.of(2008, 6, 30), buf), 8);
+        assertEquals(new String(buf.array(), 0, 8, "UTF-8"), "\u00e9t\u00e9 30");
+    }
+
+    @Test(expectedExceptions=BufferOverflowException.class, groups={"tck"})
+    public void test_printTo_ByteBuffer_doesNotFit() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(19);
+        buf.put((byte) 'x');
+        try {
+            DateTimeFormatters.isoLocalDateTime().printTo(LocalDateTime.of(2011, 12, 3, 10, 15), buf);
+        } catch (BufferOverflowException ex) {
+            assertEquals(buf.position(), 1);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_ByteBuffer_nullBuffer() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.printTo(LocalDate.of(2008, 6, 30), (ByteBuffer) null);
+    }
+
     //-----------------------------------------------------------------------
     // parse
     //-----------------------------------------------------------------------
@@ -312,6 +446,316 @@ public class TestDateTimeFormatter {
         test.parse("ONE30", DAY_OF_MONTH);
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parse_Context_reused() throws Exception {
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyy-MM-dd HH:mm:ss.SSS");
+        DateTimeParseContext context = test.createParseContext();
+        assertEquals(test.parse("2012-06-30 12:30:40.500", context, LocalDateTime.rule()), LocalDateTime.of(2012, 6, 30, 12, 30, 40, 500000000));
+        assertEquals(test.parse("2011-01-02 03:04:05.006", context, LocalDateTime.rule()), LocalDateTime.of(2011, 1, 2, 3, 4, 5, 6000000));
+        assertEquals(test.parse("2011-01-02 03:04:05.006", context, LocalDate.rule()), LocalDate.of(2011, 1, 2));
+        assertEquals(context.getParsed().size(), 7);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Context_otherFormatter() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeParseContext context = DateTimeFormatters.pattern("yyyy").withLocale(Locale.FRENCH).createParseContext();
+        context.setCaseSensitive(false);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        assertEquals(test.parse("ONE30", context, DAY_OF_MONTH), DAY_OF_MONTH.field(30L));
+        assertEquals(context.getLocale(), Locale.ENGLISH);
+        assertEquals(context.isCaseSensitive(), true);
+        assertEquals(context.getParsed().size(), 1);
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parse_Context_parseError() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeParseContext context = test.createParseContext();
+        try {
+            test.parse("ONEXXX", context, DAY_OF_MONTH);
+        } catch (CalendricalParseException ex) {
+            assertEquals(ex.getParsedString(), "ONEXXX");
+            assertEquals(ex.getErrorIndex(), 3);
+            assertEquals(test.parse("ONE30", context, DAY_OF_MONTH), DAY_OF_MONTH.field(30L));
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parse_Context_parseIncomplete() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        try {
+            test.parse("ONE30SomethingElse", test.createParseContext(), DAY_OF_MONTH);
+        } catch (CalendricalParseException ex) {
+            assertEquals(ex.getErrorIndex(), 5);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parse_Context_nullContext() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse("ONE30", (DateTimeParseContext) null, DAY_OF_MONTH);
+    }
+
+    @DataProvider(name="resolve")
+    Object[][] data_resolve() {
+        return new Object[][] {
+            {"yyyy-MM-dd", "2012-06-30", LocalDate.rule()},
+            {"yyyy-MM-dd", "2012-06-30", LocalDateTime.rule()},
+            {"yyyy-MM-dd", "2012-02-30", LocalDate.rule()},
+            {"yyyy-MM-dd", "2012-13-30", LocalDate.rule()},
+            {"yyyy-MM", "2012-06", LocalDate.rule()},
+            {"dd/MM/yyyy", "30/06/2012", LocalDate.rule()},
+            {"HH:mm", "12:30", LocalTime.rule()},
+            {"HH", "12", LocalTime.rule()},
+            {"HH:mm:ss", "24:30:00", LocalTime.rule()},
+            {"HH:mm:ss.SSS", "12:30:40.123", LocalTime.rule()},
+            {"yyyy-MM-dd HH:mm:ss", "2012-06-30 12:30:40", LocalDateTime.rule()},
+            {"yyyy-MM-dd HH:mm:ss", "2012-06-30 12:30:40", LocalTime.rule()},
+            {"yyyy-MM-dd HH:mm:ss", "2012-06-30 12:30:40", OffsetDateTime.rule()},
+            {"yyyy-MM-dd HH:mm:ssXXX", "2012-06-30 12:30:40+02:00", OffsetDateTime.rule()},
+            {"yyyy-MM-dd HH:mm:ssXXX", "2012-06-30 12:30:40+02:00", OffsetDate.rule()},
+            {"yyyy-MM-dd HH:mm:ssXXX", "2012-06-30 12:30:40+02:00", OffsetTime.rule()},
+            {"yyyy-MM-dd HH:mm:ssXXX", "2012-06-30 12:30:40+02:00", ZoneOffset.rule()},
+            {"yyyy-MM-dd HH:mm:ssXXX", "2012-06-30 12:30:40+02:00", LocalDateTime.rule()},
+            {"yyyy-MM-dd HH:mm:ss.SSSXXX", "2012-06-30 12:30:40.5Z", OffsetDateTime.rule()},
+            {"yyyy-MM-dd yyyy", "2012-06-30 2012", LocalDate.rule()},
+            {"yyyy-MM-dd yyyy", "2012-06-30 2011", LocalDate.rule()},
+            {"yyyy-MM-dd EEE", "2012-06-30 Sat", LocalDate.rule()},
+            {"yyyy-MM-dd EEE", "2012-06-30 Fri", LocalDate.rule()},
+            {"yyyy-MM-dd[ HH:mm]", "2012-06-30", LocalDate.rule()},
+            {"yyyy-MM-dd[ HH:mm]", "2012-06-30 12:30", LocalDateTime.rule()},
+        };
+    }
+
+    @Test(dataProvider="resolve", groups={"implementation"})
+    public void test_parse_Context_matchesEngine(String pattern, String text, CalendricalRule<?> rule) throws Exception {
+        assertParseMatchesEngine(DateTimeFormatters.pattern(pattern), text, rule);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_parse_Context_matchesEngine_largeMilli() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder()
+            .appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2).appendLiteral(':')
+            .appendValue(SECOND_OF_MINUTE, 2).appendLiteral('.').appendValue(MILLI_OF_SECOND).toFormatter();
+        for (String text : new String[] {"12:30:40.0", "12:30:40.999", "12:30:40.1000", "12:30:40.18446744073710", "12:30:40.9223372036854775807"}) {
+            assertParseMatchesEngine(test, text, LocalTime.rule());
+        }
+        assertEquals(test.parse("12:30:40.999", LocalTime.rule()), LocalTime.of(12, 30, 40, 999000000));
+    }
+
+    private void assertParseMatchesEngine(DateTimeFormatter test, String text, CalendricalRule<?> rule) throws Exception {
+        Object expected;
+        try {
+            expected = test.parseToEngine(text).deriveChecked(rule);
+        } catch (CalendricalException ex) {
+            expected = CalendricalException.class;
+        }
+        DateTimeParseContext context = test.createParseContext();
+        for (int i = 0; i < 2; i++) {
+            try {
+                assertEquals(test.parse(text, context, rule), expected);
+            } catch (CalendricalParseException ex) {
+                assertEquals(CalendricalException.class, expected, ex.toString());
+            }
+            try {
+                assertEquals(test.parse(text, rule), expected);
+            } catch (CalendricalParseException ex) {
+                assertEquals(CalendricalException.class, expected, ex.toString());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parse_Rule_charArray() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeField result = test.parse("xxONE30yy".toCharArray(), 2, 5, DAY_OF_MONTH);
+        assertEquals(result, DAY_OF_MONTH.field(30L));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_byteArray() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        DateTimeField result = test.parse("xxONE30yy".getBytes("ISO-8859-1"), 2, 5, DAY_OF_MONTH);
+        assertEquals(result, DAY_OF_MONTH.field(30L));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_byteArray_iso() throws Exception {
+        byte[] bytes = "{\"t\":\"2011-12-03T10:15:30.5Z\"}".getBytes("ISO-8859-1");
+        OffsetDateTime result = DateTimeFormatters.isoOffsetDateTime().parse(bytes, 6, 22, OffsetDateTime.rule());
+        assertEquals(result, OffsetDateTime.of(2011, 12, 3, 10, 15, 30, 500000000, ZoneOffset.UTC));
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parse_Rule_byteArray_parseError() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        try {
+            test.parse("xxONEXXXyy".getBytes("ISO-8859-1"), 2, 6, DAY_OF_MONTH);
+        } catch (CalendricalParseException ex) {
+            assertEquals(ex.getParsedString(), "ONEXXX");
+            assertEquals(ex.getErrorIndex(), 3);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_parse_Rule_byteArray_badRange() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse(new byte[4], 2, 3, DAY_OF_MONTH);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_parse_Rule_charArray_badRange() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse(new char[4], 2, 3, DAY_OF_MONTH);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        ParsePosition pos = new ParsePosition(2);
+        DateTimeField result = test.parse("xxONE30yy", pos, DAY_OF_MONTH);
+        assertEquals(result, DAY_OF_MONTH.field(30L));
+        assertEquals(pos.getIndex(), 7);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition_iso() throws Exception {
+        ParsePosition pos = new ParsePosition(6);
+        OffsetDateTime result = DateTimeFormatters.isoOffsetDateTime().parse(
+                "{\"t\":\"2011-12-03T10:15:30.5Z\"}", pos, OffsetDateTime.rule());
+        assertEquals(result, OffsetDateTime.of(2011, 12, 3, 10, 15, 30, 500000000, ZoneOffset.UTC));
+        assertEquals(pos.getIndex(), 28);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition_isoNotCanonical() throws Exception {
+        // the run of ISO characters includes the offset, so the general parser is used
+        ParsePosition pos = new ParsePosition(0);
+        LocalDateTime result = DateTimeFormatters.isoLocalDateTime().parse(
+                "2011-12-03T10:15:30+01:00 INFO", pos, LocalDateTime.rule());
+        assertEquals(result, LocalDateTime.of(2011, 12, 3, 10, 15, 30));
+        assertEquals(pos.getIndex(), 19);
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition_parseError() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        ParsePosition pos = new ParsePosition(2);
+        try {
+            test.parse("xxONEXXX", pos, DAY_OF_MONTH);
+        } catch (CalendricalParseException ex) {
+            assertEquals(ex.getParsedString(), "xxONEXXX");
+            assertEquals(ex.getErrorIndex(), 5);
+            assertEquals(pos.getIndex(), 2);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition_badPosition() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse("ONE30", new ParsePosition(6), DAY_OF_MONTH);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parse_Rule_CharSequence_ParsePosition_nullPosition() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse("ONE30", (ParsePosition) null, DAY_OF_MONTH);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_byteArray_ParsePosition() throws Exception {
+        byte[] bytes = "[2011-12-03T10:15:30] INFO started".getBytes("UTF-8");
+        ParsePosition pos = new ParsePosition(1);
+        LocalDateTime result = DateTimeFormatters.isoLocalDateTime().parse(bytes, 0, bytes.length, pos, LocalDateTime.rule());
+        assertEquals(result, LocalDateTime.of(2011, 12, 3, 10, 15, 30));
+        assertEquals(pos.getIndex(), 20);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_byteArray_ParsePosition_relativeToOffset() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        ParsePosition pos = new ParsePosition(1);
+        DateTimeField result = test.parse("xxyONE30zz".getBytes("ISO-8859-1"), 2, 8, pos, DAY_OF_MONTH);
+        assertEquals(result, DAY_OF_MONTH.field(30L));
+        assertEquals(pos.getIndex(), 6);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_heap() throws Exception {
+        ByteBuffer buf = ByteBuffer.wrap("2011-12-03T10:15:30Z 2011-12-03T11:15:30Z".getBytes("ISO-8859-1"));
+        DateTimeFormatter test = DateTimeFormatters.isoOffsetDateTime();
+        assertEquals(test.parse(buf, OffsetDateTime.rule()), OffsetDateTime.of(2011, 12, 3, 10, 15, 30, ZoneOffset.UTC));
+        assertEquals(buf.position(), 20);
+        buf.get();
+        assertEquals(test.parse(buf, OffsetDateTime.rule()), OffsetDateTime.of(2011, 12, 3, 11, 15, 30, ZoneOffset.UTC));
+        assertEquals(buf.position(), 41);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_slice() throws Exception {
+        ByteBuffer buf = ByteBuffer.wrap("xxONE30yy".getBytes("ISO-8859-1"));
+        buf.position(2);
+        buf = buf.slice();
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        assertEquals(test.parse(buf, DAY_OF_MONTH), DAY_OF_MONTH.field(30L));
+        assertEquals(buf.position(), 5);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_direct() throws Exception {
+        byte[] bytes = "t=2011-12-03T10:15:30+01:00;".getBytes("ISO-8859-1");
+        ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+        buf.put(bytes);
+        buf.flip();
+        buf.position(2);
+        OffsetDateTime result = DateTimeFormatters.isoOffsetDateTime().parse(buf, OffsetDateTime.rule());
+        assertEquals(result, OffsetDateTime.of(2011, 12, 3, 10, 15, 30, ZoneOffset.ofHours(1)));
+        assertEquals(buf.position(), 27);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_directGeneralParser() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(16);
+        buf.put("xxONE30yy".getBytes("ISO-8859-1"));
+        buf.flip();
+        buf.position(2);
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        assertEquals(test.parse(buf, DAY_OF_MONTH), DAY_OF_MONTH.field(30L));
+        assertEquals(buf.position(), 7);
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class, groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_parseError() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(16);
+        buf.put("xxONEXXX".getBytes("ISO-8859-1"));
+        buf.flip();
+        buf.position(2);
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        try {
+            test.parse(buf, DAY_OF_MONTH);
+        } catch (CalendricalParseException ex) {
+            assertEquals(ex.getParsedString(), "ONEXXX");
+            assertEquals(ex.getErrorIndex(), 3);
+            assertEquals(buf.position(), 2);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parse_Rule_ByteBuffer_null() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatter(Locale.ENGLISH, DateTimeFormatSymbols.STANDARD, compPP);
+        test.parse((ByteBuffer) null, DAY_OF_MONTH);
+    }
+
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_parseBest_firstOption() throws Exception {
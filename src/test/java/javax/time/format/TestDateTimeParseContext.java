@@ -36,6 +36,7 @@ import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
 import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -43,6 +44,7 @@ import javax.time.LocalDate;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
 import javax.time.calendrical.Calendrical;
+import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeRule;
 
 import org.testng.annotations.BeforeMethod;
@@ -202,6 +204,90 @@ public class TestDateTimeParseContext {
         assertEquals(list.get(1), MONTH_OF_YEAR.field(6L));
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_optional_successful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.startOptional();
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        context.endOptional(false);
+        context.endOptional(true);
+        assertEquals(context.getParsed(), Arrays.asList(YEAR.field(2008), MONTH_OF_YEAR.field(6)));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_unsuccessful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        context.endOptional(false);
+        assertEquals(context.getParsed(), Arrays.asList(YEAR.field(2008)));
+        assertEquals(context.getParsed(LocalDate.class), null);
+        assertEquals(context.getParsed(MONTH_OF_YEAR), null);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_manyEntries() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            context.startOptional();
+            context.setParsedField(DAY_OF_MONTH, i);
+        }
+        for (int i = 0; i < 10; i++) {
+            context.endOptional(i % 2 == 1);
+        }
+        assertEquals(context.getParsed(), Arrays.asList(DAY_OF_MONTH.field(0)));
+    }
+
+    @Test(groups={"tck"})
+    public void test_getParsed_listOperations() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        List<Calendrical> list = context.getParsed();
+        list.add(0, MONTH_OF_YEAR.field(6));
+        assertEquals(list, Arrays.asList(MONTH_OF_YEAR.field(6), YEAR.field(2008), LocalDate.of(2010, 6, 30)));
+        assertEquals(list.set(1, ZoneOffset.UTC), YEAR.field(2008));
+        assertEquals(list.remove(0), MONTH_OF_YEAR.field(6));
+        assertEquals(list, Arrays.asList(ZoneOffset.UTC, LocalDate.of(2010, 6, 30)));
+        assertEquals(context.getParsed(ZoneOffset.class), ZoneOffset.UTC);
+        assertEquals(context.getParsed(Calendrical.class), ZoneOffset.UTC);
+        list.clear();
+        assertEquals(context.getParsed().size(), 0);
+    }
+
+    @Test(groups={"tck"})
+    public void test_getParsed_Class_field() throws Exception {
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        context.setParsedField(YEAR, 2008);
+        assertEquals(context.getParsed(DateTimeField.class), YEAR.field(2008));
+        assertEquals(context.getParsed(Calendrical.class), LocalDate.of(2010, 6, 30));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_getParsed_listGetInvalid() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.getParsed().get(1);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_reset() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.setParsed(LocalDate.of(2010, 6, 30));
+        context.setStrict(false);
+        context.setCaseSensitive(false);
+        context.startOptional();
+        context.reset(Locale.FRANCE, DateTimeFormatSymbols.STANDARD);
+        assertEquals(context.getParsed().size(), 0);
+        assertEquals(context.getLocale(), Locale.FRANCE);
+        assertEquals(context.getSymbols(), DateTimeFormatSymbols.STANDARD);
+        assertEquals(context.isStrict(), true);
+        assertEquals(context.isCaseSensitive(), true);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        assertEquals(context.getParsed(), Arrays.asList(MONTH_OF_YEAR.field(6)));
+    }
+
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_toString() throws Exception {
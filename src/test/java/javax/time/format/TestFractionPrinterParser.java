@@ -31,12 +31,14 @@
  */
 package javax.time.format;
 
+import static javax.time.calendrical.ISODateTimeRule.MILLI_OF_SECOND;
 import static javax.time.calendrical.ISODateTimeRule.NANO_OF_SECOND;
 import static javax.time.calendrical.ISODateTimeRule.SECOND_OF_MINUTE;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
 
 import javax.time.CalendricalException;
+import javax.time.LocalTime;
 import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeFields;
 import javax.time.calendrical.DateTimeRule;
@@ -157,6 +159,29 @@ public class TestFractionPrinterParser extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), result);
     }
 
+    @Test(dataProvider="Nanos")
+    public void test_print_nanos_directValue(int minWidth, int maxWidth, int value, String result) throws Exception {
+        printContext.setCalendrical(LocalTime.of(12, 30, 40, value));
+        FractionPrinterParser pp = new FractionPrinterParser(NANO_OF_SECOND, minWidth, maxWidth);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), result);
+    }
+
+    public void test_print_millis_widerThanRange() throws Exception {
+        printContext.setCalendrical(DateTimeFields.of(MILLI_OF_SECOND, 120));
+        FractionPrinterParser pp = new FractionPrinterParser(MILLI_OF_SECOND, 5, 9);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), ".12000");
+    }
+
+    public void test_print_nanos_nonAsciiZero() throws Exception {
+        printContext.setCalendrical(LocalTime.of(12, 30, 40, 120000000));
+        printContext.setSymbols(DateTimeFormatSymbols.STANDARD.withZeroDigit('A'));
+        FractionPrinterParser pp = new FractionPrinterParser(NANO_OF_SECOND, 0, 9);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), ".BC");
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name="Seconds")
     Object[][] provider_seconds() {
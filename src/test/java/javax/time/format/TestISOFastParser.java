@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ISOFastParser.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestISOFastParser {
+
+    /** The general parser for the ISO local date-time format. */
+    private static final DateTimeFormatter GENERAL_LOCAL =
+            new DateTimeFormatterBuilder().append(DateTimeFormatters.isoLocalDateTime()).toFormatter();
+    /** The general parser for the ISO offset date-time format. */
+    private static final DateTimeFormatter GENERAL_OFFSET =
+            new DateTimeFormatterBuilder().append(DateTimeFormatters.isoOffsetDateTime()).toFormatter();
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="canonicalLocal")
+    Object[][] provider_canonicalLocal() {
+        return new Object[][] {
+            {"2011-12-03T10:15"},
+            {"2011-12-03T10:15:30"},
+            {"2011-12-03T10:15:30.1"},
+            {"2011-12-03T10:15:30.12"},
+            {"2011-12-03T10:15:30.123456"},
+            {"2011-12-03T10:15:30.123456789"},
+            {"2011-12-03T10:15:30.000000001"},
+            {"0000-01-01T00:00:00"},
+            {"9999-12-31T23:59:59.999999999"},
+            {"2012-02-29T00:00"},
+            {"1970-01-01T00:00:00.0"},
+        };
+    }
+
+    @Test(dataProvider="canonicalLocal")
+    public void test_parseLocalDateTime(String text) {
+        LocalDateTime expected = GENERAL_LOCAL.parse(text, LocalDateTime.rule());
+        assertEquals(ISOFastParser.parseLocalDateTime(text, 0, text.length()), expected);
+        assertEquals(DateTimeFormatters.isoLocalDateTime().parse(text, LocalDateTime.rule()), expected);
+    }
+
+    @Test(dataProvider="canonicalLocal")
+    public void test_parseOffsetDateTime(String text) {
+        String[] offsets = {"Z", "+01:00", "-05:30", "+00:00", "-00:00", "+17:59"};
+        for (String offset : offsets) {
+            String str = text + offset;
+            OffsetDateTime expected = GENERAL_OFFSET.parse(str, OffsetDateTime.rule());
+            assertEquals(ISOFastParser.parseOffsetDateTime(str, 0, str.length()), expected);
+            assertEquals(DateTimeFormatters.isoOffsetDateTime().parse(str, OffsetDateTime.rule()), expected);
+        }
+    }
+
+    public void test_parseLocalDateTime_range() {
+        String text = "xx2011-12-03T10:15:30yy";
+        assertEquals(ISOFastParser.parseLocalDateTime(text, 2, text.length() - 2), LocalDateTime.of(2011, 12, 3, 10, 15, 30));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="notCanonical")
+    Object[][] provider_notCanonical() {
+        return new Object[][] {
+            {""},
+            {"2011-12-03"},
+            {"2011-12-03t10:15"},
+            {"+12011-12-03T10:15"},
+            {"2011-12-03T10:15:3"},
+            {"2011-12-03T10:15:30."},
+            {"2011-12-03T10:15:30.1234567890"},
+            {"2011-12-03T10:15:30,1"},
+            {"2011-12-03T10:15:30Z"},
+            {"2011-13-03T10:15:30"},
+            {"2011-02-29T10:15:30"},
+            {"2011-12-00T10:15:30"},
+            {"2011-12-03T24:00"},
+            {"2011-12-03T10:60"},
+            {"2011-12-03T10:15:60"},
+            {"2011-12-03T1a:15:30"},
+        };
+    }
+
+    @Test(dataProvider="notCanonical")
+    public void test_parseLocalDateTime_notCanonical(String text) {
+        assertNull(ISOFastParser.parseLocalDateTime(text, 0, text.length()));
+    }
+
+    @Test(dataProvider="notCanonical")
+    public void test_parseOffsetDateTime_notCanonical(String text) {
+        String str = text + "+01:00";
+        if (text.endsWith("Z") == false) {
+            assertNull(ISOFastParser.parseOffsetDateTime(str, 0, str.length()));
+        }
+    }
+
+    public void test_parseOffsetDateTime_notCanonicalOffset() {
+        String[] offsets = {"z", "+18:00", "+01:60", "+0100", "+01", "+01:00:00", "*01:00"};
+        for (String offset : offsets) {
+            String str = "2011-12-03T10:15:30" + offset;
+            assertNull(ISOFastParser.parseOffsetDateTime(str, 0, str.length()));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_otherRule() {
+        assertNull(ISOFastParser.parse(ISOFastParser.LOCAL_DATE_TIME, "2011-12-03T10:15:30", LocalDate.rule()));
+        assertNull(ISOFastParser.parse(ISOFastParser.NONE, "2011-12-03T10:15:30", LocalDateTime.rule()));
+    }
+
+    public void test_parse_fallbackToGeneral() {
+        assertEquals(DateTimeFormatters.isoLocalDateTime().parse("2011-12-03t10:15", LocalDateTime.rule()),
+                LocalDateTime.of(2011, 12, 3, 10, 15));
+        assertEquals(DateTimeFormatters.isoLocalDateTime().parse("+12011-12-03T10:15", LocalDateTime.rule()),
+                LocalDateTime.of(12011, 12, 3, 10, 15));
+    }
+
+    @Test(expectedExceptions=CalendricalParseException.class)
+    public void test_parse_invalidUsesGeneralError() {
+        DateTimeFormatters.isoLocalDateTime().parse("2011-13-03T10:15", LocalDateTime.rule());
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.Calendrical;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ISOFastPrinter.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestISOFastPrinter {
+
+    /** The general printer for the ISO local date-time format. */
+    private static final DateTimeFormatter GENERAL_LOCAL =
+            new DateTimeFormatterBuilder().append(DateTimeFormatters.isoLocalDateTime()).toFormatter();
+    /** The general printer for the ISO offset date-time format. */
+    private static final DateTimeFormatter GENERAL_OFFSET =
+            new DateTimeFormatterBuilder().append(DateTimeFormatters.isoOffsetDateTime()).toFormatter();
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="dateTimes")
+    Object[][] provider_dateTimes() {
+        return new Object[][] {
+            {LocalDateTime.of(2011, 12, 3, 10, 15)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30, 100000000)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30, 120000000)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30, 123456000)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30, 123456789)},
+            {LocalDateTime.of(2011, 12, 3, 10, 15, 30, 1)},
+            {LocalDateTime.of(0, 1, 1, 0, 0)},
+            {LocalDateTime.of(9, 1, 1, 0, 0)},
+            {LocalDateTime.of(999, 1, 1, 0, 0)},
+            {LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999999999)},
+        };
+    }
+
+    @Test(dataProvider="dateTimes")
+    public void test_print_local(LocalDateTime dateTime) throws Exception {
+        assertPrint(ISOFastParser.LOCAL_DATE_TIME, dateTime, GENERAL_LOCAL.print(dateTime));
+    }
+
+    @Test(dataProvider="dateTimes")
+    public void test_print_offset(LocalDateTime dateTime) throws Exception {
+        ZoneOffset[] offsets = {ZoneOffset.UTC, ZoneOffset.ofHours(1), ZoneOffset.ofHoursMinutes(-5, -30),
+                ZoneOffset.ofHoursMinutesSeconds(1, 2, 3), ZoneOffset.ofHours(-18), ZoneOffset.ofHours(18)};
+        for (ZoneOffset offset : offsets) {
+            OffsetDateTime odt = dateTime.atOffset(offset);
+            assertPrint(ISOFastParser.OFFSET_DATE_TIME, odt, GENERAL_OFFSET.print(odt));
+            assertPrint(ISOFastParser.LOCAL_DATE_TIME, odt, GENERAL_LOCAL.print(odt));
+        }
+    }
+
+    @Test(dataProvider="dateTimes")
+    public void test_print_zoned(LocalDateTime dateTime) throws Exception {
+        ZonedDateTime zdt = ZonedDateTime.of(dateTime, ZoneId.of("Europe/Paris"));
+        assertPrint(ISOFastParser.OFFSET_DATE_TIME, zdt, GENERAL_OFFSET.print(zdt));
+        assertPrint(ISOFastParser.LOCAL_DATE_TIME, zdt, GENERAL_LOCAL.print(zdt));
+    }
+
+    private void assertPrint(int type, Calendrical calendrical, String expected) throws Exception {
+        int length = expected.length();
+        char[] chars = new char[length + 2];
+        assertEquals(ISOFastPrinter.print(type, calendrical, chars, 1, length + 1), length);
+        assertEquals(new String(chars, 1, length), expected);
+        byte[] bytes = new byte[length];
+        assertEquals(ISOFastPrinter.print(type, calendrical, bytes, 0, length), length);
+        assertEquals(new String(bytes, 0, length, "US-ASCII"), expected);
+        ByteBuffer byteBuf = ByteBuffer.allocateDirect(length);
+        assertEquals(ISOFastPrinter.print(type, calendrical, byteBuf, 0, length), length);
+        for (int i = 0; i < length; i++) {
+            assertEquals((char) byteBuf.get(i), expected.charAt(i));
+        }
+        CharBuffer charBuf = CharBuffer.allocate(length);
+        assertEquals(ISOFastPrinter.print(type, calendrical, charBuf, 0, length), length);
+        assertEquals(charBuf.toString(), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_print_notHandled() {
+        char[] buf = new char[64];
+        assertEquals(ISOFastPrinter.print(ISOFastParser.NONE, LocalDateTime.of(2011, 12, 3, 10, 15), buf, 0, 64), -1);
+        assertEquals(ISOFastPrinter.print(ISOFastParser.OFFSET_DATE_TIME, LocalDateTime.of(2011, 12, 3, 10, 15), buf, 0, 64), -1);
+        assertEquals(ISOFastPrinter.print(ISOFastParser.LOCAL_DATE_TIME, LocalDate.of(2011, 12, 3), buf, 0, 64), -1);
+        assertEquals(ISOFastPrinter.print(ISOFastParser.LOCAL_DATE_TIME, LocalDateTime.of(10000, 1, 1, 0, 0), buf, 0, 64), -1);
+        assertEquals(ISOFastPrinter.print(ISOFastParser.LOCAL_DATE_TIME, LocalDateTime.of(-1, 1, 1, 0, 0), buf, 0, 64), -1);
+    }
+
+    public void test_print_doesNotFit() {
+        char[] buf = new char[20];
+        buf[0] = 'x';
+        assertEquals(ISOFastPrinter.print(ISOFastParser.LOCAL_DATE_TIME, LocalDateTime.of(2011, 12, 3, 10, 15), buf, 2, 20), -1);
+        assertEquals(ISOFastPrinter.print(ISOFastParser.LOCAL_DATE_TIME, LocalDateTime.of(2011, 12, 3, 10, 15), buf, 1, 20), 19);
+        assertEquals(buf[0], 'x');
+    }
+
+}
@@ -34,10 +34,14 @@ package javax.time.format;
 import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
 import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_AMPM;
 import static javax.time.calendrical.ISODateTimeRule.HOUR_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static javax.time.calendrical.ISODateTimeRule.YEAR;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
 
 import javax.time.CalendricalException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
 import javax.time.calendrical.DateTimeField;
 
 import org.testng.annotations.DataProvider;
@@ -260,6 +264,37 @@ public class TestNumberPrinter extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), "01");   // 1PM
     }
 
+    //-----------------------------------------------------------------------
+    public void test_print_directValue() throws Exception {
+        printContext.setCalendrical(LocalDate.of(2011, 6, 3));
+        new NumberPrinterParser(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).print(printContext, buf);
+        new NumberPrinterParser(MONTH_OF_YEAR, 2, 2, SignStyle.NOT_NEGATIVE).print(printContext, buf);
+        new NumberPrinterParser(DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE).print(printContext, buf);
+        assertEquals(buf.toString(), "2011063");
+    }
+
+    public void test_print_directValue_largeYear() throws Exception {
+        printContext.setCalendrical(LocalDateTime.of(-123456, 6, 3, 12, 30));
+        new NumberPrinterParser(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).print(printContext, buf);
+        new NumberPrinterParser(HOUR_OF_DAY, 3, 3, SignStyle.NOT_NEGATIVE).print(printContext, buf);
+        assertEquals(buf.toString(), "-123456012");
+    }
+
+    public void test_print_directValue_nonAsciiZero() throws Exception {
+        printContext.setCalendrical(LocalDate.of(2011, 6, 3));
+        printContext.setSymbols(DateTimeFormatSymbols.STANDARD.withZeroDigit('A'));
+        new NumberPrinterParser(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).print(printContext, buf);
+        new NumberPrinterParser(MONTH_OF_YEAR, 3, 3, SignStyle.NOT_NEGATIVE).print(printContext, buf);
+        assertEquals(buf.toString(), "CABBAAG");
+    }
+
+    public void test_print_maxNegative_nonAsciiZero() throws Exception {
+        printContext.setCalendrical(DateTimeField.of(DAY_OF_MONTH, Long.MIN_VALUE));
+        printContext.setSymbols(DateTimeFormatSymbols.STANDARD.withZeroDigit('A'));
+        new NumberPrinterParser(DAY_OF_MONTH, 1, 19, SignStyle.NORMAL).print(printContext, buf);
+        assertEquals(buf.toString(), "-JCCDDHCADGIFEHHFIAI");
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString1() throws Exception {
         NumberPrinterParser pp = new NumberPrinterParser(HOUR_OF_DAY, 1, 19, SignStyle.NORMAL);
@@ -38,6 +38,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.fail;
 
 import javax.time.CalendricalException;
+import javax.time.LocalDate;
 import javax.time.calendrical.DateTimeField;
 
 import org.testng.annotations.DataProvider;
@@ -67,6 +68,13 @@ public class TestReducedPrinter extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), "EXISTING12");
     }
 
+    public void test_print_directValue() throws Exception {
+        printContext.setCalendrical(LocalDate.of(2012, 6, 30));
+        ReducedPrinterParser pp = new ReducedPrinterParser(YEAR, 2, 2010);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "12");
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name="Pivot")
     Object[][] provider_pivot() {
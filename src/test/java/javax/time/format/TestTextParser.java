@@ -206,6 +206,15 @@ public class TestTextParser extends AbstractTestPrinterParser {
         assertParsed(parseContext, rule, value);
     }
 
+    public void test_parse_lenient_caseInsensitive_longestMatch() throws Exception {
+        parseContext.setStrict(false);
+        parseContext.setCaseSensitive(false);
+        TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.SHORT);
+        int newPos = pp.parse(parseContext, "SEPTEMBERXxx", 0);
+        assertEquals(newPos, 9);
+        assertParsed(parseContext, MONTH_OF_YEAR, 9);
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
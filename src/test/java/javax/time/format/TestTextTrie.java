@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.ISODateTimeRule.AMPM_OF_DAY;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_MONTH;
+import static javax.time.calendrical.ISODateTimeRule.DAY_OF_WEEK;
+import static javax.time.calendrical.ISODateTimeRule.MONTH_OF_YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.DateTimeRule;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test TextTrie.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestTextTrie extends AbstractTestPrinterParser {
+
+    private static final DateTimeField MAR = MONTH_OF_YEAR.field(3);
+    private static final DateTimeField MAY = MONTH_OF_YEAR.field(5);
+    private static final DateTimeField JUN = MONTH_OF_YEAR.field(6);
+
+    private static TextTrie<DateTimeField> trie(boolean caseSensitive) {
+        List<Entry<String, DateTimeField>> list = new ArrayList<Entry<String, DateTimeField>>();
+        list.add(DateTimeTextProvider.createEntry("March", MAR));
+        list.add(DateTimeTextProvider.createEntry("May", MAY));
+        list.add(DateTimeTextProvider.createEntry("Ma", JUN));
+        list.add(DateTimeTextProvider.createEntry("MAY", JUN));
+        return TextTrie.of(list, caseSensitive);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_longestMatch() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "MarchXxx", 0), 5);
+        assertParsed(MAR);
+    }
+
+    public void test_parse_shorterMatch() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "Marc", 0), 2);
+        assertParsed(JUN);
+    }
+
+    public void test_parse_midStr() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "XxxMayXxx", 3), 6);
+        assertParsed(MAY);
+    }
+
+    public void test_parse_noMatch() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "Mxy", 0), ~0);
+        assertEquals(parseContext.getParsed().size(), 0);
+    }
+
+    public void test_parse_atEnd() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "May", 3), ~3);
+        assertEquals(parseContext.getParsed().size(), 0);
+    }
+
+    public void test_parse_empty() {
+        TextTrie<DateTimeField> test = TextTrie.of(Collections.<Entry<String, DateTimeField>>emptyList(), true);
+        assertEquals(test.isEmpty(), true);
+        assertEquals(parse(test, "May", 0), ~0);
+        assertEquals(parseContext.getParsed().size(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_caseSensitive() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(test.isCaseSensitive(), true);
+        assertEquals(parse(test, "MAY", 0), 3);
+        assertParsed(JUN);
+    }
+
+    public void test_parse_caseSensitive_noMatch() {
+        TextTrie<DateTimeField> test = trie(true);
+        assertEquals(parse(test, "march", 0), ~0);
+    }
+
+    public void test_parse_caseInsensitive_firstWins() {
+        TextTrie<DateTimeField> test = trie(false);
+        assertEquals(test.isCaseSensitive(), false);
+        assertEquals(parse(test, "MAY", 0), 3);
+        assertParsed(MAY);
+    }
+
+    public void test_parse_caseInsensitive() {
+        TextTrie<DateTimeField> test = trie(false);
+        assertEquals(parse(test, "mARCH", 0), 5);
+        assertParsed(MAR);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="locales")
+    Object[][] data_locales() {
+        return new Object[][] {
+            {Locale.ENGLISH},
+            {Locale.FRENCH},
+            {Locale.GERMAN},
+            {new Locale("pl")},
+            {new Locale("ru")},
+            {Locale.JAPANESE},
+        };
+    }
+
+    @Test(dataProvider="locales")
+    public void test_parse_matchesIterator(Locale locale) {
+        SimpleDateTimeTextProvider provider = new SimpleDateTimeTextProvider();
+        DateTimeRule[] rules = {MONTH_OF_YEAR, DAY_OF_WEEK, AMPM_OF_DAY};
+        TextStyle[] styles = {TextStyle.FULL, TextStyle.SHORT, null};
+        for (DateTimeRule rule : rules) {
+            for (TextStyle style : styles) {
+                for (boolean caseSensitive : new boolean[] {true, false}) {
+                    TextTrie<DateTimeField> trie = provider.getTextTrie(rule, style, locale, caseSensitive);
+                    assertNotNull(trie);
+                    DateTimeParseContext context = new DateTimeParseContext(locale, DateTimeFormatSymbols.STANDARD);
+                    context.setCaseSensitive(caseSensitive);
+                    Iterator<Entry<String, DateTimeField>> it = provider.getTextIterator(rule, style, locale);
+                    while (it.hasNext()) {
+                        String text = it.next().getKey();
+                        for (String input : new String[] {text, text.toUpperCase(locale), text.toLowerCase(locale), text + "X"}) {
+                            assertEquals(parse(trie, input, 0), parseByIterator(provider, context, rule, style, input), input);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int parseByIterator(SimpleDateTimeTextProvider provider, DateTimeParseContext context, DateTimeRule rule, TextStyle style, String input) {
+        Iterator<Entry<String, DateTimeField>> it = provider.getTextIterator(rule, style, context.getLocale());
+        while (it.hasNext()) {
+            Entry<String, DateTimeField> entry = it.next();
+            String text = entry.getKey();
+            if (context.subSequenceEquals(text, 0, input, 0, text.length())) {
+                return text.length();
+            }
+        }
+        return ~0;
+    }
+
+    public void test_getTextTrie_notParsable() {
+        SimpleDateTimeTextProvider provider = new SimpleDateTimeTextProvider();
+        assertNull(provider.getTextTrie(DAY_OF_MONTH, TextStyle.FULL, Locale.ENGLISH, true));
+    }
+
+    public void test_isEmpty() {
+        assertEquals(trie(true).isEmpty(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    private int parse(TextTrie<DateTimeField> trie, String text, int position) {
+        int node = trie.match(text, position);
+        if (node < 0) {
+            return ~position;
+        }
+        parseContext.setParsed(trie.getValue(node));
+        return position + trie.getLength(node);
+    }
+
+    private void assertParsed(DateTimeField expected) {
+        assertEquals(parseContext.getParsed().size(), 1);
+        assertEquals(parseContext.getParsed().get(0), expected);
+    }
+
+}
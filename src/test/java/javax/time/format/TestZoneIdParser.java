@@ -34,10 +34,16 @@ package javax.time.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 
 import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.zone.ZoneRules;
+import javax.time.zone.ZoneRulesDataProvider;
 import javax.time.zone.ZoneRulesGroup;
+import javax.time.zone.ZoneRulesVersion;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -156,6 +162,59 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(ZoneId.of("UTC+01:00"));
     }
 
+    //-----------------------------------------------------------------------
+    public void test_parse_longestMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, "Etc/GMT-14Xxx", 0);
+        assertEquals(result, 10);
+        assertParsed(ZoneId.of("Etc/GMT-14"));
+    }
+
+    public void test_parse_shorterMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        int result = pp.parse(parseContext, "Etc/GMT-Xxx", 0);
+        assertEquals(result, 7);
+        assertParsed(ZoneId.of("Etc/GMT"));
+    }
+
+    public void test_parse_registeredProvider() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
+        String id = "PARSEMOCK:Mock/Parse";
+        assertEquals(pp.parse(parseContext, id, 0), ~0);
+        assertParsed(null);
+        
+        ZoneRulesGroup.registerProvider(new MockParseProvider());
+        
+        assertEquals(pp.parse(parseContext, id, 0), id.length());
+        assertParsed(ZoneId.of(id));
+    }
+
+    static class MockParseProvider implements ZoneRulesDataProvider {
+        public String getGroupID() {
+            return "PARSEMOCK";
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return "1";
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Mock/Parse");
+                }
+                public Set<String> getRegionIDs() {
+                    return new HashSet<String>(Arrays.asList("Mock/Parse"));
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(ZoneOffset.of("+01:45")).getRules();
+                }
+            };
+            return new HashSet<ZoneRulesVersion>(Arrays.asList(version));
+        }
+        public Set<String> getRegionIDs() {
+            return new HashSet<String>(Arrays.asList("Mock/Parse"));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString_id() {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser();
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Random;
+
+import javax.time.LocalDate;
+import javax.time.Year;
+import javax.time.calendrical.IllegalCalendarFieldValueException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test EpochDays.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestEpochDays {
+
+    //-----------------------------------------------------------------------
+    // LocalDate uses the epoch-day engine in javax.time, thus these cross-check the two
+    public void test_matchesLocalDate() {
+        for (int year = -1201; year <= 2801; year++) {
+            LocalDate date = LocalDate.of(year, 1, 1);
+            long epochDay = date.toEpochDay();
+            int length = (date.isLeapYear() ? 366 : 365);
+            assertEquals(EpochDays.toEpochDay(year, 1), epochDay);
+            assertEquals(EpochDays.toEpochDay(year, length + 1), epochDay + length);
+            for (int doy = 1; doy <= length; doy += 29) {
+                LocalDate test = date.plusDays(doy - 1);
+                assertEquals(EpochDays.toEpochDay(year, doy), test.toEpochDay());
+                assertEquals(EpochDays.toYear(test.toEpochDay()), year);
+                assertEquals(EpochDays.toDayOfWeek0(test.toEpochDay()), test.getDayOfWeek().getValue() - 1);
+            }
+            assertEquals(EpochDays.toYear(epochDay - 1), year - 1);
+            assertEquals(EpochDays.toYear(epochDay + length - 1), year);
+        }
+    }
+
+    public void test_matchesLocalDate_fullRange() {
+        Random random = new Random(310);
+        long min = LocalDate.MIN_DATE.toEpochDay();
+        long max = LocalDate.MAX_DATE.toEpochDay();
+        for (int i = 0; i < 100000; i++) {
+            long epochDay = min + (long) (random.nextDouble() * (max - min + 1));
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            assertEquals(EpochDays.toYear(epochDay), date.getYear());
+            assertEquals(EpochDays.toDayOfWeek0(epochDay), date.getDayOfWeek().getValue() - 1);
+            assertEquals(EpochDays.toEpochDay(date.getYear(), date.getDayOfYear()), epochDay);
+        }
+    }
+
+    public void test_toYear_limits() {
+        assertEquals(EpochDays.toYear(LocalDate.MIN_DATE.toEpochDay()), Year.MIN_YEAR);
+        assertEquals(EpochDays.toYear(LocalDate.MAX_DATE.toEpochDay()), Year.MAX_YEAR);
+    }
+
+    @Test(expectedExceptions=IllegalCalendarFieldValueException.class)
+    public void test_toYear_tooLarge() {
+        EpochDays.toYear(LocalDate.MAX_DATE.toEpochDay() + 1);
+    }
+
+}
@@ -102,6 +102,21 @@ public class TestFixedZoneRules {
         assertEquals(test.previousTransition(INSTANT), null);
     }
 
+    @Test(groups={"implementation","tck"})
+    public void test_offsetSeconds() {
+        ZoneRules test = make(OFFSET_PONE);
+        int[] offsets = new int[2];
+        assertEquals(test.getOffsetSeconds(INSTANT.getEpochSecond()), 3600);
+        assertEquals(test.getOffsetInfoSeconds(LDT.atOffset(ZoneOffset.UTC).toEpochSecond(), offsets), 1);
+        assertEquals(offsets[0], 3600);
+        assertEquals(offsets[1], 3600);
+    }
+
+    @Test(groups="implementation", expectedExceptions=IllegalArgumentException.class)
+    public void test_offsetSeconds_shortArray() {
+        make(OFFSET_PONE).getOffsetInfoSeconds(0, new int[1]);
+    }
+
     @Test(groups="implementation")
     public void test_data_nullInput() {
         ZoneRules test = make(OFFSET_PONE);
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test MappedZoneRulesDataProvider.
+ *
+ * @author Stephen Colebourne
+ */
+@Test(groups={"implementation"})
+public class TestMappedZoneRulesDataProvider {
+
+    private static final ZoneRules LONDON = ZoneRulesGroup.getGroup("TZDB").getRules("Europe/London", "2010i");
+    private static final ZoneRules PARIS = ZoneRulesGroup.getGroup("TZDB").getRules("Europe/Paris", "2010i");
+    private static final ZoneRules PARIS_OLD = ZoneRulesGroup.getGroup("TZDB").getRules("Europe/Paris", "2005r");
+    private static final ZoneRules TOKYO = ZoneRulesGroup.getGroup("TZDB").getRules("Asia/Tokyo", "2010i");
+
+    private File file;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        file = File.createTempFile("rules", ".tzm");
+        file.deleteOnExit();
+    }
+
+    private void writeFile() throws IOException {
+        Map<String, Map<String, ZoneRules>> data = new HashMap<String, Map<String, ZoneRules>>();
+        Map<String, ZoneRules> version1 = new TreeMap<String, ZoneRules>();
+        version1.put("Europe/Paris", PARIS_OLD);
+        version1.put("Europe/London", LONDON);
+        data.put("2005r", version1);
+        Map<String, ZoneRules> version2 = new TreeMap<String, ZoneRules>();
+        version2.put("Europe/Paris", PARIS);
+        version2.put("Europe/London", LONDON);
+        version2.put("Asia/Tokyo", TOKYO);
+        data.put("2010i", version2);
+        MappedZoneRulesDataProvider.write(file, "TEMPMAPPED", data);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_open() throws Exception {
+        writeFile();
+        MappedZoneRulesDataProvider test = MappedZoneRulesDataProvider.open(file);
+        assertEquals(test.getGroupID(), "TEMPMAPPED");
+        assertEquals(new TreeSet<String>(test.getRegionIDs()), new TreeSet<String>(Arrays.asList("Europe/London", "Europe/Paris", "Asia/Tokyo")));
+        assertEquals(test.getVersions().size(), 2);
+        for (ZoneRulesVersion version : test.getVersions()) {
+            if (version.getVersionID().equals("2005r")) {
+                assertEquals(new TreeSet<String>(version.getRegionIDs()), new TreeSet<String>(Arrays.asList("Europe/London", "Europe/Paris")));
+                assertEquals(version.isRegionID("Europe/Paris"), true);
+                assertEquals(version.isRegionID("Asia/Tokyo"), false);
+                assertEquals(version.isRegionID("Europe/Rome"), false);
+                assertEquals(version.getZoneRules("Europe/Paris"), PARIS_OLD);
+                assertEquals(version.getZoneRules("Europe/London"), LONDON);
+                assertNull(version.getZoneRules("Asia/Tokyo"));
+                assertNull(version.getZoneRules("Europe/Rome"));
+            } else {
+                assertEquals(version.getVersionID(), "2010i");
+                assertEquals(new TreeSet<String>(version.getRegionIDs()), new TreeSet<String>(Arrays.asList("Europe/London", "Europe/Paris", "Asia/Tokyo")));
+                assertEquals(version.getZoneRules("Europe/Paris"), PARIS);
+                assertEquals(version.getZoneRules("Europe/London"), LONDON);
+                assertEquals(version.getZoneRules("Asia/Tokyo"), TOKYO);
+            }
+        }
+    }
+
+    public void test_rulesDecodedOnceAndShared() throws Exception {
+        writeFile();
+        MappedZoneRulesDataProvider test = MappedZoneRulesDataProvider.open(file);
+        ZoneRules london = null;
+        for (ZoneRulesVersion version : test.getVersions()) {
+            ZoneRules rules = version.getZoneRules("Europe/London");
+            if (london != null) {
+                assertSame(rules, london);
+            }
+            london = rules;
+        }
+    }
+
+    public void test_registerProvider() throws Exception {
+        writeFile();
+        ZoneRulesGroup group = ZoneRulesGroup.registerProvider(MappedZoneRulesDataProvider.open(file));
+        assertEquals(group.getID(), "TEMPMAPPED");
+        Set<String> versions = group.getAvailableVersionIDs();
+        assertEquals(new TreeSet<String>(versions), new TreeSet<String>(Arrays.asList("2005r", "2010i")));
+        assertEquals(group.getRules("Europe/Paris", "2010i"), PARIS);
+        assertEquals(group.isValidRules("Asia/Tokyo", "2005r"), false);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_open_notRulesFile() throws Exception {
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[64]);
+        out.close();
+        MappedZoneRulesDataProvider.open(file);
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_open_truncated() throws Exception {
+        writeFile();
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(60);
+        raf.close();
+        MappedZoneRulesDataProvider.open(file);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_open_null() throws Exception {
+        MappedZoneRulesDataProvider.open(null);
+    }
+
+}
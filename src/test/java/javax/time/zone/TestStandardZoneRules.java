@@ -42,6 +42,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -206,6 +207,40 @@ public class TestStandardZoneRules {
         assertEquals(test.getOffset(OffsetDateTime.of(2008, 10, 26, 1, 0, 0, 0, ZoneOffset.UTC).toInstant()), OFFSET_ZERO);
     }
 
+    public void test_London_getOffset_rulesBased() {
+        StandardZoneRules test = europeLondon();
+        List<ZoneOffsetTransitionRule> rules = test.getTransitionRules();
+        for (int year = 1998; year < 2200; year++) {
+            for (ZoneOffsetTransitionRule rule : rules) {
+                ZoneOffsetTransition trans = rule.createTransition(year);
+                assertEquals(test.getOffset(trans.getInstant().minusNanos(1)), trans.getOffsetBefore());
+                assertEquals(test.getOffset(trans.getInstant()), trans.getOffsetAfter());
+            }
+            // repeated lookup uses the cache
+            assertEquals(test.getOffset(OffsetDateTime.ofMidnight(year, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+            assertEquals(test.getOffset(OffsetDateTime.ofMidnight(year, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+            assertEquals(test.getOffset(OffsetDateTime.ofMidnight(year, 1, 1, ZoneOffset.UTC).toInstant()), OFFSET_ZERO);
+            assertEquals(test.getOffset(OffsetDateTime.of(year, 12, 31, 23, 59, 59, 999999999, ZoneOffset.UTC).toInstant()), OFFSET_ZERO);
+        }
+    }
+
+    public void test_Sydney_getOffset_rulesBased_yearEnd() {
+        // Sydney has daylight savings over the year end
+        StandardZoneRules test = (StandardZoneRules) ZoneId.of("Australia/Sydney#2009b").getRules();
+        ZoneOffset summer = ZoneOffset.ofHours(11);
+        for (int year = 2010; year < 2110; year++) {
+            assertEquals(test.getOffset(OffsetDateTime.ofMidnight(year, 1, 1, ZoneOffset.UTC).toInstant()), summer);
+            assertEquals(test.getOffset(OffsetDateTime.of(year, 12, 31, 12, 59, 59, 999999999, ZoneOffset.UTC).toInstant()), summer);
+            assertEquals(test.getOffset(OffsetDateTime.of(year, 12, 31, 13, 0, ZoneOffset.UTC).toInstant()), summer);
+        }
+    }
+
+    public void test_London_getOffset_maxYear() {
+        StandardZoneRules test = europeLondon();
+        assertEquals(test.getOffset(OffsetDateTime.ofMidnight(Year.MAX_YEAR, 7, 1, ZoneOffset.UTC).toInstant()), OFFSET_PONE);
+        assertEquals(test.getOffset(OffsetDateTime.ofMidnight(Year.MAX_YEAR, 12, 1, ZoneOffset.UTC).toInstant()), OFFSET_ZERO);
+    }
+
     public void test_London_getOffsetInfo() {
         StandardZoneRules test = europeLondon();
         checkOffset(test.getOffsetInfo(LocalDateTime.ofMidnight(2008, 1, 1)), OFFSET_ZERO);
@@ -1004,6 +1039,102 @@ public class TestStandardZoneRules {
         assertEquals(europeLondon().toString().endsWith("]"), true);
     }
 
+    //-----------------------------------------------------------------------
+    // getOffsetSeconds() / getOffsetInfoSeconds()
+    //-----------------------------------------------------------------------
+    public void test_getOffsetSeconds_matchesGetOffset() {
+        StandardZoneRules[] rules = {europeLondon(), europeParis(), americaNewYork(), asiaKathmandu()};
+        for (StandardZoneRules test : rules) {
+            for (Instant instant : findTransitionInstants(test)) {
+                for (int i = -4; i <= 4; i++) {
+                    Instant check = instant.plusSeconds(i * 30 * 60 - (i & 1));
+                    assertEquals(test.getOffsetSeconds(check.getEpochSecond()), test.getOffset(check).getTotalSeconds());
+                }
+            }
+        }
+    }
+
+    public void test_getOffsetInfoSeconds_matchesGetOffsetInfo() {
+        StandardZoneRules[] rules = {europeLondon(), europeParis(), americaNewYork(), asiaKathmandu()};
+        int[] offsets = new int[2];
+        for (StandardZoneRules test : rules) {
+            for (Instant instant : findTransitionInstants(test)) {
+                LocalDateTime base = OffsetDateTime.ofInstant(instant, ZoneOffset.UTC).toLocalDateTime();
+                for (int i = -12; i <= 12; i++) {
+                    LocalDateTime dt = base.plusMinutes(i * 15);
+                    ZoneOffsetInfo info = test.getOffsetInfo(dt);
+                    int count = test.getOffsetInfoSeconds(dt.atOffset(ZoneOffset.UTC).toEpochSecond(), offsets);
+                    if (info.isTransition()) {
+                        ZoneOffsetTransition trans = info.getTransition();
+                        assertEquals(count, trans.isGap() ? 0 : 2);
+                        assertEquals(offsets[0], trans.getOffsetBefore().getTotalSeconds());
+                        assertEquals(offsets[1], trans.getOffsetAfter().getTotalSeconds());
+                    } else {
+                        assertEquals(count, 1);
+                        assertEquals(offsets[0], info.getOffset().getTotalSeconds());
+                        assertEquals(offsets[1], info.getOffset().getTotalSeconds());
+                    }
+                }
+            }
+        }
+    }
+
+    public void test_London_getOffsetInfoSeconds_gapAndOverlap() {
+        StandardZoneRules test = europeLondon();
+        int[] offsets = new int[3];
+        long gap = LocalDateTime.of(2008, 3, 30, 1, 30).atOffset(ZoneOffset.UTC).toEpochSecond();
+        assertEquals(test.getOffsetInfoSeconds(gap, offsets), 0);
+        assertEquals(offsets[0], 0);
+        assertEquals(offsets[1], 3600);
+        long overlap = LocalDateTime.of(2008, 10, 26, 1, 30).atOffset(ZoneOffset.UTC).toEpochSecond();
+        assertEquals(test.getOffsetInfoSeconds(overlap, offsets), 2);
+        assertEquals(offsets[0], 3600);
+        assertEquals(offsets[1], 0);
+        assertEquals(offsets[2], 0);
+    }
+
+    public void test_getOffsetSeconds_beyondCachedYears() {
+        StandardZoneRules[] rules = {europeLondon(), americaNewYork(), (StandardZoneRules) ZoneId.of("Australia/Sydney#2009b").getRules()};
+        int[] offsets = new int[2];
+        for (StandardZoneRules test : rules) {
+            for (int year : new int[] {2099, 2100, 2101, 3000, 999999}) {
+                for (ZoneOffsetTransitionRule rule : test.getTransitionRules()) {
+                    ZoneOffsetTransition trans = rule.createTransition(year);
+                    long epochSec = trans.getInstant().getEpochSecond();
+                    assertEquals(test.getOffsetSeconds(epochSec - 1), trans.getOffsetBefore().getTotalSeconds());
+                    assertEquals(test.getOffsetSeconds(epochSec), trans.getOffsetAfter().getTotalSeconds());
+                    long localSec = epochSec + Math.min(trans.getOffsetBefore().getTotalSeconds(), trans.getOffsetAfter().getTotalSeconds());
+                    assertEquals(test.getOffsetInfoSeconds(localSec, offsets), trans.isGap() ? 0 : 2);
+                    assertEquals(offsets[0], trans.getOffsetBefore().getTotalSeconds());
+                    assertEquals(offsets[1], trans.getOffsetAfter().getTotalSeconds());
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffsetInfoSeconds_nullArray() {
+        europeLondon().getOffsetInfoSeconds(0, null);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsetInfoSeconds_shortArray() {
+        europeLondon().getOffsetInfoSeconds(0, new int[1]);
+    }
+
+    private List<Instant> findTransitionInstants(ZoneRules test) {
+        List<Instant> instants = new ArrayList<Instant>();
+        for (ZoneOffsetTransition trans : test.getTransitions()) {
+            instants.add(trans.getInstant());
+        }
+        ZoneOffsetTransition trans = test.nextTransition(OffsetDateTime.ofMidnight(2020, 1, 1, ZoneOffset.UTC).toInstant());
+        while (trans != null && trans.getDateTimeBefore().getYear() < 2150) {
+            instants.add(trans.getInstant());
+            trans = test.nextTransition(trans.getInstant());
+        }
+        return instants;
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
@@ -32,18 +32,29 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.time.DayOfWeek;
+import javax.time.Instant;
 import javax.time.LocalDate;
 import javax.time.LocalTime;
 import javax.time.MonthOfYear;
 import javax.time.Year;
+import javax.time.ZoneOffset;
 import javax.time.zone.TZDBZoneRulesCompiler.LeapSecondRule;
 import javax.time.zone.TZDBZoneRulesCompiler.TZDBMonthDayTime;
 import javax.time.zone.TZDBZoneRulesCompiler.TZDBRule;
@@ -460,4 +471,101 @@ public class TestTZDBZoneRulesCompiler {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // compile()
+    //-----------------------------------------------------------------------
+    private static final String RULES_FILE =
+        "Rule\tTest\t2000\tmax\t-\tMar\tlastSun\t1:00u\t1:00\tS\n" +
+        "Rule\tTest\t2000\tmax\t-\tOct\tlastSun\t1:00u\t0\t-\n";
+    private static final String ZONES_FILE =
+        "Zone\tTest/One\t0:10\t-\tLMT\t1900\n" +
+        "\t\t\t1:00\tTest\tCE%sT\n" +
+        "Zone\tTest/Two\t2:00\t-\tEET\n" +
+        "Link\tTest/One\tTest/Alias\n";
+
+    @Test(groups={"implementation"})
+    public void test_compile_parallel() throws Exception {
+        File dir = createSourceDir(RULES_FILE, ZONES_FILE);
+        TZDBZoneRulesCompiler sequential = createCompiler(dir);
+        sequential.compile();
+        TZDBZoneRulesCompiler parallel = createCompiler(dir);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            parallel.setExecutor(executor);
+            parallel.compile();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(parallel.getZones(), sequential.getZones());
+        assertEquals(new ArrayList<String>(parallel.getZones().keySet()), Arrays.asList("Test/Alias", "Test/One", "Test/Two"));
+        assertSame(parallel.getZones().get("Test/Alias"), parallel.getZones().get("Test/One"));
+        assertEquals(parallel.getLeapSeconds(), sequential.getLeapSeconds());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_compile_incremental() throws Exception {
+        Map<String, ZoneRules> cache = new ConcurrentHashMap<String, ZoneRules>();
+        TZDBZoneRulesCompiler first = createCompiler(createSourceDir(RULES_FILE, ZONES_FILE));
+        first.setBuildCache(cache);
+        first.compile();
+        assertEquals(cache.size(), 2);
+        
+        // only Test/Two changes, formatting changes are ignored
+        TZDBZoneRulesCompiler second = createCompiler(createSourceDir(
+                RULES_FILE.replace('\t', ' '), ZONES_FILE.replace("2:00\t-\tEET", "3:00\t-\tMSK")));
+        second.setBuildCache(cache);
+        second.compile();
+        assertEquals(cache.size(), 3);
+        assertSame(second.getZones().get("Test/One"), first.getZones().get("Test/One"));
+        assertEquals(second.getZones().get("Test/Two").getOffset(Instant.EPOCH), ZoneOffset.ofHours(3));
+        
+        // changing the rules rebuilds the zones that use them
+        TZDBZoneRulesCompiler third = createCompiler(createSourceDir(RULES_FILE.replace("lastSun", "Sun>=8"), ZONES_FILE));
+        third.setBuildCache(cache);
+        third.compile();
+        assertEquals(cache.size(), 4);
+        assertEquals(third.getZones().get("Test/One").equals(first.getZones().get("Test/One")), false);
+        assertSame(third.getZones().get("Test/Two"), first.getZones().get("Test/Two"));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_compile_incremental_matchesFull() throws Exception {
+        File dir = createSourceDir(RULES_FILE, ZONES_FILE);
+        TZDBZoneRulesCompiler full = createCompiler(dir);
+        full.compile();
+        Map<String, ZoneRules> cache = new ConcurrentHashMap<String, ZoneRules>();
+        for (int i = 0; i < 2; i++) {
+            TZDBZoneRulesCompiler incremental = createCompiler(dir);
+            incremental.setBuildCache(cache);
+            incremental.compile();
+            assertEquals(incremental.getZones(), full.getZones());
+        }
+    }
+
+    private File createSourceDir(String rules, String zones) throws Exception {
+        File dir = File.createTempFile("tzdb", "");
+        dir.delete();
+        dir.mkdir();
+        dir.deleteOnExit();
+        writeFile(new File(dir, "rules"), rules);
+        writeFile(new File(dir, "zones"), zones);
+        writeFile(new File(dir, "leapseconds"), "Leap\t1972\tJun\t30\t23:59:60\t+\tS\n");
+        return dir;
+    }
+
+    private void writeFile(File file, String text) throws Exception {
+        file.deleteOnExit();
+        Writer out = new FileWriter(file);
+        try {
+            out.write(text);
+        } finally {
+            out.close();
+        }
+    }
+
+    private TZDBZoneRulesCompiler createCompiler(File dir) {
+        List<File> files = Arrays.asList(new File(dir, "rules"), new File(dir, "zones"));
+        return new TZDBZoneRulesCompiler("2010c", files, new File(dir, "leapseconds"), false);
+    }
+
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.time.Instant;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ZoneOffsetTransitionCursor.
+ *
+ * @author Stephen Colebourne
+ */
+@Test
+public class TestZoneOffsetTransitionCursor {
+
+    private static final Instant START = OffsetDateTime.ofMidnight(1800, 1, 1, ZoneOffset.UTC).toInstant();
+    private static final Instant END = OffsetDateTime.ofMidnight(2300, 1, 1, ZoneOffset.UTC).toInstant();
+
+    @DataProvider(name="zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {"Europe/London#2009b"},
+            {"America/New_York#2009b"},
+            {"Australia/Sydney#2009b"},
+            {"Asia/Kathmandu#2009b"},
+            {"Europe/Moscow#2009b"},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zones")
+    public void test_next_matchesNextTransition(String zoneID) {
+        ZoneRules rules = ZoneId.of(zoneID).getRules();
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(START);
+        ZoneOffsetTransition expected = rules.nextTransition(START);
+        while (expected != null && expected.getInstant().isBefore(END)) {
+            assertTrue(cursor.next());
+            assertEquals(cursor.getEpochSecond(), expected.getInstant().getEpochSecond());
+            assertEquals(cursor.getOffsetBefore(), expected.getOffsetBefore());
+            assertEquals(cursor.getOffsetAfter(), expected.getOffsetAfter());
+            assertEquals(cursor.getTransition(), expected);
+            expected = rules.nextTransition(expected.getInstant());
+        }
+    }
+
+    @Test(dataProvider="zones")
+    public void test_next_startingAtEachTransition(String zoneID) {
+        ZoneRules rules = ZoneId.of(zoneID).getRules();
+        for (ZoneOffsetTransition trans : rules.getTransitions(START, END)) {
+            for (Instant instant : new Instant[] {trans.getInstant().minusNanos(1), trans.getInstant(), trans.getInstant().plusNanos(1)}) {
+                ZoneOffsetTransitionCursor cursor = rules.transitionCursor(instant);
+                ZoneOffsetTransition expected = rules.nextTransition(instant);
+                assertEquals(cursor.next(), expected != null);
+                if (expected != null) {
+                    assertEquals(cursor.getTransition(), expected);
+                }
+            }
+        }
+    }
+
+    @Test(dataProvider="zones")
+    public void test_of_matchesRules(String zoneID) {
+        ZoneRules rules = ZoneId.of(zoneID).getRules();
+        ZoneOffsetTransitionCursor expected = rules.transitionCursor(START);
+        ZoneOffsetTransitionCursor test = ZoneOffsetTransitionCursor.of(rules.getTransitions(), rules.getTransitionRules(), START);
+        for (int i = 0; i < 500; i++) {
+            boolean hasNext = expected.next();
+            assertEquals(test.next(), hasNext);
+            if (hasNext == false) {
+                break;
+            }
+            assertEquals(test.getEpochSecond(), expected.getEpochSecond());
+            assertEquals(test.getOffsetAfter(), expected.getOffsetAfter());
+        }
+    }
+
+    public void test_next_farFuture() {
+        ZoneRules rules = ZoneId.of("Europe/London#2009b").getRules();
+        Instant instant = OffsetDateTime.ofMidnight(999999998, 6, 1, ZoneOffset.UTC).toInstant();
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(instant);
+        assertTrue(cursor.next());
+        assertEquals(cursor.getTransition(), rules.nextTransition(instant));
+        int count = 1;
+        while (cursor.next()) {
+            count++;
+        }
+        assertEquals(count, 3);
+        assertFalse(cursor.next());
+    }
+
+    public void test_next_noTransitionRules() {
+        ZoneRules rules = ZoneId.of("Asia/Kathmandu#2009b").getRules();
+        assertEquals(rules.getTransitionRules().size(), 0);
+        List<ZoneOffsetTransition> all = rules.getTransitions();
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(START);
+        for (ZoneOffsetTransition trans : all) {
+            assertTrue(cursor.next());
+            assertEquals(cursor.getTransition(), trans);
+        }
+        assertFalse(cursor.next());
+        assertEquals(cursor.toString(), "ZoneOffsetTransitionCursor[]");
+    }
+
+    public void test_fixed() {
+        ZoneRules rules = ZoneId.of("UTC+02:00").getRules();
+        ZoneOffsetTransitionCursor cursor = rules.transitionCursor(START);
+        assertFalse(cursor.next());
+        assertEquals(rules.getTransitions(START, END).size(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void test_getEpochSecond_beforeNext() {
+        ZoneId.of("Europe/London#2009b").getRules().transitionCursor(START).getEpochSecond();
+    }
+
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void test_getTransition_afterEnd() {
+        ZoneOffsetTransitionCursor cursor = ZoneId.of("UTC").getRules().transitionCursor(START);
+        cursor.next();
+        cursor.getTransition();
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_transitionCursor_null() {
+        ZoneId.of("Europe/London#2009b").getRules().transitionCursor(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // getTransitions(Instant, Instant)
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zones")
+    public void test_getTransitions_range(String zoneID) {
+        ZoneRules rules = ZoneId.of(zoneID).getRules();
+        List<ZoneOffsetTransition> expected = new ArrayList<ZoneOffsetTransition>();
+        ZoneOffsetTransition trans = rules.nextTransition(START);
+        while (trans != null && trans.getInstant().isBefore(END)) {
+            expected.add(trans);
+            trans = rules.nextTransition(trans.getInstant());
+        }
+        assertEquals(rules.getTransitions(START, END), expected);
+    }
+
+    public void test_getTransitions_range_boundaries() {
+        ZoneRules rules = ZoneId.of("Europe/London#2009b").getRules();
+        ZoneOffsetTransition spring = rules.nextTransition(OffsetDateTime.ofMidnight(2008, 1, 1, ZoneOffset.UTC).toInstant());
+        ZoneOffsetTransition autumn = rules.nextTransition(spring.getInstant());
+        Instant springInstant = spring.getInstant();
+        Instant autumnInstant = autumn.getInstant();
+        assertEquals(rules.getTransitions(springInstant, autumnInstant).size(), 1);
+        assertEquals(rules.getTransitions(springInstant, autumnInstant).get(0), spring);
+        assertEquals(rules.getTransitions(springInstant.plusNanos(1), autumnInstant.plusNanos(1)).get(0), autumn);
+        assertEquals(rules.getTransitions(springInstant, springInstant).size(), 0);
+        assertEquals(rules.getTransitions(springInstant.minusNanos(1), springInstant.plusNanos(1)).size(), 1);
+        // rule-based years
+        Instant start = OffsetDateTime.ofMidnight(2250, 1, 1, ZoneOffset.UTC).toInstant();
+        Instant end = OffsetDateTime.ofMidnight(2260, 1, 1, ZoneOffset.UTC).toInstant();
+        assertEquals(rules.getTransitions(start, end).size(), 20);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getTransitions_range_endBeforeStart() {
+        ZoneId.of("Europe/London#2009b").getRules().getTransitions(END, START);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getTransitions_range_fixed_endBeforeStart() {
+        ZoneId.of("UTC").getRules().getTransitions(END, START);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getTransitions_range_null() {
+        ZoneId.of("Europe/London#2009b").getRules().getTransitions(START, null);
+    }
+
+}
@@ -289,6 +289,34 @@ public class TestZoneOffsetTransitionRule {
         assertEquals(test.createTransition(2000), trans);
     }
 
+    //-----------------------------------------------------------------------
+    // createTransitionEpochSecond()
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_createTransitionEpochSecond_matchesCreateTransition() {
+        int[] years = {-1000000, -401, -400, -1, 0, 1, 1900, 1970, 1999, 2000, 2011, 2012, 2100, 2400, 999999998};
+        DayOfWeek[] dows = {null, DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.SUNDAY};
+        LocalTime[] times = {LocalTime.MIDNIGHT, TIME_0100, LocalTime.of(23, 59, 59)};
+        for (MonthOfYear month : new MonthOfYear[] {MonthOfYear.JANUARY, MonthOfYear.FEBRUARY, MonthOfYear.DECEMBER}) {
+            for (int dom = -28; dom <= 28; dom += 3) {
+                for (DayOfWeek dow : dows) {
+                    for (LocalTime time : times) {
+                        for (TimeDefinition timeDefinition : TimeDefinition.values()) {
+                            boolean endOfDay = time.equals(LocalTime.MIDNIGHT) && dom % 2 == 0;
+                            ZoneOffsetTransitionRule test = new ZoneOffsetTransitionRule(
+                                    month, dom, dow, time, endOfDay, timeDefinition,
+                                    ZoneOffset.ofHoursMinutes(-5, -30), OFFSET_0200, OFFSET_0300);
+                            for (int year : years) {
+                                assertEquals(test.createTransitionEpochSecond(year),
+                                        test.createTransition(year).getInstant().getEpochSecond(), test + " " + year);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // equals()
     //-----------------------------------------------------------------------
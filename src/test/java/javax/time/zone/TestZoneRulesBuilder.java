@@ -46,6 +46,16 @@ import static javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition.STANDARD;
 import static javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition.UTC;
 import static javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition.WALL;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.time.LocalDateTime;
 import javax.time.LocalTime;
@@ -94,6 +104,35 @@ public class TestZoneRulesBuilder {
         b.toRules(null);
     }
 
+    @Test(groups={"implementation"})
+    public void test_toRules_sharedDeduplicateMap() throws Exception {
+        ConcurrentMap<Object, Object> map = new ConcurrentHashMap<Object, Object>();
+        final ZoneRulesBuilder b = new ZoneRulesBuilder();
+        b.addWindowForever(OFFSET_1);
+        b.toRules("Europe/London", map);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int year = 2000; year < 2100; year++) {
+                final int y = year;
+                List<Future<LocalDateTime>> futures = new ArrayList<Future<LocalDateTime>>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(new Callable<LocalDateTime>() {
+                        public LocalDateTime call() {
+                            return b.deduplicate(dateTime(y, 6, 1, 12, 0));
+                        }
+                    }));
+                }
+                LocalDateTime first = futures.get(0).get();
+                for (Future<LocalDateTime> future : futures) {
+                    assertSame(future.get(), first);
+                }
+                assertSame(map.get(first), first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     //-----------------------------------------------------------------------
     // Combined
     //-----------------------------------------------------------------------
@@ -177,6 +177,20 @@ public class TestZoneRulesGroup {
         }
     }
 
+    @Test(groups={"implementation"})
+    public void test_registerProvider_registrationCount() {
+        int pre = ZoneRulesGroup.getRegistrationCount();
+        ZoneRulesGroup.registerProvider(new MockCountProvider());
+        assertEquals(ZoneRulesGroup.getRegistrationCount(), pre + 1);
+    }
+
+    static class MockCountProvider extends MockTempProvider {
+        @Override
+        public String getGroupID() {
+            return "COUNTMOCK";
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=CalendricalException.class, groups={"tck"})
     public void test_registerProvider_invalidGroupID() {